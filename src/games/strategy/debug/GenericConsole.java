@@ -21,6 +21,7 @@ public abstract class GenericConsole extends JFrame {
   private static final long serialVersionUID = 5754914217052820386L;
 
   private final JTextArea m_text = new JTextArea(20, 50);
+  private final JToolBar m_actions = new JToolBar(SwingConstants.HORIZONTAL);
 
   public GenericConsole(final String title) {
     super(title);
@@ -30,7 +31,6 @@ public abstract class GenericConsole extends JFrame {
     m_text.setWrapStyleWord(true);
     final JScrollPane scroll = new JScrollPane(m_text);
     getContentPane().add(scroll, BorderLayout.CENTER);
-    final JToolBar m_actions = new JToolBar(SwingConstants.HORIZONTAL);
     getContentPane().add(m_actions, BorderLayout.SOUTH);
     m_actions.setFloatable(false);
     m_actions.add(m_threadDiagnoseAction);
@@ -51,6 +51,13 @@ public abstract class GenericConsole extends JFrame {
 
   public abstract GenericConsole getConsoleInstance();
 
+  /**
+   * Adds a button to the tool bar of the console.
+   */
+  protected void addAction(final Action action) {
+    m_actions.add(action);
+  }
+
   public void append(final String s) {
     m_text.append(s);
   }
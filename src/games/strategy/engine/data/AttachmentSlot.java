@@ -0,0 +1,50 @@
+package games.strategy.engine.data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import games.strategy.triplea.Constants;
+
+/**
+ * The attachments that are looked up by nearly every match, which a {@link NamedAttachable} keeps in a slot of their
+ * own besides its map of attachments by name.
+ */
+public enum AttachmentSlot {
+  UNIT(Constants.UNIT_ATTACHMENT_NAME),
+
+  TERRITORY(Constants.TERRITORY_ATTACHMENT_NAME),
+
+  TECH_ABILITY(Constants.TECH_ABILITY_ATTACHMENT_NAME),
+
+  PLAYER(Constants.PLAYER_ATTACHMENT_NAME),
+
+  RELATIONSHIP_TYPE(Constants.RELATIONSHIPTYPE_ATTACHMENT_NAME);
+
+  private static final Map<String, AttachmentSlot> slotsByName = new HashMap<>();
+
+  static {
+    for (final AttachmentSlot slot : values()) {
+      slotsByName.put(slot.getAttachmentName(), slot);
+    }
+  }
+
+  private final String attachmentName;
+
+  AttachmentSlot(final String attachmentName) {
+    this.attachmentName = attachmentName;
+  }
+
+  /**
+   * The name the attachment is added under.
+   */
+  public String getAttachmentName() {
+    return attachmentName;
+  }
+
+  /**
+   * Returns the slot for attachments added under the name, or null if they have none.
+   */
+  static AttachmentSlot forName(final String attachmentName) {
+    return slotsByName.get(attachmentName);
+  }
+}
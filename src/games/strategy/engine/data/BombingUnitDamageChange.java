@@ -1,6 +1,7 @@
 package games.strategy.engine.data;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Set;
 
 import games.strategy.triplea.TripleAUnit;
@@ -47,6 +48,11 @@ public class BombingUnitDamageChange extends Change {
     }
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.of(ChangeArea.UNITS);
+  }
+
   @Override
   public Change invert() {
     return new BombingUnitDamageChange(undoHits, hits);
@@ -1,6 +1,7 @@
 package games.strategy.engine.data;
 
 import java.io.Serializable;
+import java.util.EnumSet;
 
 /**
  * Not an interface because we want the perform() method to be protected.
@@ -19,6 +20,14 @@ public abstract class Change implements Serializable {
 
   public abstract Change invert();
 
+  /**
+   * Returns the parts of the game data performing this change touches. Changes that do not override this touch every
+   * area.
+   */
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.allOf(ChangeArea.class);
+  }
+
   public boolean isEmpty() {
     return false;
   }
@@ -0,0 +1,38 @@
+package games.strategy.engine.data;
+
+/**
+ * The parts of the game data a change can touch, each with a change generation in {@link GameData}, so values derived
+ * from one part need not be recomputed when another part changed.
+ *
+ * <p>
+ * A change that cannot tell what it touches counts as touching every area.
+ * </p>
+ */
+public enum ChangeArea {
+  /** Units added, removed, damaged or given to another player, and unit properties. */
+  UNITS,
+
+  /** The owners of territories. */
+  OWNERSHIP,
+
+  /** The relationships between players. */
+  RELATIONSHIPS,
+
+  /** The technologies players have or can research. */
+  TECHS,
+
+  /** The resources players hold. */
+  RESOURCES,
+
+  /** Production frontiers and rules, and so what units cost. */
+  PRODUCTION,
+
+  /** The records of the battles fought. */
+  BATTLE_RECORDS,
+
+  /**
+   * The properties of attachments, like the switch of a condition. The uses left of triggers and objectives are not
+   * counted, nothing derived from the game data reads them.
+   */
+  ATTACHMENTS
+}
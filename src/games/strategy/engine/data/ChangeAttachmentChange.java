@@ -1,9 +1,13 @@
 package games.strategy.engine.data;
 
+import java.util.EnumSet;
+
+import games.strategy.triplea.Constants;
 import games.strategy.util.PropertyUtil;
 
 public class ChangeAttachmentChange extends Change {
   private static final long serialVersionUID = -6447264150952218283L;
+  private static final String USES_PROPERTY = "uses";
   private final Attachable attachedTo;
   private final String attachmentName;
   private final Object newValue;
@@ -75,6 +79,21 @@ public class ChangeAttachmentChange extends Change {
     PropertyUtil.set(property, newValue, attachment, clearFirst);
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    if (Constants.TECH_ATTACHMENT_NAME.equals(attachmentName)) {
+      return EnumSet.of(ChangeArea.TECHS);
+    }
+    if (Constants.RELATIONSHIPTYPE_ATTACHMENT_NAME.equals(attachmentName)) {
+      return EnumSet.of(ChangeArea.RELATIONSHIPS);
+    }
+    if (USES_PROPERTY.equals(property)) {
+      // how often a trigger or objective may still fire, no condition reads it, so cached conditions stay valid
+      return EnumSet.noneOf(ChangeArea.class);
+    }
+    return super.getChangedAreas();
+  }
+
   @Override
   public Change invert() {
     return new ChangeAttachmentChange(attachedTo, attachmentName, oldValue, newValue, property, clearFirst);
@@ -1,6 +1,7 @@
 package games.strategy.engine.data;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 /**
@@ -50,6 +51,15 @@ public class CompositeChange extends Change {
     }
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    final EnumSet<ChangeArea> areas = EnumSet.noneOf(ChangeArea.class);
+    for (final Change current : m_changes) {
+      areas.addAll(current.getChangedAreas());
+    }
+    return areas;
+  }
+
   /**
    * @return true if this change is empty, or composed of empty changes
    */
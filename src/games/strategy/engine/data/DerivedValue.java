@@ -0,0 +1,134 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * A value computed from the game data, kept until a change touches the parts of the game data it depends on.
+ *
+ * <p>
+ * The values are kept with each game data, by key, together with the change generations of the areas they depend on
+ * at the time they were computed. Once any of those generations moved, the next request computes the value again. A
+ * derived value that names no areas depends on every change. The computation must only read what the areas cover, and
+ * the caller must not modify the value returned, hand out a copy if callers may.
+ * </p>
+ *
+ * <p>
+ * Each derived value counts its hits and misses, all derived values that are still referenced can be listed with
+ * {@link #getAllStatistics()}. Derived values are thread safe, the same value may be computed twice at once.
+ * </p>
+ */
+public final class DerivedValue<K, V> {
+  private static final Set<DerivedValue<?, ?>> allDerivedValues = Collections.newSetFromMap(new WeakHashMap<>());
+
+  private final String name;
+  private final BiFunction<GameData, K, V> computation;
+  private final EnumSet<ChangeArea> dependsOn;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * The values for one game data, all computed at the same generation.
+   */
+  private static final class Values<K, V> {
+    private long generation = -1;
+    private final Map<K, V> values = new HashMap<>();
+  }
+
+  /**
+   * @param name shown in the statistics.
+   * @param computation computes the value for the game data and key.
+   * @param dependsOn the areas of the game data the value is computed from.
+   */
+  public DerivedValue(final String name, final BiFunction<GameData, K, V> computation,
+      final ChangeArea... dependsOn) {
+    this.name = name;
+    this.computation = computation;
+    this.dependsOn = dependsOn.length == 0 ? EnumSet.noneOf(ChangeArea.class) : EnumSet.of(dependsOn[0], dependsOn);
+    synchronized (allDerivedValues) {
+      allDerivedValues.add(this);
+    }
+  }
+
+  private long getGeneration(final GameData data) {
+    if (dependsOn.isEmpty()) {
+      return data.getChangeGeneration();
+    }
+    // every generation only grows, so the sum moves whenever one of them does
+    long generation = 0;
+    for (final ChangeArea area : dependsOn) {
+      generation += data.getChangeGeneration(area);
+    }
+    return generation;
+  }
+
+  /**
+   * Returns the value for the game data and key, computing it if the game data changed since it was last computed.
+   */
+  public V get(final GameData data, final K key) {
+    final long generation = getGeneration(data);
+    @SuppressWarnings("unchecked")
+    final Values<K, V> values = (Values<K, V>) data.getDerivedValues().computeIfAbsent(this, k -> new Values<>());
+    synchronized (values) {
+      if (values.generation == generation && values.values.containsKey(key)) {
+        hits.incrementAndGet();
+        return values.values.get(key);
+      }
+    }
+    misses.incrementAndGet();
+    final V value = computation.apply(data, key);
+    synchronized (values) {
+      if (values.generation != generation) {
+        // stored under the generation read before computing, so a change meanwhile makes the next request recompute
+        values.values.clear();
+        values.generation = generation;
+      }
+      values.values.put(key, value);
+    }
+    return value;
+  }
+
+  /**
+   * Returns the value for the game data, for derived values that do not need a key.
+   */
+  public V get(final GameData data) {
+    return get(data, null);
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public String getStatistics() {
+    final long total = hits.get() + misses.get();
+    return name + ": hits: " + hits.get() + ", misses: " + misses.get() + ", hit rate: "
+        + (total == 0 ? 0 : 100 * hits.get() / total) + "%";
+  }
+
+  /**
+   * Returns the statistics of every derived value in use, one per line.
+   */
+  public static String getAllStatistics() {
+    final List<DerivedValue<?, ?>> derivedValues;
+    synchronized (allDerivedValues) {
+      derivedValues = new ArrayList<>(allDerivedValues);
+    }
+    final StringBuilder statistics = new StringBuilder();
+    for (final DerivedValue<?, ?> derivedValue : derivedValues) {
+      statistics.append(derivedValue.getStatistics()).append("\n");
+    }
+    return statistics.toString();
+  }
+}
@@ -10,6 +10,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -97,6 +101,13 @@ public class GameData implements java.io.Serializable {
       new ArrayList<>();
   private final Hashtable<String, TerritoryEffect> territoryEffectList = new Hashtable<>();
   private final BattleRecordsList battleRecordsList = new BattleRecordsList(this);
+  // the number of changes performed, in total and by the areas they touched
+  private transient AtomicLong changeGeneration = new AtomicLong();
+  private transient AtomicLongArray areaChangeGenerations = new AtomicLongArray(ChangeArea.values().length);
+  // how often a unit of this game data changed its owner
+  private transient AtomicInteger unitOwnerChangeCount = new AtomicInteger();
+  // the values derived from this game data, by the derived value that computes them
+  private transient Map<DerivedValue<?, ?>, Object> derivedValues = new ConcurrentHashMap<>();
 
   /** Creates new GameData */
   public GameData() {
@@ -108,6 +119,10 @@ public class GameData implements java.io.Serializable {
   private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
     in.defaultReadObject();
     lockUtil = LockUtil.INSTANCE;
+    changeGeneration = new AtomicLong();
+    areaChangeGenerations = new AtomicLongArray(ChangeArea.values().length);
+    unitOwnerChangeCount = new AtomicInteger();
+    derivedValues = new ConcurrentHashMap<>();
   }
 
   /**
@@ -284,6 +299,18 @@ public class GameData implements java.io.Serializable {
     territoryListeners.forEach(territoryListener -> territoryListener.attachmentChanged(t));
   }
 
+  void notifyUnitOwnerChanged() {
+    unitOwnerChangeCount.incrementAndGet();
+  }
+
+  /**
+   * Returns how often a unit of this game data changed its owner, so summaries of units by owner can tell whether
+   * they are still valid.
+   */
+  int getUnitOwnerChangeCount() {
+    return unitOwnerChangeCount.get();
+  }
+
   void notifyTerritoryOwnerChanged(final Territory t) {
     territoryListeners.forEach(territoryListener -> territoryListener.ownerChanged(t));
   }
@@ -492,8 +519,32 @@ public class GameData implements java.io.Serializable {
       acquireWriteLock();
       change.perform(this);
     } finally {
+      // still under the write lock, so readers never see the changed data with the old generation
+      for (final ChangeArea area : change.getChangedAreas()) {
+        areaChangeGenerations.incrementAndGet(area.ordinal());
+      }
+      changeGeneration.incrementAndGet();
       releaseWriteLock();
     }
     notifyGameDataChanged(change);
   }
+
+  /**
+   * Returns the number of changes performed on this game data so far, a value derived from the data is still valid
+   * while this has not moved.
+   */
+  public long getChangeGeneration() {
+    return changeGeneration.get();
+  }
+
+  /**
+   * Returns the number of changes performed on this game data so far that touched the area.
+   */
+  public long getChangeGeneration(final ChangeArea area) {
+    return areaChangeGenerations.get(area.ordinal());
+  }
+
+  Map<DerivedValue<?, ?>, Object> getDerivedValues() {
+    return derivedValues;
+  }
 }
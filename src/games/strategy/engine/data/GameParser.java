@@ -3,14 +3,16 @@ package games.strategy.engine.data;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
@@ -19,6 +21,8 @@ import java.util.concurrent.atomic.AtomicReference;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamException;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -30,6 +34,7 @@ import org.xml.sax.SAXParseException;
 
 import games.strategy.debug.ClientLogger;
 import games.strategy.engine.ClientContext;
+import games.strategy.engine.data.gameparser.XmlElementStream;
 import games.strategy.engine.data.gameparser.XmlGameElementMapper;
 import games.strategy.engine.data.properties.BooleanProperty;
 import games.strategy.engine.data.properties.ColorProperty;
@@ -48,14 +53,16 @@ import games.strategy.triplea.attachments.UnitAttachment;
 import games.strategy.triplea.delegate.GenericTechAdvance;
 import games.strategy.triplea.delegate.TechAdvance;
 import games.strategy.triplea.formatter.MyFormatter;
+import games.strategy.util.PropertyAccessors;
 import games.strategy.util.Tuple;
 import games.strategy.util.Version;
 
 public class GameParser {
-  private static final Class<?>[] SETTER_ARGS = {String.class};
   private GameData data;
   private final Collection<SAXParseException> errorsSAX = new ArrayList<>();
   public static final String DTD_FILE_NAME = "game.dtd";
+  private static final Set<String> HEADER_SECTIONS =
+      new HashSet<>(Arrays.asList("info", "loader", "triplea", "diceSides"));
   private final String mapName;
 
   public GameParser(final String mapName) {
@@ -156,6 +163,154 @@ public class GameParser {
     if (initialization != null) {
       parseInitialization(initialization);
     }
+    finishParsing();
+    return data;
+  }
+
+  /**
+   * Parses a file into a GameData object in a single pass with a StAX pull parser, without building a DOM of the
+   * whole file or validating it against the dtd. Each top level section, and each attachment, is turned into a small
+   * element tree that is parsed and dropped as soon as it has been read, so it goes through the same parse methods and
+   * reports the same GameParseExceptions as {@link #parse(InputStream, AtomicReference, boolean)}.
+   *
+   * <p>
+   * The game properties come last in the xml. If the map has no technology section its default technologies depend
+   * on those properties, so then the attachments and initialization are held back until the properties have been
+   * read.
+   * </p>
+   */
+  public synchronized GameData parseStreaming(final InputStream stream, final AtomicReference<String> gameName,
+      final boolean delayParsing) throws GameParseException, SAXException, EngineVersionException {
+    if (stream == null) {
+      throw new IllegalArgumentException("Stream must be non null");
+    }
+    data = new GameData();
+    final Set<String> sections = new HashSet<>();
+    final Map<String, Element> header = new HashMap<>();
+    final List<Element> heldBackAttachments = new ArrayList<>();
+    Element heldBackInitialization = null;
+    boolean headerParsed = false;
+    try (XmlElementStream xml = new XmlElementStream(stream, getDtdUrl())) {
+      if (!xml.nextChild(0) || !xml.getName().equals("game")) {
+        throw new GameParseException(mapName, "No root element called game");
+      }
+      while (xml.nextChild(1)) {
+        final String name = xml.getName();
+        if (!sections.add(name)) {
+          throw new GameParseException(mapName, "Too many children named " + name);
+        }
+        if (HEADER_SECTIONS.contains(name)) {
+          header.put(name, xml.readElement());
+          continue;
+        }
+        if (!headerParsed) {
+          parseHeader(header, gameName);
+          headerParsed = true;
+        }
+        if (name.equals("playerList")) {
+          final Element playerList = xml.readElement();
+          parsePlayerList(playerList);
+          parseAlliances(playerList);
+        } else if (name.equals("propertyList")) {
+          parseProperties(xml.readElement());
+        } else if (delayParsing) {
+          // everything else is only needed once a game is selected
+          xml.skipElement();
+        } else if (name.equals("map")) {
+          parseMap(xml.readElement());
+        } else if (name.equals("resourceList")) {
+          parseResources(xml.readElement());
+        } else if (name.equals("unitList")) {
+          parseUnits(xml.readElement());
+        } else if (name.equals("relationshipTypes")) {
+          parseRelationshipTypes(xml.readElement());
+        } else if (name.equals("territoryEffectList")) {
+          parseTerritoryEffects(xml.readElement());
+        } else if (name.equals("gamePlay")) {
+          parseGamePlay(xml.readElement());
+        } else if (name.equals("production")) {
+          parseProduction(xml.readElement());
+        } else if (name.equals("technology")) {
+          parseTechnology(xml.readElement());
+        } else if (name.equals("attachmentList")) {
+          if (sections.contains("technology")) {
+            xml.readChildren("attachment", this::parseAttachment);
+          } else {
+            xml.readChildren("attachment", heldBackAttachments::add);
+          }
+        } else if (name.equals("initialize")) {
+          if (sections.contains("technology")) {
+            parseInitialization(xml.readElement());
+          } else {
+            heldBackInitialization = xml.readElement();
+          }
+        } else {
+          xml.skipElement();
+        }
+      }
+    } catch (final XMLStreamException e) {
+      throw toSaxParseException(e);
+    }
+    if (!headerParsed) {
+      parseHeader(header, gameName);
+    }
+    if (!sections.contains("playerList")) {
+      throw new GameParseException(mapName, "No child called playerList");
+    }
+    if (delayParsing) {
+      return data;
+    }
+    for (final String section : new String[] {"map", "gamePlay"}) {
+      if (!sections.contains(section)) {
+        throw new GameParseException(mapName, "No child called " + section);
+      }
+    }
+    if (!sections.contains("technology")) {
+      TechAdvance.createDefaultTechAdvances(data);
+      for (final Element attachment : heldBackAttachments) {
+        parseAttachment(attachment);
+      }
+      if (heldBackInitialization != null) {
+        parseInitialization(heldBackInitialization);
+      }
+    }
+    finishParsing();
+    return data;
+  }
+
+  /**
+   * Parses the sections needed before anything else, in the same order as the dom based parser, so that a map for a
+   * newer engine fails on its version before its loader class is looked up.
+   */
+  private void parseHeader(final Map<String, Element> header, final AtomicReference<String> gameName)
+      throws GameParseException, EngineVersionException {
+    for (final String required : new String[] {"info", "loader"}) {
+      if (!header.containsKey(required)) {
+        throw new GameParseException(mapName, "No child called " + required);
+      }
+    }
+    parseInfo(header.get("info"));
+    if (gameName != null) {
+      gameName.set(data.getGameName());
+    }
+    parseMinimumEngineVersionNumber(header.get("triplea"));
+    parseGameLoader(header.get("loader"));
+    parseDiceSides(header.get("diceSides"));
+  }
+
+  private SAXParseException toSaxParseException(final XMLStreamException e) {
+    final Location location = e.getLocation();
+    if (location == null) {
+      return new SAXParseException(e.getMessage(), null, mapName, -1, -1, e);
+    }
+    return new SAXParseException(e.getMessage(), location.getPublicId(), mapName, location.getLineNumber(),
+        location.getColumnNumber(), e);
+  }
+
+  /**
+   * Sets up everything that depends on the whole game having been read, and validates the result.
+   */
+  private void finishParsing() throws GameParseException {
     // set & override default relationships
     // sets the relationship between all players and the NullPlayer to NullRelation
     // (with archeType War)
@@ -174,7 +329,6 @@ public class GameParser {
       ClientLogger.logQuietly("Error parsing: " + mapName, e);
       throw new GameParseException(mapName, e.getMessage());
     }
-    return data;
   }
 
   private void parseDiceSides(final Node diceSides) {
@@ -245,15 +399,20 @@ public class GameParser {
     }
   }
 
-  public Document getDocument(final InputStream input) throws SAXException, IOException, ParserConfigurationException {
-    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-    factory.setValidating(true);
-    // get the dtd location
+  private URL getDtdUrl() {
     final String dtdFile = "/games/strategy/engine/xml/" + DTD_FILE_NAME;
     final URL url = GameParser.class.getResource(dtdFile);
     if (url == null) {
       throw new RuntimeException("Map: " + mapName + ", " + String.format("Could not find in classpath %s", dtdFile));
     }
+    return url;
+  }
+
+  public Document getDocument(final InputStream input) throws SAXException, IOException, ParserConfigurationException {
+    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setValidating(true);
+    // get the dtd location
+    final URL url = getDtdUrl();
     final String dtdSystem = url.toExternalForm();
     final String system = dtdSystem.substring(0, dtdSystem.length() - 8);
     final DocumentBuilder builder = factory.newDocumentBuilder();
@@ -1251,21 +1410,25 @@ public class GameParser {
 
   private void parseAttachments(final Element root) throws GameParseException {
     for (final Element current : getChildren("attachment", root)) {
-      final String className = current.getAttribute("javaClass");
-      final Attachable attachable = findAttachment(current, current.getAttribute("type"));
-      final String name = current.getAttribute("name");
-      final List<Element> options = getChildren("option", current);
-      IAttachment attachment = new XmlGameElementMapper().getAttachment(className, name, attachable, data)
-          .orElseThrow(
-              () -> new GameParseException(mapName, "Attachment of type " + className + " could not be instantiated"));
-      attachable.addAttachment(name, attachment);
-
-      final ArrayList<Tuple<String, String>> attachmentOptionValues = setValues(attachment, options);
-      // keep a list of attachment references in the order they were added
-      data.addToAttachmentOrderAndValues(Tuple.of(attachment, attachmentOptionValues));
+      parseAttachment(current);
     }
   }
 
+  private void parseAttachment(final Element current) throws GameParseException {
+    final String className = current.getAttribute("javaClass");
+    final Attachable attachable = findAttachment(current, current.getAttribute("type"));
+    final String name = current.getAttribute("name");
+    final List<Element> options = getChildren("option", current);
+    IAttachment attachment = new XmlGameElementMapper().getAttachment(className, name, attachable, data)
+        .orElseThrow(
+            () -> new GameParseException(mapName, "Attachment of type " + className + " could not be instantiated"));
+    attachable.addAttachment(name, attachment);
+
+    final ArrayList<Tuple<String, String>> attachmentOptionValues = setValues(attachment, options);
+    // keep a list of attachment references in the order they were added
+    data.addToAttachmentOrderAndValues(Tuple.of(attachment, attachmentOptionValues));
+  }
+
   private Attachable findAttachment(final Element element, final String type) throws GameParseException {
     Attachable returnVal;
     final String name = "attachTo";
@@ -1289,26 +1452,17 @@ public class GameParser {
     return returnVal;
   }
 
-  private static String capitalizeFirstLetter(final String aString) {
-    char first = aString.charAt(0);
-    first = Character.toUpperCase(first);
-    return first + aString.substring(1);
-  }
-
   private ArrayList<Tuple<String, String>> setValues(final IAttachment attachment, final List<Element> values)
       throws GameParseException {
     final ArrayList<Tuple<String, String>> options = new ArrayList<>();
     for (final Element current : values) {
       // find the setter
-      String name = null;
-      Method setter = null;
-      try {
-        name = current.getAttribute("name");
-        if (name.length() == 0) {
-          throw new GameParseException(mapName, "Option name with 0 length");
-        }
-        setter = attachment.getClass().getMethod("set" + capitalizeFirstLetter(name), SETTER_ARGS);
-      } catch (final NoSuchMethodException nsme) {
+      final String name = current.getAttribute("name");
+      if (name.length() == 0) {
+        throw new GameParseException(mapName, "Option name with 0 length");
+      }
+      final MethodHandle setter = PropertyAccessors.forClass(attachment.getClass()).getExactSetter(name, String.class);
+      if (setter == null) {
         throw new GameParseException(mapName, "The following option name of " + attachment.getName() + " of class "
             + attachment.getClass().getName().substring(attachment.getClass().getName().lastIndexOf('.') + 1)
             + " are either misspelled or exist only in a future version of TripleA. Setter: " + name);
@@ -1324,15 +1478,12 @@ public class GameParser {
       }
       // invoke
       try {
-        final Object[] args = {itemValues};
-        setter.invoke(attachment, args);
-      } catch (final IllegalAccessException iae) {
-        throw new GameParseException(mapName,
-            "Setter not public. Setter:" + name + " Class:" + attachment.getClass().getName());
-      } catch (final InvocationTargetException ite) {
-        ite.getCause().printStackTrace(System.out);
-        throw new GameParseException(mapName,
-            "Error setting property:" + name + " cause:" + ite.getCause().getMessage());
+        setter.invokeExact((Object) attachment, (Object) itemValues);
+      } catch (final Error e) {
+        throw e;
+      } catch (final Throwable e) {
+        e.printStackTrace(System.out);
+        throw new GameParseException(mapName, "Error setting property:" + name + " cause:" + e.getMessage());
       }
       options.add(Tuple.of(name, itemValues));
     }
@@ -1,5 +1,7 @@
 package games.strategy.engine.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -7,6 +9,8 @@ import java.util.Map;
 public class NamedAttachable extends DefaultNamed implements Attachable {
   private static final long serialVersionUID = 8597712929519099255L;
   private final Map<String, IAttachment> m_attachments = new HashMap<>();
+  // the attachments of m_attachments that have a slot, by the slot's ordinal
+  private transient IAttachment[] m_slots = new IAttachment[AttachmentSlot.values().length];
 
   /** Creates new NamedAttachable */
   public NamedAttachable(final String name, final GameData data) {
@@ -18,6 +22,13 @@ public class NamedAttachable extends DefaultNamed implements Attachable {
     return m_attachments.get(key);
   }
 
+  /**
+   * Returns the attachment added under the slot's name, like {@link #getAttachment(String)} but without a map lookup.
+   */
+  public IAttachment getAttachment(final AttachmentSlot slot) {
+    return m_slots[slot.ordinal()];
+  }
+
   @Override
   public Map<String, IAttachment> getAttachments() {
     return Collections.unmodifiableMap(m_attachments);
@@ -26,10 +37,26 @@ public class NamedAttachable extends DefaultNamed implements Attachable {
   @Override
   public void addAttachment(final String key, final IAttachment value) {
     m_attachments.put(key, value);
+    final AttachmentSlot slot = AttachmentSlot.forName(key);
+    if (slot != null) {
+      m_slots[slot.ordinal()] = value;
+    }
   }
 
   @Override
   public void removeAttachment(final String keyString) {
     m_attachments.remove(keyString);
+    final AttachmentSlot slot = AttachmentSlot.forName(keyString);
+    if (slot != null) {
+      m_slots[slot.ordinal()] = null;
+    }
+  }
+
+  private void readObject(final ObjectInputStream stream) throws IOException, ClassNotFoundException {
+    stream.defaultReadObject();
+    m_slots = new IAttachment[AttachmentSlot.values().length];
+    for (final AttachmentSlot slot : AttachmentSlot.values()) {
+      m_slots[slot.ordinal()] = m_attachments.get(slot.getAttachmentName());
+    }
   }
 }
@@ -173,7 +173,7 @@ public class PlayerID extends NamedAttachable implements NamedUnitHolder {
   }
 
   public PlayerAttachment getPlayerAttachment() {
-    return (PlayerAttachment) getAttachment(Constants.PLAYER_ATTACHMENT_NAME);
+    return (PlayerAttachment) getAttachment(AttachmentSlot.PLAYER);
   }
 
   public TechAttachment getTechAttachment() {
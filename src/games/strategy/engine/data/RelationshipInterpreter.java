@@ -26,7 +26,7 @@ public class RelationshipInterpreter extends GameDataComponent {
 
   public boolean isAlliedWithAnyOfThesePlayers(final PlayerID p1, final Collection<PlayerID> p2s) {
     for (final PlayerID p2 : p2s) {
-      if (Matches.RelationshipTypeIsAllied.match((getRelationshipType(p1, p2)))) {
+      if (isAllied(p1, p2)) {
         return true;
       }
     }
@@ -63,7 +63,7 @@ public class RelationshipInterpreter extends GameDataComponent {
 
   public boolean isAtWarWithAnyOfThesePlayers(final PlayerID p1, final Collection<PlayerID> p2s) {
     for (final PlayerID p2 : p2s) {
-      if (Matches.RelationshipTypeIsAtWar.match((getRelationshipType(p1, p2)))) {
+      if (isAtWar(p1, p2)) {
         return true;
       }
     }
@@ -1,8 +1,16 @@
 package games.strategy.engine.data;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import games.strategy.triplea.attachments.RelationshipTypeAttachment;
 
@@ -10,6 +18,11 @@ public class RelationshipTracker extends RelationshipInterpreter {
   private static final long serialVersionUID = -4740671761925519069L;
   // map of "playername:playername" to RelationshipType that exists between those 2 players
   private final HashMap<RelatedPlayers, Relationship> m_relationships = new HashMap<>();
+  // which players are at war or allied, rebuilt on first use after any relationship changed
+  private transient volatile RelationshipMatrix m_matrix;
+  // counts the relationships set, so a matrix built while one was set is not taken as current; an increment lost to a
+  // concurrent one still moves the count
+  private transient volatile int m_relationshipChangeCount;
 
   public RelationshipTracker(final GameData data) {
     super(data);
@@ -27,6 +40,7 @@ public class RelationshipTracker extends RelationshipInterpreter {
    */
   public void setRelationship(final PlayerID p1, final PlayerID p2, final RelationshipType r) {
     m_relationships.put(new RelatedPlayers(p1, p2), new Relationship(r));
+    m_relationshipChangeCount++;
   }
 
   /**
@@ -39,6 +53,7 @@ public class RelationshipTracker extends RelationshipInterpreter {
    */
   protected void setRelationship(final PlayerID p1, final PlayerID p2, final RelationshipType r, final int roundValue) {
     m_relationships.put(new RelatedPlayers(p1, p2), new Relationship(r, roundValue));
+    m_relationshipChangeCount++;
   }
 
   /**
@@ -55,6 +70,65 @@ public class RelationshipTracker extends RelationshipInterpreter {
     return getRelationship(p1, p2).getRelationshipType();
   }
 
+  @Override
+  public boolean isAtWar(final PlayerID p1, final PlayerID p2) {
+    final RelationshipMatrix matrix = getMatrix();
+    final int i1 = matrix.indexOf(p1);
+    final int i2 = matrix.indexOf(p2);
+    if (i1 < 0 || i2 < 0 || !matrix.known[i1].get(i2)) {
+      return super.isAtWar(p1, p2);
+    }
+    return matrix.war[i1].get(i2);
+  }
+
+  @Override
+  public boolean isAllied(final PlayerID p1, final PlayerID p2) {
+    final RelationshipMatrix matrix = getMatrix();
+    final int i1 = matrix.indexOf(p1);
+    final int i2 = matrix.indexOf(p2);
+    if (i1 < 0 || i2 < 0 || !matrix.known[i1].get(i2)) {
+      return super.isAllied(p1, p2);
+    }
+    return matrix.allied[i1].get(i2);
+  }
+
+  /**
+   * Returns the players the player is at war with. The set is shared and must not be modified.
+   */
+  @Override
+  public Set<PlayerID> getEnemies(final PlayerID p1) {
+    final RelationshipMatrix matrix = getMatrix();
+    final int index = matrix.indexOf(p1);
+    if (index < 0 || matrix.enemies.get(index) == null) {
+      return super.getEnemies(p1);
+    }
+    return matrix.enemies.get(index);
+  }
+
+  /**
+   * Returns the players the player is allied with. The set is shared and must not be modified.
+   */
+  @Override
+  public Set<PlayerID> getAllies(final PlayerID p1, final boolean includeSelf) {
+    final RelationshipMatrix matrix = getMatrix();
+    final int index = matrix.indexOf(p1);
+    final List<Set<PlayerID>> allies = includeSelf ? matrix.alliesAndSelf : matrix.allies;
+    if (index < 0 || allies.get(index) == null) {
+      return super.getAllies(p1, includeSelf);
+    }
+    return allies.get(index);
+  }
+
+  private RelationshipMatrix getMatrix() {
+    final RelationshipMatrix matrix = m_matrix;
+    if (matrix != null && matrix.isCurrent(this, getData().getPlayerList())) {
+      return matrix;
+    }
+    final RelationshipMatrix rebuilt = new RelationshipMatrix(this, getData().getPlayerList());
+    m_matrix = rebuilt;
+    return rebuilt;
+  }
+
   public Relationship getRelationship(final PlayerID p1, final PlayerID p2) {
     return m_relationships.get(new RelatedPlayers(p1, p2));
   }
@@ -121,6 +195,108 @@ public class RelationshipTracker extends RelationshipInterpreter {
     return getData().getRelationshipTypeList().getNullRelation();
   }
 
+  /**
+   * Which players are at war and which are allied, as a bit set per player indexed by the players' position in the
+   * player list, with the null player last.
+   *
+   * <p>
+   * isAtWar and isAllied are asked for nearly every unit and territory a move or battle looks at, and each used to
+   * look the relationship up in a hash map and its attachment by name. A matrix is immutable once built, it is
+   * replaced after a relationship is set, the archeType of any relationship type changes or players are added.
+   * Pairs without a relationship or whose relationship type has no attachment yet are marked unknown, and are left
+   * to the relationship map.
+   * </p>
+   */
+  private static final class RelationshipMatrix {
+    private final int relationshipChangeCount;
+    private final int archeTypeChangeCount;
+    private final int playerCount;
+    private final Map<PlayerID, Integer> indexes = new IdentityHashMap<>();
+    private final BitSet[] known;
+    private final BitSet[] war;
+    private final BitSet[] allied;
+    // null for players with unknown relationships
+    private final List<Set<PlayerID>> enemies;
+    private final List<Set<PlayerID>> allies;
+    private final List<Set<PlayerID>> alliesAndSelf;
+
+    private RelationshipMatrix(final RelationshipTracker tracker, final PlayerList playerList) {
+      // read before the relationships and their types, so a concurrent change makes the next read rebuild
+      relationshipChangeCount = tracker.m_relationshipChangeCount;
+      archeTypeChangeCount = RelationshipTypeAttachment.getArcheTypeChangeCount();
+      final List<PlayerID> players = playerList.getPlayers();
+      playerCount = players.size();
+      final PlayerID[] indexed = new PlayerID[playerCount + 1];
+      for (int i = 0; i < playerCount; i++) {
+        indexed[i] = players.get(i);
+      }
+      indexed[playerCount] = PlayerID.NULL_PLAYERID;
+      for (int i = 0; i < indexed.length; i++) {
+        indexes.put(indexed[i], i);
+      }
+      known = new BitSet[indexed.length];
+      war = new BitSet[indexed.length];
+      allied = new BitSet[indexed.length];
+      for (int i = 0; i < indexed.length; i++) {
+        known[i] = new BitSet(indexed.length);
+        war[i] = new BitSet(indexed.length);
+        allied[i] = new BitSet(indexed.length);
+        for (int j = 0; j < indexed.length; j++) {
+          final Relationship relationship = tracker.getRelationship(indexed[i], indexed[j]);
+          if (relationship == null || relationship.getRelationshipType() == null || relationship
+              .getRelationshipType().getAttachment(AttachmentSlot.RELATIONSHIP_TYPE) == null) {
+            continue;
+          }
+          final RelationshipTypeAttachment attachment =
+              relationship.getRelationshipType().getRelationshipTypeAttachment();
+          known[i].set(j);
+          war[i].set(j, attachment.isWar());
+          allied[i].set(j, attachment.isAllied());
+        }
+      }
+      enemies = new ArrayList<>(indexed.length);
+      allies = new ArrayList<>(indexed.length);
+      alliesAndSelf = new ArrayList<>(indexed.length);
+      for (int i = 0; i < indexed.length; i++) {
+        // the sets only cover the players in the player list, like the relationship interpreter's
+        if (known[i].nextClearBit(0) < playerCount) {
+          enemies.add(null);
+          allies.add(null);
+          alliesAndSelf.add(null);
+          continue;
+        }
+        final Set<PlayerID> enemiesOfPlayer = new LinkedHashSet<>();
+        final Set<PlayerID> alliesOfPlayer = new LinkedHashSet<>();
+        for (int j = 0; j < playerCount; j++) {
+          if (war[i].get(j)) {
+            enemiesOfPlayer.add(indexed[j]);
+          }
+          if (allied[i].get(j)) {
+            alliesOfPlayer.add(indexed[j]);
+          }
+        }
+        enemiesOfPlayer.remove(indexed[i]);
+        alliesOfPlayer.remove(indexed[i]);
+        enemies.add(Collections.unmodifiableSet(enemiesOfPlayer));
+        allies.add(Collections.unmodifiableSet(alliesOfPlayer));
+        final Set<PlayerID> alliesOfPlayerAndSelf = new LinkedHashSet<>(alliesOfPlayer);
+        alliesOfPlayerAndSelf.add(indexed[i]);
+        alliesAndSelf.add(Collections.unmodifiableSet(alliesOfPlayerAndSelf));
+      }
+    }
+
+    private boolean isCurrent(final RelationshipTracker tracker, final PlayerList playerList) {
+      return relationshipChangeCount == tracker.m_relationshipChangeCount
+          && archeTypeChangeCount == RelationshipTypeAttachment.getArcheTypeChangeCount()
+          && playerCount == playerList.size();
+    }
+
+    private int indexOf(final PlayerID player) {
+      final Integer index = indexes.get(player);
+      return index == null ? -1 : index;
+    }
+  }
+
   /**
    * RelatedPlayers is a class of 2 players that are related, used in relationships.
    */
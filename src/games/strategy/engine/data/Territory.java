@@ -1,5 +1,7 @@
 package games.strategy.engine.data;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class Territory extends NamedAttachable implements NamedUnitHolder, Comparable<Territory> {
   private static final long serialVersionUID = -6390555051736721082L;
   private final boolean m_water;
@@ -7,6 +9,7 @@ public class Territory extends NamedAttachable implements NamedUnitHolder, Compa
   private final UnitCollection m_units;
   // In a grid-based game, stores the coordinate of the Territory
   private final int[] m_coordinate;
+  private static final AtomicInteger ownerChangeCount = new AtomicInteger();
 
   public Territory(final String name, final GameData data) {
     this(name, false, data);
@@ -48,9 +51,18 @@ public class Territory extends NamedAttachable implements NamedUnitHolder, Compa
       newOwner = PlayerID.NULL_PLAYERID;
     }
     m_owner = newOwner;
+    ownerChangeCount.incrementAndGet();
     getData().notifyTerritoryOwnerChanged(this);
   }
 
+  /**
+   * Returns how often any territory was given an owner, including owners set without a change, so results derived from
+   * territory ownership can tell whether they are still valid.
+   */
+  public static int getOwnerChangeCount() {
+    return ownerChangeCount.get();
+  }
+
   /**
    * Get the units in this territory
    */
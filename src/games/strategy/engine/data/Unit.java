@@ -40,7 +40,7 @@ public class Unit extends GameDataComponent {
   }
   
   public UnitAttachment getUnitAttachment() {
-  	return (UnitAttachment) m_type.getAttachment("unitAttachment");
+  	return (UnitAttachment) m_type.getAttachment(AttachmentSlot.UNIT);
   }
 
   /**
@@ -87,7 +87,12 @@ public class Unit extends GameDataComponent {
     if (player == null) {
       player = PlayerID.NULL_PLAYERID;
     }
+    final PlayerID oldOwner = m_owner;
     m_owner = player;
+    // counted after the owner is set, a summary that reads the count first and the owners after is never stale
+    if (oldOwner != null && !oldOwner.equals(player) && getData() != null) {
+      getData().notifyUnitOwnerChanged();
+    }
   }
 
   @Override
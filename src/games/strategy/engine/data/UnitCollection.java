@@ -3,9 +3,11 @@ package games.strategy.engine.data;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import games.strategy.util.IntegerMap;
@@ -13,11 +15,52 @@ import games.strategy.util.Match;
 
 /**
  * A collection of units.
+ *
+ * <p>
+ * The number of units by type and by owner is kept in a summary, so counting units or finding which players have
+ * units does not go over every unit. The summary is built on the first query after the units changed, or after any
+ * unit of the game data changed its owner.
+ * </p>
  */
 public class UnitCollection extends GameDataComponent implements Iterable<Unit> {
   private static final long serialVersionUID = -3534037864426122864L;
   private final List<Unit> m_units = new ArrayList<>();
   private final NamedUnitHolder m_holder;
+  private transient volatile UnitSummary m_summary;
+  // changed under the game data write lock, after the units
+  private transient volatile int m_modificationCount;
+
+  /**
+   * The number of units by type and by owner, immutable once built.
+   */
+  private static final class UnitSummary {
+    private final int modificationCount;
+    private final int ownerChangeCount;
+    private final IntegerMap<UnitType> byType = new IntegerMap<>();
+    private final IntegerMap<PlayerID> byOwner = new IntegerMap<>();
+    private final Map<PlayerID, IntegerMap<UnitType>> byOwnerAndType = new HashMap<>();
+
+    private UnitSummary(final List<Unit> units, final int modificationCount, final int ownerChangeCount) {
+      // the counts are read before the units and their owners, so a change meanwhile makes the next query rebuild
+      this.modificationCount = modificationCount;
+      this.ownerChangeCount = ownerChangeCount;
+      for (final Unit unit : units) {
+        byType.add(unit.getType(), 1);
+        byOwner.add(unit.getOwner(), 1);
+        IntegerMap<UnitType> ownerTypes = byOwnerAndType.get(unit.getOwner());
+        if (ownerTypes == null) {
+          ownerTypes = new IntegerMap<>();
+          byOwnerAndType.put(unit.getOwner(), ownerTypes);
+        }
+        ownerTypes.add(unit.getType(), 1);
+      }
+    }
+
+    private int getUnitCount(final UnitType type, final PlayerID owner) {
+      final IntegerMap<UnitType> ownerTypes = byOwnerAndType.get(owner);
+      return ownerTypes == null ? 0 : ownerTypes.getInt(type);
+    }
+  }
 
   /**
    * Creates new UnitCollection
@@ -34,21 +77,25 @@ public class UnitCollection extends GameDataComponent implements Iterable<Unit>
 
   void addUnit(final Unit unit) {
     m_units.add(unit);
+    m_modificationCount++;
     m_holder.notifyChanged();
   }
 
   void addAllUnits(final UnitCollection collection) {
     m_units.addAll(collection.m_units);
+    m_modificationCount++;
     m_holder.notifyChanged();
   }
 
   public void addAllUnits(final Collection<Unit> units) {
     m_units.addAll(units);
+    m_modificationCount++;
     m_holder.notifyChanged();
   }
 
   public void removeAllUnits(final Collection<Unit> units) {
     m_units.removeAll(units);
+    m_modificationCount++;
     m_holder.notifyChanged();
   }
 
@@ -57,37 +104,30 @@ public class UnitCollection extends GameDataComponent implements Iterable<Unit>
   }
 
   public int getUnitCount(final UnitType type) {
-    int count = 0;
-    final Iterator<Unit> iterator = m_units.iterator();
-    while (iterator.hasNext()) {
-      if (iterator.next().getType().equals(type)) {
-        count++;
-      }
-    }
-    return count;
+    return getSummary().byType.getInt(type);
   }
 
   public int getUnitCount(final UnitType type, final PlayerID owner) {
-    int count = 0;
-    final Iterator<Unit> iterator = m_units.iterator();
-    while (iterator.hasNext()) {
-      final Unit current = iterator.next();
-      if (current.getType().equals(type) && current.getOwner().equals(owner)) {
-        count++;
-      }
-    }
-    return count;
+    return getSummary().getUnitCount(type, owner);
   }
 
   public int getUnitCount(final PlayerID owner) {
-    int count = 0;
-    final Iterator<Unit> iterator = m_units.iterator();
-    while (iterator.hasNext()) {
-      if (iterator.next().getOwner().equals(owner)) {
-        count++;
-      }
+    return getSummary().byOwner.getInt(owner);
+  }
+
+  private int getOwnerChangeCount() {
+    return getData() == null ? 0 : getData().getUnitOwnerChangeCount();
+  }
+
+  private UnitSummary getSummary() {
+    final UnitSummary summary = m_summary;
+    if (summary != null && summary.modificationCount == m_modificationCount
+        && summary.ownerChangeCount == getOwnerChangeCount()) {
+      return summary;
     }
-    return count;
+    final UnitSummary rebuilt = new UnitSummary(m_units, m_modificationCount, getOwnerChangeCount());
+    m_summary = rebuilt;
+    return rebuilt;
   }
 
   public boolean containsAll(final Collection<Unit> units) {
@@ -128,14 +168,7 @@ public class UnitCollection extends GameDataComponent implements Iterable<Unit>
    * @return integer map of UnitType
    */
   public IntegerMap<UnitType> getUnitsByType() {
-    final IntegerMap<UnitType> units = new IntegerMap<>();
-    for (final UnitType type : getData().getUnitTypeList()) {
-      final int count = getUnitCount(type);
-      if (count > 0) {
-        units.put(type, count);
-      }
-    }
-    return units;
+    return new IntegerMap<>(getSummary().byType);
   }
 
   /**
@@ -144,13 +177,8 @@ public class UnitCollection extends GameDataComponent implements Iterable<Unit>
    * @return map of UnitType (only of units for the specified player)
    */
   public IntegerMap<UnitType> getUnitsByType(final PlayerID id) {
-    final IntegerMap<UnitType> count = new IntegerMap<>();
-    for (final Unit unit : m_units) {
-      if (unit.getOwner().equals(id)) {
-        count.add(unit.getType(), 1);
-      }
-    }
-    return count;
+    final IntegerMap<UnitType> ownerTypes = getSummary().byOwnerAndType.get(id);
+    return ownerTypes == null ? new IntegerMap<>() : new IntegerMap<>(ownerTypes);
   }
 
   /**
@@ -183,26 +211,25 @@ public class UnitCollection extends GameDataComponent implements Iterable<Unit>
    */
   public Set<PlayerID> getPlayersWithUnits() {
     // note nulls are handled by PlayerID.NULL_PLAYERID
-    final Set<PlayerID> ids = new HashSet<>();
-    for (final Unit unit : m_units) {
-      ids.add(unit.getOwner());
-    }
-    return ids;
+    return new HashSet<>(getSummary().byOwner.keySet());
   }
 
   /**
    * @return the count of units each player has in this collection.
    */
   public IntegerMap<PlayerID> getPlayerUnitCounts() {
-    final IntegerMap<PlayerID> count = new IntegerMap<>();
-    for (final Unit unit : m_units) {
-      count.add(unit.getOwner(), 1);
-    }
-    return count;
+    return new IntegerMap<>(getSummary().byOwner);
   }
 
   public boolean hasUnitsFromMultiplePlayers() {
-    return getPlayersWithUnits().size() > 1;
+    return getSummary().byOwner.size() > 1;
+  }
+
+  /**
+   * @return whether any player with units in this collection matches, testing each player once rather than each unit.
+   */
+  public boolean someOwnerMatches(final Match<PlayerID> matcher) {
+    return getSummary().byOwner.someKeysMatch(matcher);
   }
 
   public NamedUnitHolder getHolder() {
@@ -1,6 +1,7 @@
 package games.strategy.engine.data;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Set;
 
 import games.strategy.util.IntegerMap;
@@ -41,6 +42,11 @@ public class UnitHitsChange extends Change {
     }
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.of(ChangeArea.UNITS);
+  }
+
   @Override
   public Change invert() {
     return new UnitHitsChange(m_undoHits, m_hits);
@@ -1,6 +1,9 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.EnumSet;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.TechnologyFrontier;
@@ -30,6 +33,11 @@ class AddAvailableTech extends Change {
     front.addAdvance(m_tech);
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.of(ChangeArea.TECHS);
+  }
+
   @Override
   public Change invert() {
     return new RemoveAvailableTech(m_frontier, m_tech, m_player);
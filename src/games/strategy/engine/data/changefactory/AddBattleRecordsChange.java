@@ -1,9 +1,11 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.EnumSet;
 import java.util.Map;
 
 import games.strategy.engine.data.BattleRecordsList;
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.GameData;
 import games.strategy.triplea.delegate.dataObjects.BattleRecords;
 
@@ -35,6 +37,11 @@ class AddBattleRecordsChange extends Change {
     BattleRecordsList.addRecords(currentRecords, m_round, new BattleRecords(m_recordsToAdd));
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.of(ChangeArea.BATTLE_RECORDS);
+  }
+
   @Override
   public Change invert() {
     return new RemoveBattleRecordsChange(m_recordsToAdd, m_round);
@@ -1,6 +1,9 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.EnumSet;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.ProductionFrontier;
 import games.strategy.engine.data.ProductionRule;
@@ -26,6 +29,11 @@ class AddProductionRule extends Change {
     m_frontier.addRule(m_rule);
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.of(ChangeArea.PRODUCTION);
+  }
+
   @Override
   public Change invert() {
     return new RemoveProductionRule(m_rule, m_frontier);
@@ -2,8 +2,10 @@ package games.strategy.engine.data.changefactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitCollection;
@@ -30,6 +32,11 @@ class AddUnits extends Change {
     m_name = name;
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.of(ChangeArea.UNITS);
+  }
+
   @Override
   public Change invert() {
     return new RemoveUnits(m_name, m_type, m_units);
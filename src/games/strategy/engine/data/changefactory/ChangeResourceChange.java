@@ -1,6 +1,9 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.EnumSet;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Resource;
@@ -27,6 +30,11 @@ class ChangeResourceChange extends Change {
     m_quantity = quantity;
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.of(ChangeArea.RESOURCES);
+  }
+
   @Override
   public Change invert() {
     return new ChangeResourceChange(m_player, m_resource, -m_quantity);
@@ -1,7 +1,10 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.EnumSet;
+
 import games.strategy.engine.data.Attachable;
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.GameData;
 import games.strategy.triplea.attachments.TechAttachment;
 
@@ -47,6 +50,11 @@ class GenericTechChange extends Change {
     attachment.setGenericTech(m_property, m_newValue);
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.of(ChangeArea.TECHS);
+  }
+
   @Override
   public Change invert() {
     return new GenericTechChange(m_attachedTo, m_attachmentName, m_oldValue, m_newValue, m_property);
@@ -2,9 +2,12 @@ package games.strategy.engine.data.changefactory;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.util.EnumSet;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Unit;
 import games.strategy.util.PropertyUtil;
 
 public class ObjectPropertyChange extends Change {
@@ -36,6 +39,14 @@ public class ObjectPropertyChange extends Change {
     m_property = m_property.intern();
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    if (m_object instanceof Unit) {
+      return EnumSet.of(ChangeArea.UNITS);
+    }
+    return super.getChangedAreas();
+  }
+
   @Override
   public Change invert() {
     return new ObjectPropertyChange(m_object, m_property, m_oldValue, m_newValue);
@@ -1,6 +1,9 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.EnumSet;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
@@ -46,6 +49,11 @@ class OwnerChange extends Change {
     return data.getPlayerList().getPlayerID(name);
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.of(ChangeArea.OWNERSHIP);
+  }
+
   @Override
   public Change invert() {
     return new OwnerChange(m_territory, m_old, m_new);
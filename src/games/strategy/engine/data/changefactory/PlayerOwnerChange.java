@@ -1,10 +1,12 @@
 package games.strategy.engine.data.changefactory;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
@@ -39,6 +41,11 @@ class PlayerOwnerChange extends Change {
     m_location = location;
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.of(ChangeArea.UNITS);
+  }
+
   @Override
   public Change invert() {
     return new PlayerOwnerChange(m_old, m_new, m_location);
@@ -1,6 +1,9 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.EnumSet;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.ProductionFrontier;
@@ -33,6 +36,11 @@ class ProductionFrontierChange extends Change {
     player.setProductionFrontier(frontier);
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.of(ChangeArea.PRODUCTION);
+  }
+
   @Override
   public Change invert() {
     return new ProductionFrontierChange(m_endFrontier, m_startFrontier, m_player);
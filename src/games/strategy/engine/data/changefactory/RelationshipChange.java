@@ -1,6 +1,9 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.EnumSet;
+
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.RelationshipType;
@@ -35,6 +38,11 @@ class RelationshipChange extends Change {
     m_NewRelation = newRelation;
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.of(ChangeArea.RELATIONSHIPS);
+  }
+
   @Override
   public Change invert() {
     return new RelationshipChange(m_player1, m_player2, m_NewRelation, m_OldRelation);
@@ -1,9 +1,11 @@
 package games.strategy.engine.data.changefactory;
 
+import java.util.EnumSet;
 import java.util.Map;
 
 import games.strategy.engine.data.BattleRecordsList;
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.GameData;
 import games.strategy.triplea.delegate.dataObjects.BattleRecords;
 
@@ -26,6 +28,11 @@ class RemoveBattleRecordsChange extends Change {
     BattleRecordsList.removeRecords(currentRecords, m_round, new BattleRecords(m_recordsToRemove));
   }
 
+  @Override
+  protected EnumSet<ChangeArea> getChangedAreas() {
+    return EnumSet.of(ChangeArea.BATTLE_RECORDS);
+  }
+
   @Override
   public Change invert() {
     return new AddBattleRecordsChange(m_recordsToRemove, m_round);
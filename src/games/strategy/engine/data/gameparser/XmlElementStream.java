@@ -0,0 +1,179 @@
+package games.strategy.engine.data.gameparser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import games.strategy.engine.data.GameParseException;
+
+/**
+ * Reads a game xml with a StAX pull parser and hands it out one element tree at a time, so a caller can parse a
+ * section and drop it before the next one is read, instead of holding a DOM of the whole file.
+ *
+ * <p>
+ * The elements are plain {@link Element}s so they can go through the same code as a full DOM. The dtd is not used
+ * for validation, but the parser reads it for the default attribute values it declares, and those are filled in as a
+ * validating parser would.
+ * Whitespace only text and comments are left out.
+ * </p>
+ */
+public class XmlElementStream implements AutoCloseable {
+  /**
+   * Callback for the children read by {@link XmlElementStream#readChildren(String, ElementHandler)}.
+   */
+  public interface ElementHandler {
+    void handle(Element element) throws GameParseException;
+  }
+
+  private final XMLStreamReader reader;
+  private final Document document;
+  private int depth = 0;
+
+  /**
+   * @param dtd the dtd the xml is written against, only used for default attribute values.
+   */
+  public XmlElementStream(final InputStream input, final URL dtd) throws XMLStreamException {
+    final XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, true);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    // whatever the doctype of the xml points to, the dtd is read from the classpath
+    factory.setXMLResolver((publicId, systemId, baseUri, namespace) -> {
+      try {
+        return dtd.openStream();
+      } catch (final IOException e) {
+        throw new XMLStreamException("Could not read the dtd: " + dtd, e);
+      }
+    });
+    reader = factory.createXMLStreamReader(input);
+    try {
+      document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    } catch (final ParserConfigurationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Moves to the next child element of the element open at the given depth, the root element is at depth 0.
+   * Any part of the previous child that was not read is skipped.
+   *
+   * @return false once the parent element, or the document, has ended.
+   */
+  public boolean nextChild(final int parentDepth) throws XMLStreamException {
+    while (reader.hasNext()) {
+      final int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+        if (depth == parentDepth + 1) {
+          return true;
+        }
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+        if (depth < parentDepth) {
+          return false;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the name of the element the stream is at.
+   */
+  public String getName() {
+    return reader.getLocalName();
+  }
+
+  /**
+   * Reads the element the stream is at, including all of its children.
+   */
+  public Element readElement() throws XMLStreamException {
+    final Element element = createElement();
+    final StringBuilder text = new StringBuilder();
+    while (reader.hasNext()) {
+      final int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        appendText(element, text);
+        depth++;
+        element.appendChild(readElement());
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        appendText(element, text);
+        depth--;
+        return element;
+      } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+        text.append(reader.getText());
+      }
+    }
+    throw new XMLStreamException("Unexpected end of document in element " + element.getTagName(),
+        reader.getLocation());
+  }
+
+  /**
+   * Reads the children of the element the stream is at one at a time and hands the ones with the given name to the
+   * handler, the others are skipped.
+   */
+  public void readChildren(final String name, final ElementHandler handler)
+      throws XMLStreamException, GameParseException {
+    final int parentDepth = depth;
+    while (nextChild(parentDepth)) {
+      if (getName().equals(name)) {
+        handler.handle(readElement());
+      } else {
+        skipElement();
+      }
+    }
+  }
+
+  /**
+   * Skips the element the stream is at, including all of its children.
+   */
+  public void skipElement() throws XMLStreamException {
+    final int elementDepth = depth;
+    while (reader.hasNext()) {
+      final int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+        if (depth < elementDepth) {
+          return;
+        }
+      }
+    }
+  }
+
+  private Element createElement() {
+    final String name = reader.getLocalName();
+    final Element element = document.createElement(name);
+    // includes the attributes the parser filled in from their dtd defaults
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      element.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+    }
+    return element;
+  }
+
+  private void appendText(final Element element, final StringBuilder text) {
+    if (text.length() > 0) {
+      if (text.toString().trim().length() > 0) {
+        element.appendChild(document.createTextNode(text.toString()));
+      }
+      text.setLength(0);
+    }
+  }
+
+  @Override
+  public void close() throws XMLStreamException {
+    reader.close();
+  }
+}
@@ -41,6 +41,9 @@ public class GameProperties extends GameDataComponent {
   // added.
   private final List<String> ordering = new ArrayList<>();
 
+  // replaced, while holding the lock on this, whenever a property is set or added
+  private transient volatile GamePropertiesIndex index;
+
   /**
    * Creates a new instance of Properties
    *
@@ -60,7 +63,7 @@ public class GameProperties extends GameDataComponent {
    * @param value
    *        property
    */
-  public void set(final String key, final Object value) {
+  public synchronized void set(final String key, final Object value) {
     // TODO should only accept serializable, not object
     if (value == null) {
       constantProperties.remove(key);
@@ -69,6 +72,24 @@ public class GameProperties extends GameDataComponent {
       constantProperties.put(key, value);
       ordering.add(key);
     }
+    index = new GamePropertiesIndex(constantProperties, editableProperties);
+  }
+
+  /**
+   * Returns the index of the current properties, which all lookups go through.
+   */
+  public GamePropertiesIndex getIndex() {
+    final GamePropertiesIndex current = index;
+    if (current != null) {
+      return current;
+    }
+    // only after loading a saved game, which does not store the index
+    synchronized (this) {
+      if (index == null) {
+        index = new GamePropertiesIndex(constantProperties, editableProperties);
+      }
+      return index;
+    }
   }
 
   /**
@@ -78,26 +99,15 @@ public class GameProperties extends GameDataComponent {
    *         (The object returned should not be modified, as modifications will not appear globally.)
    */
   public Object get(final String key) {
-    if (editableProperties.containsKey(key)) {
-      return editableProperties.get(key).getValue();
-    }
-    return constantProperties.get(key);
+    return getIndex().get(key);
   }
 
   public boolean get(final String key, final boolean defaultValue) {
-    final Object value = get(key);
-    if (value == null) {
-      return defaultValue;
-    }
-    return (Boolean) value;
+    return getIndex().get(key, defaultValue);
   }
 
   public int get(final String key, final int defaultValue) {
-    final Object value = get(key);
-    if (value == null) {
-      return defaultValue;
-    }
-    return (Integer) value;
+    return getIndex().get(key, defaultValue);
   }
 
   public String get(final String key, final String defaultValue) {
@@ -116,10 +126,11 @@ public class GameProperties extends GameDataComponent {
     return value;
   }
 
-  public void addEditableProperty(final IEditableProperty property) {
+  public synchronized void addEditableProperty(final IEditableProperty property) {
     // add to the editable properties
     editableProperties.put(property.getName(), property);
     ordering.add(property.getName());
+    index = new GamePropertiesIndex(constantProperties, editableProperties);
   }
 
   /**
@@ -0,0 +1,56 @@
+package games.strategy.engine.data.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * An index of the game properties, that finds any property with a single map lookup.
+ *
+ * <p>
+ * {@link GameProperties} keeps constant and editable properties apart, so each lookup used to search both maps, and
+ * the game options are looked up for nearly every unit and territory a battle or move looks at. The index joins
+ * them, editable properties taking precedence as before. It does not freeze the values: constant properties are held
+ * as they were when the index was built, and editable properties are read through, so a value changed in the options
+ * UI shows at once. Setting or adding a property through {@link GameProperties} builds a new index.
+ * </p>
+ */
+public final class GamePropertiesIndex {
+  private final Map<String, Supplier<Object>> values;
+
+  GamePropertiesIndex(final Map<String, Object> constantProperties,
+      final Map<String, IEditableProperty> editableProperties) {
+    values = new HashMap<>(constantProperties.size() + editableProperties.size());
+    for (final Map.Entry<String, Object> entry : constantProperties.entrySet()) {
+      final Object value = entry.getValue();
+      values.put(entry.getKey(), () -> value);
+    }
+    for (final Map.Entry<String, IEditableProperty> entry : editableProperties.entrySet()) {
+      values.put(entry.getKey(), entry.getValue()::getValue);
+    }
+  }
+
+  /**
+   * @return the property with the key, or null if there is none.
+   */
+  public Object get(final String key) {
+    final Supplier<Object> value = values.get(key);
+    return value == null ? null : value.get();
+  }
+
+  public boolean get(final String key, final boolean defaultValue) {
+    final Object value = get(key);
+    if (value == null) {
+      return defaultValue;
+    }
+    return (Boolean) value;
+  }
+
+  public int get(final String key, final int defaultValue) {
+    final Object value = get(key);
+    if (value == null) {
+      return defaultValue;
+    }
+    return (Integer) value;
+  }
+}
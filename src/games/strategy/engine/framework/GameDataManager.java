@@ -1,7 +1,6 @@
 package games.strategy.engine.framework;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -12,7 +11,6 @@ import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import javax.swing.JDialog;
 import javax.swing.JOptionPane;
@@ -24,6 +22,8 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.delegate.IDelegate;
 import games.strategy.engine.framework.headlessGameServer.HeadlessGameServer;
 import games.strategy.triplea.UrlConstants;
+import games.strategy.util.ParallelGzipInputStream;
+import games.strategy.util.ParallelGzipOutputStream;
 import games.strategy.util.ThreadUtil;
 import games.strategy.util.Version;
 
@@ -45,19 +45,24 @@ public class GameDataManager {
   public GameData loadGame(final File savedGameFile) throws IOException {
     try (
         FileInputStream fileInputStream = new FileInputStream(savedGameFile);
-        InputStream input = new BufferedInputStream(fileInputStream)) {
+        InputStream input = new ParallelGzipInputStream(new BufferedInputStream(fileInputStream))) {
       String path;
       try {
         path = savedGameFile.getCanonicalPath();
       } catch (final IOException e) {
         path = savedGameFile.getPath();
       }
-      return loadGame(input, path);
+      return loadUncompressedGame(input, path);
     }
   }
 
   public GameData loadGame(final InputStream inputStream, final String savegamePath) throws IOException {
-    ObjectInputStream input = new ObjectInputStream(new GZIPInputStream(inputStream));
+    return loadUncompressedGame(new GZIPInputStream(inputStream), savegamePath);
+  }
+
+  private GameData loadUncompressedGame(final InputStream inputStream, final String savegamePath)
+      throws IOException {
+    final ObjectInputStream input = new ObjectInputStream(inputStream);
     try {
       final Version readVersion = (Version) input.readObject();
       final boolean headless = HeadlessGameServer.headless();
@@ -211,24 +216,30 @@ public class GameDataManager {
 
   public void saveGame(final OutputStream sink, final GameData data, final boolean saveDelegateInfo)
       throws IOException {
-    // write internally first in case of error
-    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(25000);
-    final ObjectOutputStream outStream = new ObjectOutputStream(bytes);
-    outStream.writeObject(games.strategy.engine.ClientContext.engineVersion().getVersion());
-    data.acquireReadLock();
-    try {
-      outStream.writeObject(data);
-      if (saveDelegateInfo) {
-        writeDelegates(data, outStream);
-      } else {
-        outStream.writeObject(DELEGATE_LIST_END);
+    // serialize straight into the compressor, blocks are deflated in parallel while serialization continues
+    final ParallelGzipOutputStream zippedOut = new ParallelGzipOutputStream(sink);
+    try (final ObjectOutputStream outStream = new ObjectOutputStream(zippedOut)) {
+      boolean written = false;
+      try {
+        outStream.writeObject(games.strategy.engine.ClientContext.engineVersion().getVersion());
+        data.acquireReadLock();
+        try {
+          outStream.writeObject(data);
+          if (saveDelegateInfo) {
+            writeDelegates(data, outStream);
+          } else {
+            outStream.writeObject(DELEGATE_LIST_END);
+          }
+        } finally {
+          data.releaseReadLock();
+        }
+        written = true;
+      } finally {
+        // in case of error leave the save game truncated, so loading it fails instead of reading a partial game
+        if (!written) {
+          zippedOut.abort();
+        }
       }
-    } finally {
-      data.releaseReadLock();
-    }
-    try (final GZIPOutputStream zippedOut = new GZIPOutputStream(sink)) {
-      // now write to file
-      zippedOut.write(bytes.toByteArray());
     }
   }
 
@@ -0,0 +1,223 @@
+package games.strategy.engine.framework;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.xml.sax.SAXException;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.ClientContext;
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.engine.data.EngineVersionException;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParseException;
+import games.strategy.engine.data.GameParser;
+
+/**
+ * An on disk cache of parsed game xml files.
+ *
+ * <p>
+ * Parsing a game xml validates it against the dtd and sets every attachment option through reflection, which adds up
+ * when the game chooser parses every installed map. The first parse of a game xml is done by the {@link GameParser}
+ * as before, and the result is serialized before it is returned, so the copy written to the cache in the background
+ * is the game as parsed. Later parses of the same, unchanged xml just deserialize that copy.
+ * </p>
+ *
+ * <p>
+ * Each cache file stores the sha-256 of the xml it was built from and the engine version that built it. If either
+ * one does not match, the entry is stale: it is deleted, the xml is parsed as normal and the entry is rebuilt in the
+ * background. Entries of maps that are no longer parsed, because the map was removed or moved, are deleted once they
+ * have not been used for {@link #UNUSED_ENTRY_DAYS} days.
+ * </p>
+ */
+public class ParsedGameCache {
+  private static final String CACHE_FOLDER_NAME = "gameCache";
+  static final int UNUSED_ENTRY_DAYS = 30;
+  private static ParsedGameCache instance;
+
+  private final File cacheFolder;
+  private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder().setNameFormat("Parsed game cache writer").setDaemon(true).build());
+  private final Set<File> pendingRebuilds = ConcurrentHashMap.newKeySet();
+
+  public static synchronized ParsedGameCache getInstance() {
+    if (instance == null) {
+      instance = new ParsedGameCache(new File(ClientFileSystemHelper.getUserRootFolder(), CACHE_FOLDER_NAME));
+      instance.rebuildExecutor.execute(instance::deleteUnusedEntries);
+    }
+    return instance;
+  }
+
+  ParsedGameCache(final File cacheFolder) {
+    this.cacheFolder = cacheFolder;
+  }
+
+  /**
+   * A drop in replacement for {@code new GameParser(mapName).parse(stream, gameName, delayParsing)} that serves the
+   * result from the cache when possible.
+   *
+   * @param mapName
+   *        the name of the map xml, usually its uri, used as the cache key and in error messages.
+   */
+  public GameData parse(final String mapName, final InputStream stream, final AtomicReference<String> gameName,
+      final boolean delayParsing) throws GameParseException, SAXException, EngineVersionException, IOException {
+    if (stream == null) {
+      throw new IllegalArgumentException("Stream must be non null");
+    }
+    final byte[] xml = ByteStreams.toByteArray(stream);
+    final String contentKey = getContentKey(xml);
+    final File cacheFile = getCacheFile(mapName, delayParsing);
+    final GameData cached = load(cacheFile, contentKey);
+    if (cached != null) {
+      if (gameName != null) {
+        gameName.set(cached.getGameName());
+      }
+      return cached;
+    }
+    final GameData data = parseXml(mapName, xml, gameName, delayParsing);
+    scheduleWrite(mapName, data, contentKey, cacheFile);
+    return data;
+  }
+
+  /**
+   * A delayed parse only needs the header and the property list, which the streaming parser gets to without building
+   * a dom of the whole file.
+   */
+  private static GameData parseXml(final String mapName, final byte[] xml, final AtomicReference<String> gameName,
+      final boolean delayParsing) throws GameParseException, SAXException, EngineVersionException {
+    final GameParser parser = new GameParser(mapName);
+    if (delayParsing) {
+      return parser.parseStreaming(new ByteArrayInputStream(xml), gameName, true);
+    }
+    return parser.parse(new ByteArrayInputStream(xml), gameName, false);
+  }
+
+  private static String getContentKey(final byte[] xml) {
+    return Hashing.sha256().hashBytes(xml).toString() + ":"
+        + ClientContext.engineVersion().getVersion().toStringFull(".");
+  }
+
+  private File getCacheFile(final String mapName, final boolean delayParsing) {
+    final String name = Hashing.sha256().hashString(mapName, StandardCharsets.UTF_8).toString();
+    return new File(cacheFolder, name + (delayParsing ? ".header" : ".game"));
+  }
+
+  /**
+   * Returns the cached game data, or null if there is no valid entry for this content.
+   */
+  private static GameData load(final File cacheFile, final String contentKey) {
+    if (!cacheFile.isFile()) {
+      return null;
+    }
+    boolean stale = false;
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+      if (!contentKey.equals(input.readUTF())) {
+        stale = true;
+        return null;
+      }
+      final GameData data = new GameDataManager().loadGame(input, null);
+      if (data != null) {
+        // every parse is a new game, it must not share its id with other games started from this entry
+        data.getProperties().set(GameData.GAME_UUID, UUID.randomUUID().toString());
+        // the age of an entry is the time it was last used, see deleteUnusedEntries
+        cacheFile.setLastModified(System.currentTimeMillis());
+      }
+      return data;
+    } catch (final IOException | RuntimeException e) {
+      ClientLogger.logQuietly("Discarding unreadable game cache entry: " + cacheFile, e);
+      stale = true;
+      return null;
+    } finally {
+      // deleted once the stream is closed, which windows requires
+      if (stale) {
+        cacheFile.delete();
+      }
+    }
+  }
+
+  private void scheduleWrite(final String mapName, final GameData data, final String contentKey,
+      final File cacheFile) {
+    if (!pendingRebuilds.add(cacheFile)) {
+      return;
+    }
+    // serialize before the caller gets the data, it may start changing right away
+    final byte[] serialized;
+    try {
+      final ByteArrayOutputStream output = new ByteArrayOutputStream();
+      new GameDataManager().saveGame(output, data);
+      serialized = output.toByteArray();
+    } catch (final IOException | RuntimeException e) {
+      pendingRebuilds.remove(cacheFile);
+      ClientLogger.logQuietly("Could not cache parsed game: " + mapName, e);
+      return;
+    }
+    rebuildExecutor.execute(() -> {
+      try {
+        write(cacheFile, contentKey, serialized);
+      } catch (final IOException e) {
+        ClientLogger.logQuietly("Could not cache parsed game: " + mapName, e);
+      } finally {
+        pendingRebuilds.remove(cacheFile);
+      }
+    });
+  }
+
+  /**
+   * Deletes the entries that have not been used for {@link #UNUSED_ENTRY_DAYS} days. That includes the temp files left
+   * behind by a write that did not finish, a temp file that recent may still be written by another client sharing the
+   * folder.
+   */
+  void deleteUnusedEntries() {
+    final File[] files = cacheFolder.listFiles();
+    if (files == null) {
+      return;
+    }
+    final long oldest = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(UNUSED_ENTRY_DAYS);
+    for (final File file : files) {
+      if (file.lastModified() < oldest) {
+        file.delete();
+      }
+    }
+  }
+
+  private void write(final File cacheFile, final String contentKey, final byte[] serialized) throws IOException {
+    if (!cacheFolder.isDirectory() && !cacheFolder.mkdirs()) {
+      throw new IOException("Could not create game cache folder: " + cacheFolder);
+    }
+    // write to a temp file and move it in place, so readers never see a partial entry
+    final File tempFile = File.createTempFile(cacheFile.getName(), ".tmp", cacheFolder);
+    try {
+      try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+        output.writeUTF(contentKey);
+        output.write(serialized);
+      }
+      Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      tempFile.delete();
+    }
+  }
+}
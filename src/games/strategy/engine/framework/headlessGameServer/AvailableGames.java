@@ -24,7 +24,7 @@ import java.util.zip.ZipInputStream;
 import games.strategy.debug.ClientLogger;
 import games.strategy.engine.ClientFileSystemHelper;
 import games.strategy.engine.data.GameData;
-import games.strategy.engine.data.GameParser;
+import games.strategy.engine.framework.ParsedGameCache;
 import games.strategy.engine.framework.ui.NewGameChooserModel;
 import games.strategy.triplea.Constants;
 import games.strategy.util.UrlStreams;
@@ -153,7 +153,7 @@ public class AvailableGames {
     final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
     if (inputStream.isPresent()) {
       try (InputStream input = inputStream.get()) {
-        final GameData data = new GameParser(uri.toString()).parse(input, gameName, s_delayedParsing);
+        final GameData data = ParsedGameCache.getInstance().parse(uri.toString(), input, gameName, s_delayedParsing);
         final String name = data.getGameName();
         final String mapName = data.getProperties().get(Constants.MAP_NAME, "");
         if (!availableGames.containsKey(name)) {
@@ -195,7 +195,7 @@ public class AvailableGames {
     final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
     if (inputStream.isPresent()) {
       try (InputStream input = inputStream.get()) {
-        return new GameParser(uri.toString()).parse(input, gameName, false);
+        return ParsedGameCache.getInstance().parse(uri.toString(), input, gameName, false);
       } catch (final Exception e) {
         ClientLogger.logError("Exception while parsing: " + uri.toString() + " : "
             + (gameName.get() != null ? gameName.get() + " : " : ""), e);
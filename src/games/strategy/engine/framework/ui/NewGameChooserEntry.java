@@ -15,8 +15,8 @@ import games.strategy.engine.ClientFileSystemHelper;
 import games.strategy.engine.data.EngineVersionException;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
-import games.strategy.engine.data.GameParser;
 import games.strategy.engine.framework.GameRunner;
+import games.strategy.engine.framework.ParsedGameCache;
 import games.strategy.triplea.Constants;
 import games.strategy.util.UrlStreams;
 
@@ -43,10 +43,18 @@ public class NewGameChooserEntry {
 
   public NewGameChooserEntry(final URI uri)
       throws IOException, GameParseException, SAXException, EngineVersionException {
+    this(uri, UrlStreams.openStream(uri));
+  }
+
+  /**
+   * Creates an entry from game xml that was already read from the given uri, an empty input stream means the map was
+   * deleted.
+   */
+  NewGameChooserEntry(final URI uri, final Optional<InputStream> inputStream)
+      throws IOException, GameParseException, SAXException, EngineVersionException {
     url = uri;
     final AtomicReference<String> gameName = new AtomicReference<>();
 
-    final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
     if (!inputStream.isPresent()) {
       gameNameAndMapNameProperty = "";
       // this means the map was deleted out from under us.
@@ -55,7 +63,7 @@ public class NewGameChooserEntry {
 
     try (InputStream input = inputStream.get()) {
       final boolean delayParsing = GameRunner.getDelayedParsing();
-      gameData = new GameParser(uri.toString()).parse(input, gameName, delayParsing);
+      gameData = ParsedGameCache.getInstance().parse(uri.toString(), input, gameName, delayParsing);
       gameDataFullyLoaded = !delayParsing;
       gameNameAndMapNameProperty = getGameName() + ":" + getMapNameProperty();
     }
@@ -74,7 +82,7 @@ public class NewGameChooserEntry {
     }
 
     try (InputStream input = inputStream.get()) {
-      gameData = new GameParser(url.toString()).parse(input, gameName, false);
+      gameData = ParsedGameCache.getInstance().parse(url.toString(), input, gameName, false);
       gameDataFullyLoaded = true;
 
     } catch (final EngineVersionException e) {
@@ -105,7 +113,7 @@ public class NewGameChooserEntry {
       return;
     }
     try (InputStream input = inputStream.get()) {
-      gameData = new GameParser(url.toString()).parse(input, gameName, true);
+      gameData = ParsedGameCache.getInstance().parse(url.toString(), input, gameName, true);
       gameDataFullyLoaded = false;
     } catch (final EngineVersionException e) {
       System.out.println(e.getMessage());
@@ -1,8 +1,10 @@
 package games.strategy.engine.framework.ui;
 
 import java.awt.Component;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -10,10 +12,19 @@ import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -23,7 +34,7 @@ import javax.swing.JOptionPane;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
-import com.google.common.collect.Sets;
+import com.google.common.io.ByteStreams;
 
 import games.strategy.debug.ClientLogger;
 import games.strategy.engine.ClientFileSystemHelper;
@@ -31,23 +42,41 @@ import games.strategy.engine.data.EngineVersionException;
 import games.strategy.engine.data.GameParseException;
 import games.strategy.engine.framework.startup.ui.MainFrame;
 import games.strategy.ui.SwingAction;
+import games.strategy.util.UrlStreams;
 
 public class NewGameChooserModel extends DefaultListModel<NewGameChooserEntry> {
   private static final long serialVersionUID = -2044689419834812524L;
+  private static final int MAX_ZIP_READERS = 4;
 
-  private enum ZipProcessingResult {
-    SUCCESS, ERROR
-  }
-
+  private final Map<NewGameChooserEntry, Integer> entryPriorities = new HashMap<>();
 
+  /**
+   * Parses every installed map. Reading map zips and parsing game xml files is spread over a bounded pool of threads,
+   * and each entry is put into its sorted place in this model as soon as it is parsed. Returns once all maps are
+   * done, as callers expect to find games by name right away.
+   */
   public NewGameChooserModel() {
-    final Set<NewGameChooserEntry> parsedMapSet = parseMapFiles();
-
-    final List<NewGameChooserEntry> entries = new ArrayList<>(parsedMapSet);
-    Collections.sort(entries, NewGameChooserEntry.getComparator());
+    this(allMapFiles());
+  }
 
-    for (final NewGameChooserEntry entry : entries) {
-      addElement(entry);
+  /**
+   * @param mapFiles
+   *        the map folders and zips, a game found in one is kept over the same game found in a later one.
+   */
+  NewGameChooserModel(final List<File> mapFiles) {
+    final int parallelism = Runtime.getRuntime().availableProcessors();
+    final ForkJoinPool parsePool = new ForkJoinPool(parallelism);
+    final ExecutorService zipReaderPool = Executors.newFixedThreadPool(Math.min(MAX_ZIP_READERS, parallelism));
+    final Map<File, Optional<String>> corruptZipFiles = new ConcurrentHashMap<>();
+    try {
+      parseMapFiles(mapFiles, parsePool, zipReaderPool, corruptZipFiles);
+    } finally {
+      zipReaderPool.shutdownNow();
+      parsePool.shutdownNow();
+    }
+    // ask about corrupt zips only once all workers are done, as the dialogs need the event thread
+    for (final Map.Entry<File, Optional<String>> corruptZipFile : corruptZipFiles.entrySet()) {
+      confirmWithUserAndThenDeleteCorruptZipFile(corruptZipFile.getKey(), corruptZipFile.getValue());
     }
   }
 
@@ -77,59 +106,81 @@ public class NewGameChooserModel extends DefaultListModel<NewGameChooserEntry> {
   }
 
 
-  private Set<NewGameChooserEntry> parseMapFiles() {
-    final Set<NewGameChooserEntry> parsedMapSet = Sets.newHashSet();
-    for (final File map : allMapFiles()) {
+  private void parseMapFiles(final List<File> mapFiles, final ForkJoinPool parsePool,
+      final ExecutorService zipReaderPool, final Map<File, Optional<String>> corruptZipFiles) {
+    final List<Future<?>> parseTasks = Collections.synchronizedList(new ArrayList<>());
+    final List<Future<?>> zipTasks = new ArrayList<>();
+    for (int i = 0; i < mapFiles.size(); i++) {
+      // maps found first take priority over duplicates found later
+      final int priority = i;
+      final File map = mapFiles.get(i);
       if (map.isDirectory()) {
-        parsedMapSet.addAll(populateFromDirectory(map));
+        for (final URI gameXml : findGameXmlFiles(map)) {
+          parseTasks.add(parsePool.submit(() -> addNewGameChooserEntry(gameXml, UrlStreams.openStream(gameXml),
+              priority)));
+        }
       } else if (map.isFile() && map.getName().toLowerCase().endsWith(".zip")) {
-        parsedMapSet.addAll(populateFromZip(map));
+        zipTasks.add(zipReaderPool.submit(() -> {
+          try {
+            if (!readGameXmlFromZip(map, (gameXml, bytes) -> parseTasks.add(parsePool.submit(
+                () -> addNewGameChooserEntry(gameXml, Optional.of(new ByteArrayInputStream(bytes)), priority))))) {
+              corruptZipFiles.put(map, Optional.empty());
+            }
+          } catch (final IOException e) {
+            corruptZipFiles.put(map, Optional.ofNullable(e.getMessage()));
+          }
+        }));
       }
     }
-    return parsedMapSet;
+    // all zips must be read before all parse tasks are known
+    waitFor(zipTasks);
+    waitFor(parseTasks);
   }
 
+  private static void waitFor(final List<Future<?>> tasks) {
+    for (final Future<?> task : tasks) {
+      try {
+        task.get();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (final ExecutionException e) {
+        ClientLogger.logQuietly(e.getCause());
+      }
+    }
+  }
 
-  private static List<NewGameChooserEntry> populateFromZip(final File map) {
-    boolean badMapZip = false;
-    final List<NewGameChooserEntry> entries = new ArrayList<>();
-
+  /**
+   * Reads every game xml in the given map zip and hands it to the consumer.
+   *
+   * @return false if a game xml in the zip could not be found.
+   */
+  private static boolean readGameXmlFromZip(final File map, final BiConsumer<URI, byte[]> gameXmlConsumer)
+      throws IOException {
     try (ZipFile zipFile = new ZipFile(map);
         final URLClassLoader loader = new URLClassLoader(new URL[] {map.toURI().toURL()})) {
       final Enumeration<? extends ZipEntry> zipEntryEnumeration = zipFile.entries();
       while (zipEntryEnumeration.hasMoreElements()) {
         final ZipEntry entry = zipEntryEnumeration.nextElement();
-        if (entry.getName().contains("games/") &&  entry.getName().toLowerCase().endsWith(".xml")) {
-          final ZipProcessingResult result = processZipEntry(loader, entry, entries);
-          if (result == ZipProcessingResult.ERROR) {
-            badMapZip = true;
-            break;
+        if (entry.getName().contains("games/") && entry.getName().toLowerCase().endsWith(".xml")) {
+          final URL url = loader.getResource(entry.getName());
+          if (url == null) {
+            // not loading the URL means the XML is truncated or otherwise in bad shape
+            return false;
+          }
+          final byte[] bytes;
+          try (InputStream input = zipFile.getInputStream(entry)) {
+            bytes = ByteStreams.toByteArray(input);
+          }
+          try {
+            gameXmlConsumer.accept(new URI(url.toString().replace(" ", "%20")), bytes);
+          } catch (final URISyntaxException e) {
+            // only happens when URI couldn't be build and therefore no entry was added. That's fine ..
           }
         }
       }
-    } catch (final IOException e) {
-      confirmWithUserAndThenDeleteCorruptZipFile(map, Optional.of(e.getMessage()));
-    }
-
-    if (badMapZip) {
-      confirmWithUserAndThenDeleteCorruptZipFile(map, Optional.empty());
-    }
-    return entries;
-  }
-
-  private static ZipProcessingResult processZipEntry(final URLClassLoader loader, final ZipEntry entry,
-      final List<NewGameChooserEntry> entries) {
-    final URL url = loader.getResource(entry.getName());
-    if (url == null) {
-      // not loading the URL means the XML is truncated or otherwise in bad shape
-      return ZipProcessingResult.ERROR;
-    }
-    try {
-      addNewGameChooserEntry(entries, new URI(url.toString().replace(" ", "%20")));
-    } catch (final URISyntaxException e) {
-      // only happens when URI couldn't be build and therefore no entry was added. That's fine ..
+      return true;
     }
-    return ZipProcessingResult.SUCCESS;
   }
 
   /*
@@ -166,16 +217,16 @@ public class NewGameChooserModel extends DefaultListModel<NewGameChooserEntry> {
   }
 
   /**
-   * @param entries
-   *        list of entries where to add the new entry
-   * @param uri
-   *        URI of the new entry
+   * Parses the game xml and adds it to this model, keeping the model sorted.
+   *
+   * @param priority
+   *        if another map has the same game, the entry with the lower priority value is kept.
    */
-  private static void addNewGameChooserEntry(final List<NewGameChooserEntry> entries, final URI uri) {
+  private void addNewGameChooserEntry(final URI uri, final Optional<InputStream> inputStream, final int priority) {
     try {
-      final NewGameChooserEntry newEntry = createEntry(uri);
-      if (newEntry != null && !entries.contains(newEntry)) {
-        entries.add(newEntry);
+      final NewGameChooserEntry newEntry = createEntry(uri, inputStream);
+      if (newEntry != null && newEntry.getGameData() != null) {
+        addSorted(newEntry, priority);
       }
     } catch (final EngineVersionException e) {
       System.out.println(e.getMessage());
@@ -190,6 +241,33 @@ public class NewGameChooserModel extends DefaultListModel<NewGameChooserEntry> {
     }
   }
 
+  /**
+   * Adds the entry in its sorted place, by game name. An entry for the same game replaces the one in the model only if
+   * it has a lower priority value.
+   */
+  synchronized void addSorted(final NewGameChooserEntry entry, final int priority) {
+    final Integer existingPriority = entryPriorities.get(entry);
+    if (existingPriority != null) {
+      if (existingPriority <= priority) {
+        return;
+      }
+      removeElement(entry);
+    }
+    entryPriorities.put(entry, priority);
+    final Comparator<NewGameChooserEntry> comparator = NewGameChooserEntry.getComparator();
+    int low = 0;
+    int high = size();
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (comparator.compare(get(middle), entry) <= 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    add(low, entry);
+  }
+
   public NewGameChooserEntry findByName(final String name) {
     for (int i = 0; i < size(); i++) {
       if (get(i).getGameData().getGameName().equals(name)) {
@@ -199,13 +277,13 @@ public class NewGameChooserModel extends DefaultListModel<NewGameChooserEntry> {
     return null;
   }
 
-  private static NewGameChooserEntry createEntry(final URI uri)
+  private static NewGameChooserEntry createEntry(final URI uri, final Optional<InputStream> inputStream)
       throws IOException, GameParseException, SAXException, EngineVersionException {
-    return new NewGameChooserEntry(uri);
+    return new NewGameChooserEntry(uri, inputStream);
   }
 
-  private static List<NewGameChooserEntry> populateFromDirectory(final File mapDir) {
-    final List<NewGameChooserEntry> entries = new ArrayList<>();
+  private static List<URI> findGameXmlFiles(final File mapDir) {
+    final List<URI> gameXmlFiles = new ArrayList<>();
 
     // use contents under a "mapDir/map" folder if present, otherwise use the "mapDir/" contents directly
     final File mapFolder = new File(mapDir, "map");
@@ -215,17 +293,18 @@ public class NewGameChooserModel extends DefaultListModel<NewGameChooserEntry> {
 
     if (!games.exists()) {
       // no games in this map dir
-      return entries;
+      return gameXmlFiles;
     }
     for (final File game : games.listFiles()) {
       if (game.isFile() && game.getName().toLowerCase().endsWith("xml")) {
-        addNewGameChooserEntry(entries, game.toURI());
+        gameXmlFiles.add(game.toURI());
       }
     }
-    return entries;
+    return gameXmlFiles;
   }
 
-  public boolean removeEntry(final NewGameChooserEntry entryToBeRemoved) {
+  public synchronized boolean removeEntry(final NewGameChooserEntry entryToBeRemoved) {
+    entryPriorities.remove(entryToBeRemoved);
     return this.removeElement(entryToBeRemoved);
   }
 }
@@ -1,6 +1,9 @@
 package games.strategy.performance;
 
 import games.strategy.debug.GenericConsole;
+import games.strategy.engine.data.DerivedValue;
+import games.strategy.ui.ImageCache;
+import games.strategy.ui.SwingAction;
 
 public class PerformanceConsole extends GenericConsole {
   private static final long serialVersionUID = -1249524819991242464L;
@@ -22,6 +25,8 @@ public class PerformanceConsole extends GenericConsole {
 
   public PerformanceConsole() {
     super("Performance Log");
+    addAction(SwingAction.of("Image Caches", e -> append(ImageCache.getAllStatistics())));
+    addAction(SwingAction.of("Derived Values", e -> append(DerivedValue.getAllStatistics())));
   }
 
 }
@@ -142,6 +142,7 @@ public class ProAI extends AbstractAI {
   protected void move(final boolean nonCombat, final IMoveDelegate moveDel, final GameData data,
       final PlayerID player) {
     final long start = System.currentTimeMillis();
+    ProLogger.debug(BattleCalculator.getOOLCacheStatistics());
     BattleCalculator.clearOOLCache();
     ProLogUI.notifyStartOfRound(data.getSequence().getRound(), player.getName());
     initializeData();
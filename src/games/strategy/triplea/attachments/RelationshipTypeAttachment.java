@@ -1,6 +1,9 @@
 package games.strategy.triplea.attachments;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import games.strategy.engine.data.Attachable;
+import games.strategy.engine.data.AttachmentSlot;
 import games.strategy.engine.data.DefaultAttachment;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
@@ -20,6 +23,7 @@ public class RelationshipTypeAttachment extends DefaultAttachment {
   public static final String PROPERTY_DEFAULT = Constants.RELATIONSHIP_PROPERTY_DEFAULT;
   public static final String PROPERTY_TRUE = Constants.RELATIONSHIP_PROPERTY_TRUE;
   public static final String PROPERTY_FALSE = Constants.RELATIONSHIP_PROPERTY_FALSE;
+  private static final AtomicInteger archeTypeChangeCount = new AtomicInteger();
   private String m_archeType = ARCHETYPE_WAR;
   // private final String m_helpsDefendAtSea = PROPERTY_DEFAULT;
   private String m_canMoveLandUnitsOverOwnedLand = PROPERTY_DEFAULT;
@@ -48,7 +52,7 @@ public class RelationshipTypeAttachment extends DefaultAttachment {
    */
   public static RelationshipTypeAttachment get(final RelationshipType pr) {
     final RelationshipTypeAttachment rVal =
-        (RelationshipTypeAttachment) pr.getAttachment(Constants.RELATIONSHIPTYPE_ATTACHMENT_NAME);
+        (RelationshipTypeAttachment) pr.getAttachment(AttachmentSlot.RELATIONSHIP_TYPE);
     if (rVal == null) {
       throw new IllegalStateException("No relationshipType attachment for:" + pr.getName());
     }
@@ -92,6 +96,8 @@ public class RelationshipTypeAttachment extends DefaultAttachment {
       throw new GameParseException("archeType must be " + ARCHETYPE_WAR + "," + ARCHETYPE_ALLIED + " or "
           + ARCHETYPE_NEUTRAL + " for " + thisErrorMsg());
     }
+    // counted after the archeType is set, a matrix that reads the count first and the archeType after is never stale
+    archeTypeChangeCount.incrementAndGet();
   }
 
   /**
@@ -105,6 +111,15 @@ public class RelationshipTypeAttachment extends DefaultAttachment {
 
   public void resetArcheType() {
     m_archeType = ARCHETYPE_WAR;
+    archeTypeChangeCount.incrementAndGet();
+  }
+
+  /**
+   * Returns how often the archeType of any relationship type was set, so caches of which players are at war or
+   * allied can tell whether they are still valid.
+   */
+  public static int getArcheTypeChangeCount() {
+    return archeTypeChangeCount.get();
   }
 
   /**
@@ -6,6 +6,7 @@ import static com.google.common.base.Preconditions.checkState;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -15,6 +16,7 @@ import java.util.Set;
 
 import games.strategy.engine.data.Attachable;
 import games.strategy.engine.data.BattleRecordsList;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameMap;
 import games.strategy.engine.data.GameParseException;
@@ -78,6 +80,8 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment {
   private String[] m_enemyPresenceTerritories = null;
   // used with above 3 to determine the type of unit that must be present
   private IntegerMap<String> m_unitPresence = new IntegerMap<>();
+  // the result of the last test, kept as long as nothing the condition reads changes
+  private transient volatile TestResult m_lastTest;
 
 
   /** Creates new RulesAttachment */
@@ -655,13 +659,102 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment {
     return testedConditions.get(this);
   }
 
+  /**
+   * The result of a test of this condition, with the state of the game data it was tested in.
+   */
+  private static final class TestResult {
+    private final long changeGeneration;
+    private final int round;
+    private final boolean satisfied;
+
+    private TestResult(final long changeGeneration, final int round, final boolean satisfied) {
+      this.changeGeneration = changeGeneration;
+      this.round = round;
+      this.satisfied = satisfied;
+    }
+  }
+
+  /**
+   * Returns the parts of the game data this condition reads, or null if it has to be tested every time: when it rolls
+   * for a chance, counts how often it is met, reads a game option or contains other conditions. The round is read by
+   * most conditions and is checked apart from these.
+   */
+  private EnumSet<ChangeArea> getAreasTested() {
+    if (m_countEach || m_gameProperty != null || !m_conditions.isEmpty() || getChanceToHit() != getChanceDiceSides()
+        || getChanceIncrementOnFailure() != 0 || getChanceDecrementOnSuccess() != 0) {
+      return null;
+    }
+    // the condition's own properties, like its switch, are changed through attachment changes
+    final EnumSet<ChangeArea> areas = EnumSet.of(ChangeArea.ATTACHMENTS);
+    if (m_directPresenceTerritories != null || m_alliedPresenceTerritories != null
+        || m_enemyPresenceTerritories != null || m_directExclusionTerritories != null
+        || m_alliedExclusionTerritories != null || m_enemyExclusionTerritories != null
+        || m_enemySurfaceExclusionTerritories != null) {
+      // the territories can be given as those controlled by the players or their enemies
+      areas.add(ChangeArea.UNITS);
+      areas.add(ChangeArea.OWNERSHIP);
+      areas.add(ChangeArea.RELATIONSHIPS);
+    }
+    if (m_alliedOwnershipTerritories != null || m_directOwnershipTerritories != null) {
+      areas.add(ChangeArea.OWNERSHIP);
+      areas.add(ChangeArea.RELATIONSHIPS);
+    }
+    if (m_atWarPlayers != null || !m_relationship.isEmpty()) {
+      areas.add(ChangeArea.RELATIONSHIPS);
+    }
+    if (m_techs != null) {
+      areas.add(ChangeArea.TECHS);
+    }
+    if (m_destroyedTUV != null || !m_battle.isEmpty()) {
+      areas.add(ChangeArea.BATTLE_RECORDS);
+    }
+    return areas;
+  }
+
+  private static long getChangeGeneration(final GameData data, final EnumSet<ChangeArea> areas) {
+    long generation = 0;
+    for (final ChangeArea area : areas) {
+      generation += data.getChangeGeneration(area);
+    }
+    if (areas.contains(ChangeArea.OWNERSHIP)) {
+      // the parser and tests set territory owners directly
+      generation += Territory.getOwnerChangeCount();
+    }
+    return generation;
+  }
+
+  /**
+   * Tests the condition, unless nothing it reads has changed since the last test.
+   *
+   * <p>
+   * Trigger heavy maps test all their conditions at every trigger point, though most of them read parts of the game
+   * data that rarely change. Every condition is tested again after a change to an attachment, like switching it.
+   * </p>
+   */
   @Override
-  public boolean isSatisfied(HashMap<ICondition, Boolean> testedConditions, final IDelegateBridge aBridge) {
+  public boolean isSatisfied(final HashMap<ICondition, Boolean> testedConditions, final IDelegateBridge aBridge) {
     if (testedConditions != null) {
       if (testedConditions.containsKey(this)) {
         return testedConditions.get(this);
       }
     }
+    final GameData data = aBridge.getData();
+    final EnumSet<ChangeArea> areas = getAreasTested();
+    if (areas == null) {
+      return test(testedConditions, aBridge);
+    }
+    final long changeGeneration = getChangeGeneration(data, areas);
+    final int round = data.getSequence().getRound();
+    final TestResult lastTest = m_lastTest;
+    if (lastTest != null && lastTest.changeGeneration == changeGeneration && lastTest.round == round) {
+      return lastTest.satisfied;
+    }
+    final boolean satisfied = test(testedConditions, aBridge);
+    m_lastTest = new TestResult(changeGeneration, round, satisfied);
+    return satisfied;
+  }
+
+  private boolean test(HashMap<ICondition, Boolean> testedConditions, final IDelegateBridge aBridge) {
     boolean objectiveMet = true;
     final List<PlayerID> players = getPlayers();
     final GameData data = aBridge.getData();
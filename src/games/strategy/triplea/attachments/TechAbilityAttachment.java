@@ -4,11 +4,15 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
 import games.strategy.engine.data.Attachable;
+import games.strategy.engine.data.AttachmentSlot;
+import games.strategy.engine.data.ChangeArea;
 import games.strategy.engine.data.DefaultAttachment;
+import games.strategy.engine.data.DerivedValue;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
 import games.strategy.engine.data.PlayerID;
@@ -45,12 +49,12 @@ public class TechAbilityAttachment extends DefaultAttachment {
       final TechAdvance hardCodedAdvance = ((GenericTechAdvance) type).getAdvance();
       if (hardCodedAdvance != null) {
         final TechAbilityAttachment hardCodedTechAttachment =
-            (TechAbilityAttachment) hardCodedAdvance.getAttachment(Constants.TECH_ABILITY_ATTACHMENT_NAME);
+            (TechAbilityAttachment) hardCodedAdvance.getAttachment(AttachmentSlot.TECH_ABILITY);
         return hardCodedTechAttachment;
       }
     }
     final TechAbilityAttachment rVal =
-        (TechAbilityAttachment) type.getAttachment(Constants.TECH_ABILITY_ATTACHMENT_NAME);
+        (TechAbilityAttachment) type.getAttachment(AttachmentSlot.TECH_ABILITY);
     return rVal;
   }
 
@@ -887,155 +891,141 @@ public class TechAbilityAttachment extends DefaultAttachment {
     m_bombingBonus = new IntegerMap<>();
   }
 
-  // Static Methods for interpreting data in attachments
-  public static int getAttackBonus(final UnitType ut, final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        rVal += taa.getAttackBonus().getInt(ut);
+  /**
+   * The bonuses of all technologies a player has, summed up once instead of for every unit that asks for them.
+   */
+  private static final class TechBonuses {
+    private final IntegerMap<UnitType> attack = new IntegerMap<>();
+    private final IntegerMap<UnitType> defense = new IntegerMap<>();
+    private final IntegerMap<UnitType> movement = new IntegerMap<>();
+    private final IntegerMap<UnitType> radar = new IntegerMap<>();
+    private final IntegerMap<UnitType> airAttack = new IntegerMap<>();
+    private final IntegerMap<UnitType> airDefense = new IntegerMap<>();
+    private final IntegerMap<UnitType> production = new IntegerMap<>();
+    private final IntegerMap<UnitType> rocketDiceNumber = new IntegerMap<>();
+    private final IntegerMap<UnitType> attackRolls = new IntegerMap<>();
+    private final IntegerMap<UnitType> defenseRolls = new IntegerMap<>();
+    private final IntegerMap<UnitType> bombing = new IntegerMap<>();
+    private final IntegerMap<UnitType> airborneCapacity = new IntegerMap<>();
+    private final Map<UnitType, Set<String>> unitAbilitiesGained = new HashMap<>();
+    private final Set<UnitType> airborneTypes = new HashSet<>();
+    private final Set<UnitType> airborneBases = new HashSet<>();
+    private final Map<String, Set<UnitType>> airborneTargettedByAA = new HashMap<>();
+    private int minimumTerritoryValueForProductionBonus = -1;
+    private double repairDiscount = 1.0D;
+    private int warBondDiceSides = 0;
+    private int warBondDiceNumber = 0;
+    private int rocketDistance = 0;
+    private int rocketNumberPerTerritory = 0;
+    private boolean allowAirborneForces = false;
+    private int airborneDistance = 0;
+
+    private TechBonuses(final GameData data, final PlayerID player) {
+      for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
+        final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
+        if (taa != null) {
+          add(taa);
+        }
       }
     }
-    return rVal;
-  }
 
-  public static int getDefenseBonus(final UnitType ut, final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        rVal += taa.getDefenseBonus().getInt(ut);
+    private void add(final TechAbilityAttachment taa) {
+      attack.add(taa.getAttackBonus());
+      defense.add(taa.getDefenseBonus());
+      movement.add(taa.getMovementBonus());
+      radar.add(taa.getRadarBonus());
+      airAttack.add(taa.getAirAttackBonus());
+      airDefense.add(taa.getAirDefenseBonus());
+      production.add(taa.getProductionBonus());
+      rocketDiceNumber.add(taa.getRocketDiceNumber());
+      attackRolls.add(taa.getAttackRollsBonus());
+      defenseRolls.add(taa.getDefenseRollsBonus());
+      bombing.add(taa.getBombingBonus());
+      airborneCapacity.add(taa.getAirborneCapacity());
+      for (final Entry<UnitType, HashSet<String>> entry : taa.getUnitAbilitiesGained().entrySet()) {
+        unitAbilitiesGained.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).addAll(entry.getValue());
+      }
+      airborneTypes.addAll(taa.getAirborneTypes());
+      airborneBases.addAll(taa.getAirborneBases());
+      final HashMap<String, HashSet<UnitType>> mapAA = taa.getAirborneTargettedByAA();
+      if (mapAA != null) {
+        for (final Entry<String, HashSet<UnitType>> entry : mapAA.entrySet()) {
+          airborneTargettedByAA.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).addAll(entry.getValue());
+        }
+      }
+      final int min = taa.getMinimumTerritoryValueForProductionBonus();
+      if (min != -1
+          && (minimumTerritoryValueForProductionBonus == -1 || min < minimumTerritoryValueForProductionBonus)) {
+        minimumTerritoryValueForProductionBonus = min;
+      }
+      final int discount = taa.getRepairDiscount();
+      if (discount != -1) {
+        repairDiscount -= discount / 100.0D;
       }
+      warBondDiceSides += Math.max(0, taa.getWarBondDiceSides());
+      warBondDiceNumber += Math.max(0, taa.getWarBondDiceNumber());
+      rocketDistance += Math.max(0, taa.getRocketDistance());
+      rocketNumberPerTerritory += Math.max(0, taa.getRocketNumberPerTerritory());
+      allowAirborneForces |= taa.getAirborneForces();
+      airborneDistance += taa.getAirborneDistance();
     }
-    return rVal;
+  }
+
+  // rebuilt when any player's techs change, or when a tech ability attachment is changed
+  private static final DerivedValue<PlayerID, TechBonuses> techBonuses =
+      new DerivedValue<>("Tech bonuses", TechBonuses::new, ChangeArea.TECHS);
+
+  private static TechBonuses getTechBonuses(final PlayerID player, final GameData data) {
+    return techBonuses.get(data, player);
+  }
+
+  // Static Methods for interpreting data in attachments
+  public static int getAttackBonus(final UnitType ut, final PlayerID player, final GameData data) {
+    return getTechBonuses(player, data).attack.getInt(ut);
+  }
+
+  public static int getDefenseBonus(final UnitType ut, final PlayerID player, final GameData data) {
+    return getTechBonuses(player, data).defense.getInt(ut);
   }
 
   public static int getMovementBonus(final UnitType ut, final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        rVal += taa.getMovementBonus().getInt(ut);
-      }
-    }
-    return rVal;
+    return getTechBonuses(player, data).movement.getInt(ut);
   }
 
   public static int getRadarBonus(final UnitType ut, final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        rVal += taa.getRadarBonus().getInt(ut);
-      }
-    }
-    return rVal;
+    return getTechBonuses(player, data).radar.getInt(ut);
   }
 
   public static int getAirAttackBonus(final UnitType ut, final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        rVal += taa.getAirAttackBonus().getInt(ut);
-      }
-    }
-    return rVal;
+    return getTechBonuses(player, data).airAttack.getInt(ut);
   }
 
   public static int getAirDefenseBonus(final UnitType ut, final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        rVal += taa.getAirDefenseBonus().getInt(ut);
-      }
-    }
-    return rVal;
+    return getTechBonuses(player, data).airDefense.getInt(ut);
   }
 
   public static int getProductionBonus(final UnitType ut, final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        rVal += taa.getProductionBonus().getInt(ut);
-      }
-    }
-    return rVal;
+    return getTechBonuses(player, data).production.getInt(ut);
   }
 
   public static int getMinimumTerritoryValueForProductionBonus(final PlayerID player, final GameData data) {
-    int rVal = -1;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        final int min = taa.getMinimumTerritoryValueForProductionBonus();
-        if (min == -1) {
-          continue;
-        } else if (rVal == -1 || min < rVal) {
-          rVal = min;
-        }
-      }
-    }
-    return Math.max(0, rVal);
+    return Math.max(0, getTechBonuses(player, data).minimumTerritoryValueForProductionBonus);
   }
 
   public static double getRepairDiscount(final PlayerID player, final GameData data) {
-    double rVal = 1.0D;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        final int min = taa.getRepairDiscount();
-        if (min == -1) {
-          continue;
-        } else {
-          double fmin = min;
-          fmin = fmin / 100.0F;
-          rVal -= fmin;
-        }
-      }
-    }
-    return Math.max(0.0D, rVal);
+    return Math.max(0.0D, getTechBonuses(player, data).repairDiscount);
   }
 
   public static int getWarBondDiceSides(final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        final int sides = taa.getWarBondDiceSides();
-        if (sides > 0) {
-          rVal += sides;
-        }
-      }
-    }
-    return Math.max(0, rVal);
+    return getTechBonuses(player, data).warBondDiceSides;
   }
 
   public static int getWarBondDiceNumber(final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        final int number = taa.getWarBondDiceNumber();
-        if (number > 0) {
-          rVal += number;
-        }
-      }
-    }
-    return Math.max(0, rVal);
+    return getTechBonuses(player, data).warBondDiceNumber;
   }
 
   private static int getRocketDiceNumber(final UnitType ut, final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        rVal += taa.getRocketDiceNumber().getInt(ut);
-      }
-    }
-    return rVal;
+    return getTechBonuses(player, data).rocketDiceNumber.getInt(ut);
   }
 
   public static int getRocketDiceNumber(final Collection<Unit> rockets, final GameData data) {
@@ -1047,78 +1037,29 @@ public class TechAbilityAttachment extends DefaultAttachment {
   }
 
   public static int getRocketDistance(final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        final int distance = taa.getRocketDistance();
-        if (distance > 0) {
-          rVal += distance;
-        }
-      }
-    }
-    return Math.max(0, rVal);
+    return getTechBonuses(player, data).rocketDistance;
   }
 
   public static int getRocketNumberPerTerritory(final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        final int number = taa.getRocketNumberPerTerritory();
-        if (number > 0) {
-          rVal += number;
-        }
-      }
-    }
-    return Math.max(0, rVal);
-  }
-
-  private static HashSet<String> getUnitAbilitiesGained(final UnitType ut, final PlayerID player, final GameData data) {
-    final HashSet<String> rVal = new HashSet<>();
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        final HashSet<String> abilities = taa.getUnitAbilitiesGained().get(ut);
-        if (abilities != null) {
-          rVal.addAll(abilities);
-        }
-      }
-    }
-    return rVal;
+    return getTechBonuses(player, data).rocketNumberPerTerritory;
   }
 
   public static boolean getUnitAbilitiesGained(final String filterForAbility, final UnitType ut, final PlayerID player,
       final GameData data) {
-    final HashSet<String> abilities = getUnitAbilitiesGained(ut, player, data);
-    return abilities.contains(filterForAbility);
+    final Set<String> abilities = getTechBonuses(player, data).unitAbilitiesGained.get(ut);
+    return abilities != null && abilities.contains(filterForAbility);
   }
 
   public static boolean getAllowAirborneForces(final PlayerID player, final GameData data) {
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        if (taa.getAirborneForces()) {
-          return true;
-        }
-      }
-    }
-    return false;
+    return getTechBonuses(player, data).allowAirborneForces;
   }
 
   public static IntegerMap<UnitType> getAirborneCapacity(final PlayerID player, final GameData data) {
-    final IntegerMap<UnitType> capacityMap = new IntegerMap<>();
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        capacityMap.add(taa.getAirborneCapacity());
-      }
-    }
-    return capacityMap;
+    return new IntegerMap<>(getTechBonuses(player, data).airborneCapacity);
   }
 
   public static int getAirborneCapacity(final Collection<Unit> units, final PlayerID player, final GameData data) {
-    final IntegerMap<UnitType> capacityMap = getAirborneCapacity(player, data);
+    final IntegerMap<UnitType> capacityMap = getTechBonuses(player, data).airborneCapacity;
     int rVal = 0;
     for (final Unit u : units) {
       rVal += Math.max(0, (capacityMap.getInt(u.getType()) - ((TripleAUnit) u).getLaunched()));
@@ -1127,91 +1068,36 @@ public class TechAbilityAttachment extends DefaultAttachment {
   }
 
   public static Set<UnitType> getAirborneTypes(final PlayerID player, final GameData data) {
-    final Set<UnitType> airborneUnits = new HashSet<>();
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        airborneUnits.addAll(taa.getAirborneTypes());
-      }
-    }
-    return airborneUnits;
+    return new HashSet<>(getTechBonuses(player, data).airborneTypes);
   }
 
   public static int getAirborneDistance(final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        rVal += taa.getAirborneDistance();
-      }
-    }
-    return Math.max(0, rVal);
+    return Math.max(0, getTechBonuses(player, data).airborneDistance);
   }
 
   public static Set<UnitType> getAirborneBases(final PlayerID player, final GameData data) {
-    final Set<UnitType> airborneBases = new HashSet<>();
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        airborneBases.addAll(taa.getAirborneBases());
-      }
-    }
-    return airborneBases;
+    return new HashSet<>(getTechBonuses(player, data).airborneBases);
   }
 
   public static HashMap<String, HashSet<UnitType>> getAirborneTargettedByAA(final PlayerID player,
       final GameData data) {
     final HashMap<String, HashSet<UnitType>> rVal = new HashMap<>();
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        final HashMap<String, HashSet<UnitType>> mapAA = taa.getAirborneTargettedByAA();
-        if (mapAA != null && !mapAA.isEmpty()) {
-          for (final Entry<String, HashSet<UnitType>> entry : mapAA.entrySet()) {
-            HashSet<UnitType> current = rVal.get(entry.getKey());
-            if (current == null) {
-              current = new HashSet<>();
-            }
-            current.addAll(entry.getValue());
-            rVal.put(entry.getKey(), current);
-          }
-        }
-      }
+    for (final Entry<String, Set<UnitType>> entry : getTechBonuses(player, data).airborneTargettedByAA.entrySet()) {
+      rVal.put(entry.getKey(), new HashSet<>(entry.getValue()));
     }
     return rVal;
   }
 
   public static int getAttackRollsBonus(final UnitType ut, final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        rVal += taa.getAttackRollsBonus().getInt(ut);
-      }
-    }
-    return rVal;
+    return getTechBonuses(player, data).attackRolls.getInt(ut);
   }
 
   public static int getDefenseRollsBonus(final UnitType ut, final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        rVal += taa.getDefenseRollsBonus().getInt(ut);
-      }
-    }
-    return rVal;
+    return getTechBonuses(player, data).defenseRolls.getInt(ut);
   }
 
   public static int getBombingBonus(final UnitType ut, final PlayerID player, final GameData data) {
-    int rVal = 0;
-    for (final TechAdvance ta : TechTracker.getCurrentTechAdvances(player, data)) {
-      final TechAbilityAttachment taa = TechAbilityAttachment.get(ta);
-      if (taa != null) {
-        rVal += taa.getBombingBonus().getInt(ut);
-      }
-    }
-    return rVal;
+    return getTechBonuses(player, data).bombing.getInt(ut);
   }
 
   /**
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Set;
 
 import games.strategy.engine.data.Attachable;
+import games.strategy.engine.data.AttachmentSlot;
 import games.strategy.engine.data.DefaultAttachment;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
@@ -138,7 +139,7 @@ public class TerritoryAttachment extends DefaultAttachment {
    * Convenience method. Can return null.
    */
   public static TerritoryAttachment get(final Territory t) {
-    return (TerritoryAttachment) t.getAttachment(Constants.TERRITORY_ATTACHMENT_NAME);
+    return (TerritoryAttachment) t.getAttachment(AttachmentSlot.TERRITORY);
   }
 
   public static TerritoryAttachment get(final Territory t, final String nameOfAttachment) {
@@ -13,6 +13,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 
 import games.strategy.engine.data.Attachable;
+import games.strategy.engine.data.AttachmentSlot;
 import games.strategy.engine.data.DefaultAttachment;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
@@ -49,7 +50,7 @@ public class UnitAttachment extends DefaultAttachment {
    * Convenience method.
    */
   public static UnitAttachment get(final UnitType type) {
-    final UnitAttachment rVal = (UnitAttachment) type.getAttachment(Constants.UNIT_ATTACHMENT_NAME);
+    final UnitAttachment rVal = (UnitAttachment) type.getAttachment(AttachmentSlot.UNIT);
     if (rVal == null) {
       throw new IllegalStateException("No unit type attachment for:" + type.getName());
     }
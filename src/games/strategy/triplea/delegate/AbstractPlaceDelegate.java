@@ -780,7 +780,7 @@ public abstract class AbstractPlaceDelegate extends BaseTripleADelegate implemen
         if (GameStepPropertiesHelper.isBid(getData())) {
           final PlayerAttachment pa = PlayerAttachment.get(to.getOwner());
           if ((pa == null || pa.getGiveUnitControl() == null || !pa.getGiveUnitControl().contains(player))
-              && !to.getUnits().someMatch(Matches.unitIsOwnedBy(player))) {
+              && to.getUnits().getUnitCount(player) == 0) {
             return "You don't own " + to.getName();
           }
         } else {
@@ -12,8 +12,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
+import games.strategy.engine.data.ChangeArea;
+import games.strategy.engine.data.DerivedValue;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.NamedAttachable;
 import games.strategy.engine.data.PlayerID;
@@ -53,10 +54,30 @@ import games.strategy.util.Tuple;
  * was being dduplicated all over the place.
  */
 public class BattleCalculator {
-  private static Map<String, List<UnitType>> oolCache = new ConcurrentHashMap<>();
+  // the costs only change with the production frontiers and rules, and are asked for by every battle and AI move
+  private static final DerivedValue<PlayerID, IntegerMap<UnitType>> costsForTuv =
+      new DerivedValue<>("Costs for TUV", BattleCalculator::computeCostsForTuv, ChangeArea.PRODUCTION);
+  private static final DerivedValue<Void, IntegerMap<UnitType>> costsForTuvForAllPlayersMergedAndAveraged =
+      new DerivedValue<>("Costs for TUV of all players",
+          (data, none) -> computeCostsForTuvForAllPlayersMergedAndAveraged(data), ChangeArea.PRODUCTION);
+  // the orders of loss depend on techs, relationships, unit costs from the production frontiers and the unit and support
+  // attachments, changes to attachments count for every area
+  private static final DerivedValue<Void, CasualtyOrderCache> casualtyOrderCache =
+      new DerivedValue<>("Casualty order caches", (data, none) -> new CasualtyOrderCache(), ChangeArea.TECHS,
+          ChangeArea.RELATIONSHIPS, ChangeArea.PRODUCTION);
 
+  /**
+   * Empties the casualty order caches of all game data.
+   */
   public static void clearOOLCache() {
-    oolCache.clear();
+    CasualtyOrderCache.clearAll();
+  }
+
+  /**
+   * Returns the hits, misses and evictions of the casualty order caches of all game data, one per line.
+   */
+  public static String getOOLCacheStatistics() {
+    return CasualtyOrderCache.getAllStatistics();
   }
 
   // There is a problem with this variable, that it isn't
@@ -694,48 +715,14 @@ public class BattleCalculator {
       final Collection<TerritoryEffect> territoryEffects, final GameData data, final boolean allowMultipleHitsPerUnit,
       final boolean bonus) {
 
-    // Convert unit lists to unit type lists
-    final List<UnitType> targetTypes = new ArrayList<>();
-    for (final Unit u : targetsToPickFrom) {
-      targetTypes.add(u.getType());
-    }
-    final List<UnitType> amphibTypes = new ArrayList<>();
-    if (amphibiousLandAttackers != null) {
-      for (final Unit u : amphibiousLandAttackers) {
-        amphibTypes.add(u.getType());
-      }
-    }
-    // Calculate hashes and cache key
-    int targetsHashCode = 1;
-    for (final UnitType ut : targetTypes) {
-      targetsHashCode += ut.hashCode();
-    }
-    targetsHashCode *= 31;
-    int amphibHashCode = 1;
-    for (final UnitType ut : amphibTypes) {
-      amphibHashCode += ut.hashCode();
-    }
-    amphibHashCode *= 31;
-    String key = player.getName() + "|" + battlesite.getName() + "|" + defending + "|" + amphibious + "|"
-        + targetsHashCode + "|" + amphibHashCode;
     // Check OOL cache
-    final List<UnitType> stored = oolCache.get(key);
+    final CasualtyOrderCache cache = casualtyOrderCache.get(data);
+    final CasualtyOrderCache.Key key = new CasualtyOrderCache.Key(targetsToPickFrom, player, enemyUnits, amphibious,
+        amphibiousLandAttackers, battlesite, defending, bonus);
+    final List<Unit> stored = cache.get(key, targetsToPickFrom);
     if (stored != null) {
-      // System.out.println("Hit with cacheSize=" + oolCache.size() + ", key=" + key);
-      final List<Unit> result = new ArrayList<>();
-      final List<Unit> selectFrom = new ArrayList<>(targetsToPickFrom);
-      for (final UnitType ut : stored) {
-        for (final Iterator<Unit> it = selectFrom.iterator(); it.hasNext();) {
-          final Unit u = it.next();
-          if (ut.equals(u.getType())) {
-            result.add(u);
-            it.remove();
-          }
-        }
-      }
-      return result;
+      return stored;
     }
-    // System.out.println("Miss with cacheSize=" + oolCache.size() + ", key=" + key);
     // Sort enough units to kill off
     final List<Unit> sortedUnitsList = new ArrayList<>(targetsToPickFrom);
     Collections.sort(sortedUnitsList, new UnitBattleComparator(defending, costs, territoryEffects, data, bonus, false));
@@ -871,31 +858,7 @@ public class BattleCalculator {
     }
     sortedWellEnoughUnitsList.addAll(sortedUnitsList);
     // Cache result and all subsets of the result
-    final List<UnitType> unitTypes = new ArrayList<>();
-    for (final Unit u : sortedWellEnoughUnitsList) {
-      unitTypes.add(u.getType());
-    }
-    for (final Iterator<UnitType> it = unitTypes.iterator(); it.hasNext();) {
-      oolCache.put(key, new ArrayList<>(unitTypes));
-      final UnitType unitTypeToRemove = it.next();
-      targetTypes.remove(unitTypeToRemove);
-      if (Collections.frequency(targetTypes, unitTypeToRemove) < Collections.frequency(amphibTypes, unitTypeToRemove)) {
-        amphibTypes.remove(unitTypeToRemove);
-      }
-      targetsHashCode = 1;
-      for (final UnitType ut : targetTypes) {
-        targetsHashCode += ut.hashCode();
-      }
-      targetsHashCode *= 31;
-      amphibHashCode = 1;
-      for (final UnitType ut : amphibTypes) {
-        amphibHashCode += ut.hashCode();
-      }
-      amphibHashCode *= 31;
-      key = player.getName() + "|" + battlesite.getName() + "|" + defending + "|" + amphibious + "|" + targetsHashCode
-          + "|" + amphibHashCode;
-      it.remove();
-    }
+    cache.put(key, sortedWellEnoughUnitsList);
     return sortedWellEnoughUnitsList;
   }
 
@@ -922,6 +885,10 @@ public class BattleCalculator {
    * @return a map of unit types to PU cost
    */
   public static IntegerMap<UnitType> getCostsForTUV(final PlayerID player, final GameData data) {
+    return new IntegerMap<>(costsForTuv.get(data, player));
+  }
+
+  private static IntegerMap<UnitType> computeCostsForTuv(final GameData data, final PlayerID player) {
     final Resource PUS;
     data.acquireReadLock();
     try {
@@ -968,11 +935,10 @@ public class BattleCalculator {
    * @param data
    */
   public static IntegerMap<UnitType> getCostsForTuvForAllPlayersMergedAndAveraged(final GameData data) {
-    /*
-     * if (s_costsForTuvForAllPlayersMergedAndAveraged != null && s_costsForTuvForAllPlayersMergedAndAveraged.size() >
-     * 0)
-     * return s_costsForTuvForAllPlayersMergedAndAveraged;
-     */
+    return new IntegerMap<>(costsForTuvForAllPlayersMergedAndAveraged.get(data));
+  }
+
+  private static IntegerMap<UnitType> computeCostsForTuvForAllPlayersMergedAndAveraged(final GameData data) {
     final Resource PUS;
     data.acquireReadLock();
     try {
@@ -1010,9 +976,6 @@ public class BattleCalculator {
       final int averagedCost = (int) Math.round(((double) totalCosts / (double) costsForType.size()));
       costs.put(ut, averagedCost);
     }
-    // There is a problem with this variable, that it isn't being cleared out when we
-    // s_costsForTuvForAllPlayersMergedAndAveraged = costs;
-    // switch maps.
     return costs;
   }
 
@@ -42,7 +42,7 @@ public class BidPlaceDelegate extends AbstractPlaceDelegate {
         return "Cant place land units at sea";
       } else if (to.getUnits().someMatch(Matches.enemyUnit(player, getData()))) {
         return "Cant place in sea zone containing enemy units";
-      } else if (!to.getUnits().someMatch(Matches.unitIsOwnedBy(player))) {
+      } else if (to.getUnits().getUnitCount(player) == 0) {
         return "Cant place in sea zone that does not contain a unit owned by you";
       } else {
         return null;
@@ -57,7 +57,7 @@ public class BidPlaceDelegate extends AbstractPlaceDelegate {
         final PlayerAttachment pa = PlayerAttachment.get(to.getOwner());
         if (pa != null && pa.getGiveUnitControl() != null && pa.getGiveUnitControl().contains(player)) {
           return null;
-        } else if (to.getUnits().someMatch(Matches.unitIsOwnedBy(player))) {
+        } else if (to.getUnits().getUnitCount(player) > 0) {
           return null;
         }
         return "You dont own " + to.getName();
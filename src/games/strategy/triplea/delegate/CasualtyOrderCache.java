@@ -0,0 +1,270 @@
+package games.strategy.triplea.delegate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.util.IntegerMap;
+
+/**
+ * The orders in which units are taken as casualties, cached by exactly the units they were worked out for.
+ *
+ * <p>
+ * Working out the order of loss with support takes time quadratic in the number of units, and the odds calculator and
+ * the AI ask for it for the same armies over and over. An order is cached under the unit types, owners and hits of the
+ * targets, of the amphibious attackers and of the enemy units, which can take support away, together with the
+ * player, the battle site and whether the units defend. Units that only differ in their identity share an order.
+ * </p>
+ *
+ * <p>
+ * A cache belongs to one game data, so each odds calculator worker, which works on its own copy of the game data, has
+ * its own. It keeps the {@link #MAX_ENTRIES} most recently used orders and counts hits, misses and evictions. The
+ * cache is thread safe.
+ * </p>
+ */
+final class CasualtyOrderCache {
+  static final int MAX_ENTRIES = 10000;
+  private static final Set<CasualtyOrderCache> allCaches = Collections.newSetFromMap(new WeakHashMap<>());
+
+  private final LinkedHashMap<Key, List<UnitKind>> orders = new LinkedHashMap<Key, List<UnitKind>>(16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<Key, List<UnitKind>> eldest) {
+      if (size() > MAX_ENTRIES) {
+        evictions++;
+        return true;
+      }
+      return false;
+    }
+  };
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  CasualtyOrderCache() {
+    synchronized (allCaches) {
+      allCaches.add(this);
+    }
+  }
+
+  /**
+   * What a unit's place in the order of loss can depend on, other than the other units.
+   */
+  static final class UnitKind {
+    private final UnitType type;
+    private final PlayerID owner;
+    private final int hits;
+
+    UnitKind(final Unit unit) {
+      type = unit.getType();
+      owner = unit.getOwner();
+      hits = unit.getHits();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (!(other instanceof UnitKind)) {
+        return false;
+      }
+      final UnitKind kind = (UnitKind) other;
+      return type.equals(kind.type) && Objects.equals(owner, kind.owner) && hits == kind.hits;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, owner, hits);
+    }
+  }
+
+  /**
+   * The units and battle an order of loss is worked out for. What the order also depends on from the game data, like
+   * techs and unit costs, is not part of the key; the cache is replaced when that changes.
+   */
+  static final class Key {
+    private final PlayerID player;
+    private final Territory battlesite;
+    private final boolean defending;
+    private final boolean amphibious;
+    private final boolean bonus;
+    private final IntegerMap<UnitKind> targets;
+    private final IntegerMap<UnitKind> amphibiousLandAttackers;
+    private final IntegerMap<UnitKind> enemyUnits;
+    private final int hashCode;
+
+    private Key(final PlayerID player, final Territory battlesite, final boolean defending,
+        final boolean amphibious, final boolean bonus, final IntegerMap<UnitKind> targets,
+        final IntegerMap<UnitKind> amphibiousLandAttackers, final IntegerMap<UnitKind> enemyUnits) {
+      this.player = player;
+      this.battlesite = battlesite;
+      this.defending = defending;
+      this.amphibious = amphibious;
+      this.bonus = bonus;
+      this.targets = targets;
+      this.amphibiousLandAttackers = amphibiousLandAttackers;
+      this.enemyUnits = enemyUnits;
+      hashCode = Objects.hash(player, battlesite, defending, amphibious, bonus, targets, amphibiousLandAttackers,
+          enemyUnits);
+    }
+
+    Key(final Collection<Unit> targets, final PlayerID player, final Collection<Unit> enemyUnits,
+        final boolean amphibious, final Collection<Unit> amphibiousLandAttackers, final Territory battlesite,
+        final boolean defending, final boolean bonus) {
+      this(player, battlesite, defending, amphibious, bonus, count(targets), count(amphibiousLandAttackers),
+          count(enemyUnits));
+    }
+
+    private static IntegerMap<UnitKind> count(final Collection<Unit> units) {
+      final IntegerMap<UnitKind> kinds = new IntegerMap<>();
+      if (units != null) {
+        for (final Unit unit : units) {
+          kinds.add(new UnitKind(unit), 1);
+        }
+      }
+      return kinds;
+    }
+
+    /**
+     * Returns the key for the targets without one unit of the kind, which is also taken from the amphibious attackers
+     * if there are more of them than targets left.
+     */
+    private Key without(final UnitKind kind) {
+      final IntegerMap<UnitKind> remainingTargets = new IntegerMap<>(targets);
+      removeOne(remainingTargets, kind);
+      final IntegerMap<UnitKind> remainingAmphibious = new IntegerMap<>(amphibiousLandAttackers);
+      if (remainingAmphibious.getInt(kind) > remainingTargets.getInt(kind)) {
+        removeOne(remainingAmphibious, kind);
+      }
+      return new Key(player, battlesite, defending, amphibious, bonus, remainingTargets, remainingAmphibious,
+          enemyUnits);
+    }
+
+    private static void removeOne(final IntegerMap<UnitKind> kinds, final UnitKind kind) {
+      kinds.add(kind, -1);
+      if (kinds.getInt(kind) <= 0) {
+        kinds.removeKey(kind);
+      }
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      final Key key = (Key) other;
+      return hashCode == key.hashCode && defending == key.defending && amphibious == key.amphibious
+          && bonus == key.bonus && player.equals(key.player) && battlesite.equals(key.battlesite)
+          && targets.equals(key.targets) && amphibiousLandAttackers.equals(key.amphibiousLandAttackers)
+          && enemyUnits.equals(key.enemyUnits);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  /**
+   * Returns the targets in the cached order of loss for the key, or null if there is none.
+   */
+  List<Unit> get(final Key key, final Collection<Unit> targets) {
+    final List<UnitKind> order;
+    synchronized (this) {
+      order = orders.get(key);
+      if (order == null) {
+        misses++;
+        return null;
+      }
+      hits++;
+    }
+    final List<Unit> result = new ArrayList<>(targets.size());
+    final List<Unit> selectFrom = new ArrayList<>(targets);
+    for (final UnitKind kind : order) {
+      for (final Iterator<Unit> it = selectFrom.iterator(); it.hasNext();) {
+        final Unit unit = it.next();
+        if (kind.equals(new UnitKind(unit))) {
+          result.add(unit);
+          it.remove();
+          break;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Caches the order of loss for the key, and for each key without the first units of the order the rest of it.
+   */
+  void put(final Key key, final List<Unit> orderOfLoss) {
+    final List<UnitKind> order = new ArrayList<>(orderOfLoss.size());
+    for (final Unit unit : orderOfLoss) {
+      order.add(new UnitKind(unit));
+    }
+    Key current = key;
+    synchronized (this) {
+      for (int i = 0; i < order.size(); i++) {
+        orders.put(current, Collections.unmodifiableList(new ArrayList<>(order.subList(i, order.size()))));
+        current = current.without(order.get(i));
+      }
+    }
+  }
+
+  synchronized void clear() {
+    orders.clear();
+  }
+
+  synchronized long getHits() {
+    return hits;
+  }
+
+  synchronized long getMisses() {
+    return misses;
+  }
+
+  synchronized long getEvictions() {
+    return evictions;
+  }
+
+  synchronized String getStatistics() {
+    final long lookups = hits + misses;
+    return "Casualty order cache: " + orders.size() + " orders, hits: " + hits + ", misses: " + misses
+        + ", hit rate: " + (lookups == 0 ? 0 : 100 * hits / lookups) + "%, evictions: " + evictions;
+  }
+
+  /**
+   * Empties every casualty order cache in use.
+   */
+  static void clearAll() {
+    for (final CasualtyOrderCache cache : getAllCaches()) {
+      cache.clear();
+    }
+  }
+
+  /**
+   * Returns the statistics of every casualty order cache in use, one per line.
+   */
+  static String getAllStatistics() {
+    final StringBuilder statistics = new StringBuilder();
+    for (final CasualtyOrderCache cache : getAllCaches()) {
+      statistics.append(cache.getStatistics()).append("\n");
+    }
+    return statistics.toString();
+  }
+
+  private static List<CasualtyOrderCache> getAllCaches() {
+    synchronized (allCaches) {
+      return new ArrayList<>(allCaches);
+    }
+  }
+}
@@ -16,6 +16,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import games.strategy.engine.data.ChangeArea;
+import games.strategy.engine.data.DerivedValue;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
@@ -46,6 +48,10 @@ import games.strategy.util.Tuple;
  */
 public class DiceRoll implements Externalizable {
   private static final long serialVersionUID = -1167204061937566271L;
+  // the power of units depends on techs and the unit, support and rules attachments, changes to attachments count
+  // for every area
+  private static final DerivedValue<Void, PowerTableCache> powerTableCache =
+      new DerivedValue<>("Power table caches", (data, none) -> new PowerTableCache(), ChangeArea.TECHS);
   private List<Die> m_rolls;
   // this does not need to match the Die with isHit true
   // since for low luck we get many hits with few dice
@@ -396,6 +402,9 @@ public class DiceRoll implements Externalizable {
   }
 
   /**
+   * The power and rolls are cached by the kinds of units they are worked out for, so later rounds of a battle and
+   * repeated trials of the odds calculator reuse them.
+   *
    * @param unitsGettingPowerFor
    *        should be sorted from weakest to strongest, before the method is called, for the actual battle
    */
@@ -405,10 +414,26 @@ public class DiceRoll implements Externalizable {
       final Collection<TerritoryEffect> territoryEffects, final boolean isAmphibiousBattle,
       final Collection<Unit> amphibiousLandAttackers) {
 
-    return getUnitPowerAndRollsForNormalBattles(unitsGettingPowerFor,
+    if (unitsGettingPowerFor == null || unitsGettingPowerFor.isEmpty()) {
+      return new HashMap<>();
+    }
+    final PowerTableCache cache = getPowerTableCache(data);
+    final PowerTableCache.Key key = new PowerTableCache.Key(unitsGettingPowerFor, allEnemyUnitsAliveOrWaitingToDie,
+        defending, bombing, data, location, territoryEffects, isAmphibiousBattle, amphibiousLandAttackers);
+    final Map<Unit, Tuple<Integer, Integer>> cached = cache.get(key, unitsGettingPowerFor);
+    if (cached != null) {
+      return cached;
+    }
+    final Map<Unit, Tuple<Integer, Integer>> rVal = getUnitPowerAndRollsForNormalBattles(unitsGettingPowerFor,
         allEnemyUnitsAliveOrWaitingToDie, defending, bombing, data, location, territoryEffects,
         isAmphibiousBattle, amphibiousLandAttackers, new HashMap<>(),
         new HashMap<>());
+    cache.put(key, unitsGettingPowerFor, rVal);
+    return rVal;
+  }
+
+  static PowerTableCache getPowerTableCache(final GameData data) {
+    return powerTableCache.get(data);
   }
 
   /**
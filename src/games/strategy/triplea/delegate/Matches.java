@@ -2036,6 +2036,18 @@ public class Matches {
     };
   }
 
+  /**
+   * Matches the owners of the units {@link #alliedUnit(PlayerID, GameData)} matches.
+   */
+  private static Match<PlayerID> alliedUnitOwner(final PlayerID player, final GameData data) {
+    return new Match<PlayerID>() {
+      @Override
+      public boolean match(final PlayerID owner) {
+        return owner.equals(player) || data.getRelationshipTracker().isAllied(player, owner);
+      }
+    };
+  }
+
   public static Match<Unit> alliedUnit(final PlayerID player, final GameData data) {
     return new Match<Unit>() {
       @Override
@@ -2120,7 +2132,7 @@ public class Matches {
     return new Match<Territory>() {
       @Override
       public boolean match(final Territory t) {
-        return !t.getUnits().someMatch(enemyUnit(player, data));
+        return !t.getUnits().someOwnerMatches(isAtWar(player, data));
       }
     };
   }
@@ -2129,7 +2141,7 @@ public class Matches {
     return new Match<Territory>() {
       @Override
       public boolean match(final Territory t) {
-        return !t.getUnits().someMatch(alliedUnit(player, data));
+        return !t.getUnits().someOwnerMatches(alliedUnitOwner(player, data));
       }
     };
   }
@@ -2138,7 +2150,7 @@ public class Matches {
     return new Match<Territory>() {
       @Override
       public boolean match(final Territory t) {
-        return t.getUnits().someMatch(alliedUnit(player, data));
+        return t.getUnits().someOwnerMatches(alliedUnitOwner(player, data));
       }
     };
   }
@@ -2177,7 +2189,8 @@ public class Matches {
     return new Match<Territory>() {
       @Override
       public boolean match(final Territory t) {
-        return t.getUnits().someMatch(enemyUnit(player, data)) && t.getUnits().someMatch(Matches.UnitCanBlitz);
+        return t.getUnits().someOwnerMatches(isAtWar(player, data))
+            && t.getUnits().someMatch(Matches.UnitCanBlitz);
       }
     };
   }
@@ -2186,7 +2199,7 @@ public class Matches {
     return new Match<Territory>() {
       @Override
       public boolean match(final Territory t) {
-        return t.getUnits().someMatch(enemyUnit(player, data));
+        return t.getUnits().someOwnerMatches(isAtWar(player, data));
       }
     };
   }
@@ -2941,8 +2954,7 @@ public class Matches {
     return new Match<PlayerID>() {
       @Override
       public boolean match(final PlayerID player2) {
-        return Matches.RelationshipTypeIsAtWar
-            .match(data.getRelationshipTracker().getRelationshipType(player, player2));
+        return data.getRelationshipTracker().isAtWar(player, player2);
       }
     };
   }
@@ -2961,8 +2973,7 @@ public class Matches {
     return new Match<PlayerID>() {
       @Override
       public boolean match(final PlayerID player2) {
-        return Matches.RelationshipTypeIsAllied
-            .match(data.getRelationshipTracker().getRelationshipType(player, player2));
+        return data.getRelationshipTracker().isAllied(player, player2);
       }
     };
   }
@@ -392,7 +392,7 @@ public class MoveValidator {
         return result.setErrorReturnResult("Cannot move submarines under destroyers");
       }
     }
-    if (end.getUnits().someMatch(Matches.enemyUnit(player, data))) {
+    if (Matches.territoryHasEnemyUnits(player, data).match(end)) {
       if (!onlyIgnoredUnitsOnPath(route, player, data, false)) {
         final CompositeMatch<Unit> friendlyOrSubmerged = new CompositeMatchOr<>();
         friendlyOrSubmerged.add(Matches.enemyUnit(player, data).invert());
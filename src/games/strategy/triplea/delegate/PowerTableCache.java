@@ -0,0 +1,188 @@
+package games.strategy.triplea.delegate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameStep;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.util.IntegerMap;
+import games.strategy.util.Tuple;
+
+/**
+ * The power and rolls of the units in a battle, cached by exactly the units they were worked out for.
+ *
+ * <p>
+ * Working out the power of units with support looks at every support rule for every unit, and a battle does it for
+ * both sides in every round, the odds calculator for thousands of battles between the same armies. Which unit gets
+ * the support depends on the order of the units, so a table is cached under the unit types and owners of the units in
+ * their order, and of the enemy units, together with everything else the power depends on: the battle site and its
+ * territory effects, whether the units defend or bomb, whether the battle is amphibious and which units land from the
+ * sea, and the player whose turn it is in the first round. A round with fewer units, or a trial with other units of
+ * the same kinds, finds the table it needs once it was worked out.
+ * </p>
+ *
+ * <p>
+ * A cache belongs to one game data and keeps the {@link #MAX_ENTRIES} most recently used tables. The cache is thread
+ * safe.
+ * </p>
+ */
+final class PowerTableCache {
+  static final int MAX_ENTRIES = 10000;
+
+  private final LinkedHashMap<Key, List<Tuple<Integer, Integer>>> tables =
+      new LinkedHashMap<Key, List<Tuple<Integer, Integer>>>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, List<Tuple<Integer, Integer>>> eldest) {
+          return size() > MAX_ENTRIES;
+        }
+      };
+  private long hits = 0;
+  private long misses = 0;
+
+  /**
+   * What a unit's power can depend on, other than the other units and the battle.
+   */
+  private static final class UnitKind {
+    private final UnitType type;
+    private final PlayerID owner;
+    private final boolean landingFromSea;
+
+    private UnitKind(final Unit unit, final boolean landingFromSea) {
+      type = unit.getType();
+      owner = unit.getOwner();
+      this.landingFromSea = landingFromSea;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (!(other instanceof UnitKind)) {
+        return false;
+      }
+      final UnitKind kind = (UnitKind) other;
+      return type.equals(kind.type) && Objects.equals(owner, kind.owner) && landingFromSea == kind.landingFromSea;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, owner, landingFromSea);
+    }
+  }
+
+  /**
+   * Everything a power table is worked out from.
+   */
+  static final class Key {
+    private final List<UnitKind> units;
+    private final IntegerMap<UnitKind> enemyUnits;
+    private final boolean defending;
+    private final boolean bombing;
+    private final Territory location;
+    private final Set<TerritoryEffect> territoryEffects;
+    private final boolean amphibious;
+    private final boolean firstRound;
+    private final PlayerID firstRoundPlayer;
+    private final int hashCode;
+
+    Key(final List<Unit> units, final List<Unit> enemyUnits, final boolean defending, final boolean bombing,
+        final GameData data, final Territory location, final Collection<TerritoryEffect> territoryEffects,
+        final boolean amphibious, final Collection<Unit> amphibiousLandAttackers) {
+      this.units = new ArrayList<>(units.size());
+      for (final Unit unit : units) {
+        this.units.add(new UnitKind(unit,
+            amphibious && amphibiousLandAttackers != null && amphibiousLandAttackers.contains(unit)));
+      }
+      this.enemyUnits = new IntegerMap<>();
+      if (enemyUnits != null) {
+        for (final Unit unit : enemyUnits) {
+          this.enemyUnits.add(new UnitKind(unit, false), 1);
+        }
+      }
+      this.defending = defending;
+      this.bombing = bombing;
+      this.location = location;
+      this.territoryEffects =
+          territoryEffects == null ? Collections.emptySet() : new HashSet<>(territoryEffects);
+      this.amphibious = amphibious;
+      // the first round may limit the power to the player whose turn it is
+      firstRound = data.getSequence().getRound() == 1;
+      final GameStep step = firstRound ? data.getSequence().getStep() : null;
+      firstRoundPlayer = step == null ? null : step.getPlayerID();
+      hashCode = Objects.hash(this.units, this.enemyUnits, defending, bombing, location, this.territoryEffects,
+          amphibious, firstRound, firstRoundPlayer);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      final Key key = (Key) other;
+      return hashCode == key.hashCode && defending == key.defending && bombing == key.bombing
+          && amphibious == key.amphibious && firstRound == key.firstRound
+          && Objects.equals(firstRoundPlayer, key.firstRoundPlayer) && Objects.equals(location, key.location)
+          && territoryEffects.equals(key.territoryEffects) && units.equals(key.units)
+          && enemyUnits.equals(key.enemyUnits);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  /**
+   * Returns the power and rolls of the units from the cached table for the key, or null if there is none.
+   */
+  Map<Unit, Tuple<Integer, Integer>> get(final Key key, final List<Unit> units) {
+    final List<Tuple<Integer, Integer>> table;
+    synchronized (this) {
+      table = tables.get(key);
+      if (table == null) {
+        misses++;
+        return null;
+      }
+      hits++;
+    }
+    final Map<Unit, Tuple<Integer, Integer>> powerAndRolls = new HashMap<>();
+    for (int i = 0; i < units.size(); i++) {
+      powerAndRolls.put(units.get(i), table.get(i));
+    }
+    return powerAndRolls;
+  }
+
+  /**
+   * Caches the power and rolls of the units for the key.
+   */
+  void put(final Key key, final List<Unit> units, final Map<Unit, Tuple<Integer, Integer>> powerAndRolls) {
+    final List<Tuple<Integer, Integer>> table = new ArrayList<>(units.size());
+    for (final Unit unit : units) {
+      table.add(powerAndRolls.get(unit));
+    }
+    synchronized (this) {
+      tables.put(key, Collections.unmodifiableList(table));
+    }
+  }
+
+  synchronized long getHits() {
+    return hits;
+  }
+
+  synchronized long getMisses() {
+    return misses;
+  }
+}
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
+import games.strategy.engine.data.DerivedValue;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.TechnologyFrontier;
@@ -16,6 +18,9 @@ import games.strategy.triplea.attachments.TechAttachment;
  */
 public class TechTracker implements java.io.Serializable {
   private static final long serialVersionUID = 4705039229340373735L;
+  // asked for by every tech ability lookup, which the dice rolls and move validation do for every unit
+  private static final DerivedValue<PlayerID, Collection<TechAdvance>> currentTechAdvances =
+      new DerivedValue<>("Current tech advances", TechTracker::computeCurrentTechAdvances, ChangeArea.TECHS);
 
   /** Creates new TechTracker */
   public TechTracker() {}
@@ -28,6 +33,10 @@ public class TechTracker implements java.io.Serializable {
    * @param data
    */
   public static Collection<TechAdvance> getCurrentTechAdvances(final PlayerID id, final GameData data) {
+    return new ArrayList<>(currentTechAdvances.get(data, id));
+  }
+
+  private static Collection<TechAdvance> computeCurrentTechAdvances(final GameData data, final PlayerID id) {
     final Collection<TechAdvance> rVal = new ArrayList<>();
     final TechAttachment attachment = TechAttachment.get(id);
     // search all techs
@@ -15,7 +15,7 @@ public class ImageFactory {
   private final Map<String, Image> m_images = new HashMap<>();
   private ResourceLoader m_resourceLoader;
 
-  public void setResourceLoader(final ResourceLoader loader) {
+  public synchronized void setResourceLoader(final ResourceLoader loader) {
     m_resourceLoader = loader;
     m_images.clear();
   }
@@ -28,7 +28,7 @@ public class ImageFactory {
     return getImage(key2, throwIfNotFound);
   }
 
-  protected Image getImage(final String key, final boolean throwIfNotFound) {
+  protected synchronized Image getImage(final String key, final boolean throwIfNotFound) {
     if (!m_images.containsKey(key)) {
       final URL url = m_resourceLoader.getResource(key);
       if (url == null && throwIfNotFound) {
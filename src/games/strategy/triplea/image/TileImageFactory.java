@@ -10,10 +10,9 @@ import java.awt.Image;
 import java.awt.Transparency;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.prefs.BackingStoreException;
@@ -24,7 +23,10 @@ import javax.imageio.ImageIO;
 import games.strategy.debug.ClientLogger;
 import games.strategy.triplea.ResourceLoader;
 import games.strategy.triplea.image.BlendComposite.BlendingMode;
+import games.strategy.triplea.settings.SystemPreferenceKey;
+import games.strategy.triplea.settings.SystemPreferences;
 import games.strategy.triplea.util.Stopwatch;
+import games.strategy.ui.ImageCache;
 import games.strategy.ui.Util;
 
 public final class TileImageFactory {
@@ -38,13 +40,16 @@ public final class TileImageFactory {
   private static String s_showMapBlendMode = "normal";
   private final static String SHOW_MAP_BLEND_ALPHA = "BlendAlpha";
   private static float s_showMapBlendAlpha = 1.0f;
+  private final static String USE_DISK_TILE_CACHE_PREFERENCE = "UseDiskTileCache";
+  private static boolean s_useDiskTileCache = false;
   private final Composite composite = AlphaComposite.Src;
   private static GraphicsConfiguration configuration =
       GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
   private static final Logger s_logger = Logger.getLogger(TileImageFactory.class.getName());
   private double m_scale = 1;
-  // maps image name to ImageRef
-  private HashMap<String, ImageRef> m_imageCache = new HashMap<>();
+  // maps image name and scale to the image
+  private final ImageCache<String> m_imageCache =
+      new ImageCache<>("Map tile images", getImageCacheBudgetBytes() / 3);
 
   static {
     final Preferences prefs = Preferences.userNodeForPackage(TileImageFactory.class);
@@ -52,6 +57,9 @@ public final class TileImageFactory {
     s_showMapBlends = prefs.getBoolean(SHOW_MAP_BLENDS_PREFERENCE, false);
     s_showMapBlendMode = prefs.get(SHOW_MAP_BLEND_MODE, "normal");
     s_showMapBlendAlpha = prefs.getFloat(SHOW_MAP_BLEND_ALPHA, 1.0f);
+    s_useDiskTileCache = prefs.getBoolean(USE_DISK_TILE_CACHE_PREFERENCE, false);
+    // also when the disk cache is switched off, so the tiles cached before do not stay forever
+    TilePyramid.deleteUnusedDiskTiles();
   }
 
   public static boolean getShowReliefImages() {
@@ -70,13 +78,39 @@ public final class TileImageFactory {
     return s_showMapBlendAlpha;
   }
 
+  /**
+   * The memory the caches of map images may take together, set by the
+   * {@link SystemPreferenceKey#IMAGE_CACHE_MEMORY_MB} preference and defaulting to a third of the maximum heap. Two
+   * thirds go to the drawn map tiles and a third to the tile images they are drawn from.
+   */
+  public static long getImageCacheBudgetBytes() {
+    final long mb = 1024 * 1024;
+    final int defaultMegabytes = (int) (Runtime.getRuntime().maxMemory() / 3 / mb);
+    return Math.max(16, SystemPreferences.get(SystemPreferenceKey.IMAGE_CACHE_MEMORY_MB, defaultMegabytes)) * mb;
+  }
+
+  public static boolean getUseDiskTileCache() {
+    return s_useDiskTileCache;
+  }
+
   public void setScale(final double newScale) {
     if (newScale > 1) {
       throw new IllegalArgumentException("Wrong scale");
     }
     synchronized (m_mutex) {
+      // the images of other scales are kept, they are cached by scale
       m_scale = newScale;
-      getM_imageCache().clear();
+    }
+  }
+
+  public static void setUseDiskTileCache(final boolean aBool) {
+    s_useDiskTileCache = aBool;
+    final Preferences prefs = Preferences.userNodeForPackage(TileImageFactory.class);
+    prefs.putBoolean(USE_DISK_TILE_CACHE_PREFERENCE, s_useDiskTileCache);
+    try {
+      prefs.flush();
+    } catch (final BackingStoreException ex) {
+      ClientLogger.logQuietly("Failed to save value: " + aBool, ex);
     }
   }
 
@@ -129,29 +163,12 @@ public final class TileImageFactory {
   public void setMapDir(final ResourceLoader loader) {
     m_resourceLoader = loader;
     synchronized (m_mutex) {
-      // we manually want to clear each ref to allow the soft reference to
-      // be removed
-      final Iterator<ImageRef> values = getM_imageCache().values().iterator();
-      while (values.hasNext()) {
-        final ImageRef imageRef = values.next();
-        imageRef.clear();
-      }
-      getM_imageCache().clear();
+      m_imageCache.clear();
     }
   }
 
   public TileImageFactory() {}
 
-  /**
-   * @param fileName
-   */
-  private Image isImageLoaded(final String fileName) {
-    if (getM_imageCache().get(fileName) == null) {
-      return null;
-    }
-    return getM_imageCache().get(fileName).getImage();
-  }
-
   public Image getBaseTile(final int x, final int y) {
     final String fileName = getBaseTileImageName(x, y);
     if (m_resourceLoader.getResource(fileName) == null) {
@@ -175,12 +192,9 @@ public final class TileImageFactory {
     return fileName;
   }
 
-  /**
-   * @param fileName
-   */
   private Image getImage(final String fileName, final boolean transparent) {
     synchronized (m_mutex) {
-      final Image rVal = isImageLoaded(fileName);
+      final Image rVal = m_imageCache.get(getCacheKey(fileName, m_scale));
       if (rVal != null) {
         return rVal;
       }
@@ -190,9 +204,56 @@ public final class TileImageFactory {
       if ((!s_showMapBlends || !s_showReliefImages || !transparent) && url == null) {
         return null;
       }
-      loadImage(url, fileName, transparent, true, true);
+      return getImage(fileName, url, transparent, m_scale);
     }
-    return getImage(fileName, transparent);
+  }
+
+  private static String getCacheKey(final String fileName, final double scale) {
+    return scale == 1 ? fileName : fileName + "@" + scale;
+  }
+
+  /**
+   * Returns the image at the scale, made from the next level up the {@link TilePyramid}, which is made the same way
+   * in turn, all the way up to the full size image. Must be called holding m_mutex.
+   */
+  private Image getImage(final String fileName, final URL url, final boolean transparent, final double scale) {
+    final String cacheKey = getCacheKey(fileName, scale);
+    final Image cached = m_imageCache.get(cacheKey);
+    if (cached != null) {
+      return cached;
+    }
+    if (scale == 1) {
+      return loadImage(url, fileName, transparent, true, false);
+    }
+    File diskCacheFile = null;
+    if (s_useDiskTileCache && url != null) {
+      diskCacheFile = TilePyramid.getDiskCacheFile(url, scale, getImageVariant(transparent));
+      final Image fromDisk = TilePyramid.readFromDisk(diskCacheFile, transparent);
+      if (fromDisk != null) {
+        m_imageCache.put(cacheKey, fromDisk);
+        return fromDisk;
+      }
+    }
+    final double parentLevel = TilePyramid.getParentLevel(scale);
+    // the full size image is not kept while zoomed out, only the pyramid levels are
+    final Image parent = parentLevel == 1 ? loadImage(url, fileName, transparent, false, false)
+        : getImage(fileName, url, transparent, parentLevel);
+    final BufferedImage image = TilePyramid.scale(parent, scale / parentLevel, transparent);
+    m_imageCache.put(cacheKey, image);
+    if (diskCacheFile != null) {
+      TilePyramid.writeToDisk(diskCacheFile, image);
+    }
+    return image;
+  }
+
+  /**
+   * Describes the settings, other than the source file, that a tile image depends on.
+   */
+  private static String getImageVariant(final boolean transparent) {
+    if (s_showMapBlends && s_showReliefImages && transparent) {
+      return "blend:" + s_showMapBlendMode + ":" + s_showMapBlendAlpha;
+    }
+    return transparent ? "transparent" : "opaque";
   }
 
   public Image getReliefTile(final int a, final int b) {
@@ -297,15 +358,13 @@ public final class TileImageFactory {
       // g2.setComposite(BlendComposite.Overlay.derive(alpha));
       g2.setComposite(blendComposite);
       g2.drawImage(baseFile, overX, overY, null);
-      final ImageRef ref = new ImageRef(reliefFile);
       if (cache) {
-        getM_imageCache().put(fileName, ref);
+        m_imageCache.put(fileName, reliefFile);
       }
       return reliefFile;
     } else {
-      final ImageRef ref = new ImageRef(baseFile);
       if (cache) {
-        getM_imageCache().put(fileName, ref);
+        m_imageCache.put(fileName, baseFile);
       }
       return baseFile;
     }
@@ -340,9 +399,8 @@ public final class TileImageFactory {
       ClientLogger.logError("Could not load image, url: " + imageLocation.toString(), e);
       image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
     }
-    final ImageRef ref = new ImageRef(image);
     if (cache) {
-      getM_imageCache().put(fileName, ref);
+      m_imageCache.put(fileName, image);
     }
     return image;
   }
@@ -368,14 +426,6 @@ public final class TileImageFactory {
   public static BufferedImage createCompatibleImage(final int width, final int height) {
     return configuration.createCompatibleImage(width, height);
   }
-
-  public void setM_imageCache(final HashMap<String, ImageRef> m_imageCache) {
-    this.m_imageCache = m_imageCache;
-  }
-
-  public HashMap<String, ImageRef> getM_imageCache() {
-    return m_imageCache;
-  }
 }
 
 
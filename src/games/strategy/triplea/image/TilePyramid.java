@@ -0,0 +1,186 @@
+package games.strategy.triplea.image;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.ui.Util;
+
+/**
+ * Scales map tiles down for the zoom levels of the map, as a mipmap pyramid.
+ *
+ * <p>
+ * The levels of the pyramid are the powers of two, 1/2, 1/4 and so on, each made by halving the level above it. A
+ * tile at any other zoom is scaled from the pyramid level just above it, so no single step shrinks an image by more
+ * than half, which keeps bilinear scaling sharp and cheap. Scaled tiles can also be kept in a disk cache, so they do
+ * not have to be decoded at full size and scaled again the next time the map is opened at that zoom. Cached tiles not
+ * used for {@link #UNUSED_TILE_DAYS} days, like those of an old map version, are deleted.
+ * </p>
+ */
+final class TilePyramid {
+  private static final String DISK_CACHE_FOLDER_NAME = "tileCache";
+  static final int UNUSED_TILE_DAYS = 30;
+  private static final ExecutorService diskWriter = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder().setNameFormat("Tile cache writer").setDaemon(true).build());
+
+  private TilePyramid() {}
+
+  /**
+   * Returns the pyramid level a tile at the given scale is made from: the largest power of two that is smaller than
+   * twice the scale, at most 1.
+   */
+  static double getParentLevel(final double scale) {
+    double level = 1;
+    while (level / 2 > scale) {
+      level /= 2;
+    }
+    return level;
+  }
+
+  /**
+   * Scales the image by the factor, which should not be below 1/2.
+   */
+  static BufferedImage scale(final Image image, final double factor, final boolean transparent) {
+    final int width = Math.max(1, (int) Math.ceil(image.getWidth(null) * factor));
+    final int height = Math.max(1, (int) Math.ceil(image.getHeight(null) * factor));
+    final BufferedImage scaled = Util.createImage(width, height, transparent);
+    final Graphics2D g = scaled.createGraphics();
+    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+    g.drawImage(image, 0, 0, width, height, null);
+    g.dispose();
+    return scaled;
+  }
+
+  /**
+   * Returns the disk cache file for a tile at a scale. The name includes the size and modification time of the
+   * source image, so a new version of the map does not pick up the tiles of the old one.
+   *
+   * @param variant anything else the image depends on, such as the blend settings.
+   */
+  static File getDiskCacheFile(final URL source, final double scale, final String variant) {
+    long lastModified = 0;
+    long length = -1;
+    try {
+      final URLConnection connection = source.openConnection();
+      // connecting opens the source, closing its stream releases the file or jar entry again
+      final InputStream stream = connection.getInputStream();
+      try {
+        lastModified = connection.getLastModified();
+        length = connection.getContentLengthLong();
+      } finally {
+        stream.close();
+      }
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Could not read tile modification time: " + source, e);
+    }
+    final String key = source + ":" + lastModified + ":" + length + ":" + variant;
+    final String name = Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString();
+    return new File(getDiskCacheFolder(), name.substring(0, 2) + File.separator + name + "_" + scale + ".png");
+  }
+
+  private static File getDiskCacheFolder() {
+    return new File(ClientFileSystemHelper.getUserRootFolder(), DISK_CACHE_FOLDER_NAME);
+  }
+
+  /**
+   * Deletes the cached tiles that have not been used for {@link #UNUSED_TILE_DAYS} days in the background.
+   */
+  static void deleteUnusedDiskTiles() {
+    diskWriter.execute(() -> deleteUnusedDiskTiles(getDiskCacheFolder(),
+        System.currentTimeMillis() - TimeUnit.DAYS.toMillis(UNUSED_TILE_DAYS)));
+  }
+
+  /**
+   * Deletes the cached tiles last used before the given time. That includes the temp files left behind by a write that
+   * did not finish, a temp file that recent may still be written by another client sharing the folder.
+   */
+  static void deleteUnusedDiskTiles(final File cacheFolder, final long oldest) {
+    final File[] folders = cacheFolder.listFiles();
+    if (folders == null) {
+      return;
+    }
+    for (final File folder : folders) {
+      final File[] files = folder.listFiles();
+      if (files == null) {
+        continue;
+      }
+      for (final File file : files) {
+        if (file.lastModified() < oldest) {
+          file.delete();
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads a tile from the disk cache, returns null if it is not there.
+   */
+  static Image readFromDisk(final File file, final boolean transparent) {
+    if (!file.isFile()) {
+      return null;
+    }
+    try {
+      final BufferedImage fromFile = ImageIO.read(file);
+      if (fromFile == null) {
+        return null;
+      }
+      // copy into the image type tiles are drawn fastest from
+      final BufferedImage image = Util.createImage(fromFile.getWidth(), fromFile.getHeight(), transparent);
+      final Graphics2D g = image.createGraphics();
+      g.drawImage(fromFile, 0, 0, null);
+      g.dispose();
+      // the age of a tile is the time it was last used, see deleteUnusedDiskTiles
+      file.setLastModified(System.currentTimeMillis());
+      return image;
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Discarding unreadable cached tile: " + file, e);
+      file.delete();
+      return null;
+    }
+  }
+
+  /**
+   * Writes a tile to the disk cache in the background.
+   */
+  static void writeToDisk(final File file, final BufferedImage image) {
+    diskWriter.execute(() -> {
+      try {
+        final File folder = file.getParentFile();
+        if (!folder.isDirectory() && !folder.mkdirs()) {
+          throw new IOException("Could not create tile cache folder: " + folder);
+        }
+        // write to a temp file and move it in place, so readers never see a partial tile
+        final File tempFile = File.createTempFile(file.getName(), ".tmp", folder);
+        try {
+          ImageIO.write(image, "png", tempFile);
+          Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+              StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+          tempFile.delete();
+        }
+      } catch (final IOException e) {
+        ClientLogger.logQuietly("Could not cache tile: " + file, e);
+      }
+    });
+  }
+}
@@ -4,15 +4,25 @@ import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Image;
+import java.awt.RenderingHints;
 import java.awt.Toolkit;
 import java.awt.image.BufferedImage;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.swing.ImageIcon;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.UnitType;
@@ -21,7 +31,9 @@ import games.strategy.triplea.ResourceLoader;
 import games.strategy.triplea.attachments.UnitAttachment;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.TechTracker;
+import games.strategy.ui.ImageCache;
 import games.strategy.ui.Util;
+import games.strategy.util.Tuple;
 
 public class UnitImageFactory {
   public static final int DEFAULT_UNIT_ICON_SIZE = 48;
@@ -38,12 +50,17 @@ public class UnitImageFactory {
   private static int UNIT_COUNTER_OFFSET_WIDTH = DEFAULT_UNIT_ICON_SIZE / 4;
   private static int UNIT_COUNTER_OFFSET_HEIGHT = UNIT_ICON_HEIGHT;
   private static final String FILE_NAME_BASE = "units/";
-  // maps Point -> image
-  private final Map<String, Image> m_images = new HashMap<>();
+  private static final long IMAGE_CACHE_BYTES = 16L * 1024 * 1024;
+  private static final ExecutorService imageScaler = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder().setNameFormat("Unit image scaler").setDaemon(true).build());
+  // scaled images by name, player and scale, those of the last few scales stay cached as long as they fit
+  private final ImageCache<String> m_images = new ImageCache<>("Unit images", IMAGE_CACHE_BYTES);
+  // the base image names and players of the images asked for, to scale them in advance when the scale changes
+  private final Set<Tuple<String, PlayerID>> m_imagesInUse = Collections.newSetFromMap(new ConcurrentHashMap<>());
   // maps Point -> Icon
   private final Map<String, ImageIcon> m_icons = new HashMap<>();
   // Scaling factor for unit images
-  private double m_scaleFactor;
+  private volatile double m_scaleFactor;
   private ResourceLoader m_resourceLoader;
 
   /** Creates new IconImageFactory */
@@ -61,12 +78,22 @@ public class UnitImageFactory {
   }
 
   /**
-   * Set the unitScaling factor
+   * Set the unitScaling factor. The images used so far are scaled to the new factor in the background, the images
+   * of the old factor are kept in case it comes back.
    */
   public void setScaleFactor(final double scaleFactor) {
     if (m_scaleFactor != scaleFactor) {
       m_scaleFactor = scaleFactor;
-      clearImageCache();
+      final List<Tuple<String, PlayerID>> imagesInUse = new ArrayList<>(m_imagesInUse);
+      imageScaler.execute(() -> {
+        for (final Tuple<String, PlayerID> image : imagesInUse) {
+          if (m_scaleFactor != scaleFactor) {
+            // changed again, the next task scales them
+            return;
+          }
+          getScaledImage(image.getFirst(), image.getSecond(), scaleFactor);
+        }
+      });
     }
   }
 
@@ -100,8 +127,9 @@ public class UnitImageFactory {
   }
 
   // Clear the image and icon cache
-  private void clearImageCache() {
+  private synchronized void clearImageCache() {
     m_images.clear();
+    m_imagesInUse.clear();
     m_icons.clear();
   }
 
@@ -112,29 +140,48 @@ public class UnitImageFactory {
       final boolean damaged,
       final boolean disabled) {
     final String baseName = getBaseImageName(type, player, data, damaged, disabled);
-    final String fullName = baseName + player.getName();
-    if (m_images.containsKey(fullName)) {
-      return Optional.of(m_images.get(fullName));
+    m_imagesInUse.add(Tuple.of(baseName, player));
+    return Optional.ofNullable(getScaledImage(baseName, player, m_scaleFactor));
+  }
+
+  /**
+   * Returns the image scaled by the factor, from the cache or else scaled now, null if there is no such image.
+   */
+  private Image getScaledImage(final String baseName, final PlayerID player, final double scaleFactor) {
+    final String key = baseName + player.getName() + "@" + scaleFactor;
+    final Image cached = m_images.get(key);
+    if (cached != null) {
+      return cached;
     }
     final Optional<Image> image = getBaseImage(baseName, player);
     if (!image.isPresent()) {
-      return Optional.empty();
+      return null;
     }
-    final Image baseImage = image.get();
-
+    final Image scaledImage = scale(image.get(), scaleFactor);
+    m_images.put(key, scaledImage);
+    return scaledImage;
+  }
 
-    // We want to scale units according to the given scale factor.
-    // We use smooth scaling since the images are cached to allow
-    // to take our time in doing the scaling.
+  /**
+   * Scales the image into a buffered image, which draws faster than a toolkit image. Images are halved until they
+   * are less than twice the target size, so bilinear scaling stays smooth.
+   */
+  static BufferedImage scale(final Image image, final double scaleFactor) {
     // Image observer is null, since the image should have been
     // guaranteed to be loaded.
-    final int width = (int) (baseImage.getWidth(null) * m_scaleFactor);
-    final int height = (int) (baseImage.getHeight(null) * m_scaleFactor);
-    final Image scaledImage = baseImage.getScaledInstance(width, height, Image.SCALE_SMOOTH);
-    // Ensure the scaling is completed.
-    Util.ensureImageLoaded(scaledImage);
-    m_images.put(fullName, scaledImage);
-    return Optional.of(scaledImage);
+    final int width = Math.max(1, (int) (image.getWidth(null) * scaleFactor));
+    final int height = Math.max(1, (int) (image.getHeight(null) * scaleFactor));
+    Image source = image;
+    while (source.getWidth(null) / 2 >= width && source.getHeight(null) / 2 >= height) {
+      source = TilePyramid.scale(source, 0.5, true);
+    }
+    final BufferedImage scaledImage = Util.createImage(width, height, true);
+    final Graphics2D g = scaledImage.createGraphics();
+    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+    g.drawImage(source, 0, 0, width, height, null);
+    g.dispose();
+    return scaledImage;
   }
 
   public Optional<URL> getBaseImageURL(final String baseImageName, final PlayerID id) {
@@ -184,7 +231,7 @@ public class UnitImageFactory {
   /**
    * Return a icon image for a unit.
    */
-  public Optional<ImageIcon> getIcon(final UnitType type, final PlayerID player, final GameData data,
+  public synchronized Optional<ImageIcon> getIcon(final UnitType type, final PlayerID player, final GameData data,
       final boolean damaged,
       final boolean disabled) {
     final String baseName = getBaseImageName(type, player, data, damaged, disabled);
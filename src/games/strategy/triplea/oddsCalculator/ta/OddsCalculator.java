@@ -238,12 +238,7 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
     final long start = System.currentTimeMillis();
     final AggregateResults rVal = new AggregateResults(count);
     final BattleTracker battleTracker = new BattleTracker();
-    // CasualtySortingCaching can cause issues if there is more than 1 one battle being calced at the same time (like if
-    // the AI and a human
-    // are both using the calc)
-    // TODO: first, see how much it actually speeds stuff up by, and if it does make a difference then convert it to a
-    // per-thread, per-calc
-    // caching
+    // the casualty orders are cached per game data, and every calculator works on its own copy
     final List<Unit> attackerOrderOfLosses =
         OddsCalculator.getUnitListByOrderOfLoss(m_attackerOrderOfLosses, m_attackingUnits, m_data);
     final List<Unit> defenderOrderOfLosses =
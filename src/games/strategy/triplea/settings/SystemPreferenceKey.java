@@ -24,5 +24,6 @@ public enum SystemPreferenceKey {
   LOOK_AND_FEEL_PREF,
   TRIPLEA_SERVER_OBSERVER_JOIN_WAIT_TIME,
   TRIPLEA_FIRST_TIME_THIS_VERSION_PROPERTY,
-  TRIPLEA_LAST_CHECK_FOR_ENGINE_UPDATE, TRIPLEA_LAST_CHECK_FOR_MAP_UPDATES, TRIPLEA_SERVER_START_GAME_SYNC_WAIT_TIME, CASUALTY_SELECTION_SLOW, ARROW_KEY_SCROLL_SPEED
+  TRIPLEA_LAST_CHECK_FOR_ENGINE_UPDATE, TRIPLEA_LAST_CHECK_FOR_MAP_UPDATES, TRIPLEA_SERVER_START_GAME_SYNC_WAIT_TIME, CASUALTY_SELECTION_SLOW, ARROW_KEY_SCROLL_SPEED,
+  MAP_TILE_DRAWING_THREADS, IMAGE_CACHE_MEMORY_MB
 }
@@ -16,14 +16,15 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionAdapter;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -32,6 +33,8 @@ import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -51,6 +54,8 @@ import games.strategy.engine.data.events.TerritoryListener;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.TripleAUnit;
 import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.settings.SystemPreferenceKey;
+import games.strategy.triplea.settings.SystemPreferences;
 import games.strategy.triplea.ui.screen.SmallMapImageManager;
 import games.strategy.triplea.ui.screen.Tile;
 import games.strategy.triplea.ui.screen.TileManager;
@@ -85,12 +90,13 @@ public class MapPanel extends ImageScrollerLargeView {
   // units the mouse is currently over
   private Tuple<Territory, List<Unit>> currentUnits;
   private final SmallMapImageManager smallMapImageManager;
-  // keep a reference to the images from the last paint to
-  // prevent them from being gcd
+  // the tiles from the last paint, their images are evicted from the tile image cache last
   private final List<Tile> images = new ArrayList<>();
   private RouteDescription routeDescription;
   private final TileManager tileManager;
   private final BackgroundDrawer backgroundDrawer;
+  private final TerritoryUpdateScheduler territoryUpdateScheduler =
+      new TerritoryUpdateScheduler(TerritoryUpdateScheduler.DEFAULT_DELAY_MILLIS, this::updateTerritories);
   private BufferedImage mouseShadowImage = null;
   private String movementLeftForCurrentUnits = "";
   private final IUIContext uiContext;
@@ -108,11 +114,8 @@ public class MapPanel extends ImageScrollerLargeView {
     routeDrawer = new MapRouteDrawer(this, uiContext.getMapData());
     setCursor(this.uiContext.getCursor());
     this.m_scale = this.uiContext.getScale();
-    this.backgroundDrawer = new BackgroundDrawer(this);
     this.tileManager = new TileManager(this.uiContext);
-    final Thread t = new Thread(this.backgroundDrawer, "Map panel background drawer");
-    t.setDaemon(true);
-    t.start();
+    this.backgroundDrawer = new BackgroundDrawer(this);
     setDoubleBuffered(false);
     this.smallView = smallView;
     this.smallMapImageManager =
@@ -451,24 +454,26 @@ public class MapPanel extends ImageScrollerLargeView {
     tileManager.resetTiles(m_data, uiContext.getMapData());
   }
 
+  private void updateTerritories(final Set<Territory> territories, final Set<Territory> ownerChanged) {
+    smallMapImageManager.updateTerritoryOwners(ownerChanged, m_data, uiContext.getMapData());
+    updateCountries(territories);
+  }
+
+  // the listener is called for every change, the territories are updated in batches
   private final TerritoryListener TERRITORY_LISTENER = new TerritoryListener() {
     @Override
     public void unitsChanged(final Territory territory) {
-      updateCountries(Collections.singleton(territory));
-      SwingUtilities.invokeLater(() -> repaint());
+      territoryUpdateScheduler.invalidate(territory, false);
     }
 
     @Override
     public void ownerChanged(final Territory territory) {
-      smallMapImageManager.updateTerritoryOwner(territory, m_data, uiContext.getMapData());
-      updateCountries(Collections.singleton(territory));
-      SwingUtilities.invokeLater(() -> repaint());
+      territoryUpdateScheduler.invalidate(territory, true);
     }
 
     @Override
     public void attachmentChanged(final Territory territory) {
-      updateCountries(Collections.singleton(territory));
-      SwingUtilities.invokeLater(() -> repaint());
+      territoryUpdateScheduler.invalidate(territory, false);
     }
   };
   private final GameDataChangeListener TECH_UPDATE_LISTENER = new GameDataChangeListener() {
@@ -629,6 +634,12 @@ public class MapPanel extends ImageScrollerLargeView {
     // when we are this far away, dont force the tiles to stay in memroy
     updateUndrawnTiles(undrawnTiles, 513, false);
     updateUndrawnTiles(undrawnTiles, 767, false);
+    tileManager.setTilesInView(this.images);
+    // the background drawers start at the middle of the screen and work outwards
+    final double centerX = m_model.getX() + getScaledWidth() / 2;
+    final double centerY = m_model.getY() + getScaledHeight() / 2;
+    undrawnTiles.sort(Comparator.comparingDouble(
+        tile -> Point2D.distanceSq(tile.getBounds().getCenterX(), tile.getBounds().getCenterY(), centerX, centerY)));
     clearUndrawn();
     this.undrawnTiles.addAll(undrawnTiles);
     stopWatch.done();
@@ -757,11 +768,7 @@ public class MapPanel extends ImageScrollerLargeView {
   }
 
   public void initSmallMap() {
-    final Iterator<Territory> territories = m_data.getMap().getTerritories().iterator();
-    while (territories.hasNext()) {
-      final Territory territory = territories.next();
-      smallMapImageManager.updateTerritoryOwner(territory, m_data, uiContext.getMapData());
-    }
+    smallMapImageManager.updateTerritoryOwners(m_data.getMap().getTerritories(), m_data, uiContext.getMapData());
     smallMapImageManager.update(m_data, uiContext.getMapData());
   }
 
@@ -856,21 +863,49 @@ public class MapPanel extends ImageScrollerLargeView {
 }
 
 
-class BackgroundDrawer implements Runnable {
-  // use a weak reference, if we see the panel is gc'd, then we can stop this thread
+/**
+ * Draws the dirty tiles queued by the map panel on a pool of daemon threads, by default one per core.
+ *
+ * <p>
+ * Tiles are independent, each one is drawn under its own lock and the game data read lock, so several can be drawn
+ * at once. They are taken in the order the panel queued them, which puts the tiles on screen first. Instead of one
+ * repaint per tile, the panel is repainted once the queue has been worked off, and every
+ * {@link #REPAINT_INTERVAL_MILLIS} while it is being worked off so a long queue still shows progress.
+ * </p>
+ */
+class BackgroundDrawer {
+  private static final long REPAINT_INTERVAL_MILLIS = 100;
+  // use a weak reference, if we see the panel is gc'd, then we can stop the threads
   private final WeakReference<MapPanel> m_mapPanelRef;
+  private final AtomicInteger m_drawingCount = new AtomicInteger();
+  private final AtomicBoolean m_repaintPending = new AtomicBoolean();
+  private volatile long m_lastRepaintTime = 0;
 
   BackgroundDrawer(final MapPanel panel) {
     m_mapPanelRef = new WeakReference<>(panel);
+    final int threadCount = getThreadCount();
+    for (int i = 0; i < threadCount; i++) {
+      final Thread t = new Thread(this::run, "Map panel background drawer " + i);
+      t.setDaemon(true);
+      t.start();
+    }
+  }
+
+  /**
+   * The number of drawing threads, set by the {@link SystemPreferenceKey#MAP_TILE_DRAWING_THREADS} preference and
+   * defaulting to the number of cores.
+   */
+  static int getThreadCount() {
+    return Math.max(1,
+        SystemPreferences.get(SystemPreferenceKey.MAP_TILE_DRAWING_THREADS, Runtime.getRuntime().availableProcessors()));
   }
 
   public void stop() {
-    // the thread will eventually wake up and notice we are done
+    // the threads will eventually wake up and notice we are done
     m_mapPanelRef.clear();
   }
 
-  @Override
-  public void run() {
+  private void run() {
     while (m_mapPanelRef.get() != null) {
       BlockingQueue<Tile> undrawnTiles;
       MapPanel panel = m_mapPanelRef.get();
@@ -892,14 +927,29 @@ class BackgroundDrawer implements Runnable {
       if (mapPanel == null) {
         continue;
       }
+      m_drawingCount.incrementAndGet();
       final GameData data = mapPanel.getData();
       data.acquireReadLock();
       try {
         tile.getImage(data, mapPanel.getUIContext().getMapData());
       } finally {
         data.releaseReadLock();
+        final boolean lastTile = m_drawingCount.decrementAndGet() == 0 && undrawnTiles.isEmpty();
+        if (lastTile || System.currentTimeMillis() - m_lastRepaintTime >= REPAINT_INTERVAL_MILLIS) {
+          requestRepaint(mapPanel);
+        }
       }
-      SwingUtilities.invokeLater(() -> mapPanel.repaint());
+    }
+  }
+
+  private void requestRepaint(final MapPanel mapPanel) {
+    // a repaint that is already scheduled will pick up this tile as well
+    if (m_repaintPending.compareAndSet(false, true)) {
+      m_lastRepaintTime = System.currentTimeMillis();
+      SwingUtilities.invokeLater(() -> {
+        m_repaintPending.set(false);
+        mapPanel.repaint();
+      });
     }
   }
 }
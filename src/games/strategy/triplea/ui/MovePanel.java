@@ -6,18 +6,26 @@ import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import games.strategy.debug.ClientLogger;
 import games.strategy.engine.data.GameData;
@@ -36,6 +44,7 @@ import games.strategy.triplea.delegate.GameStepPropertiesHelper;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.MoveValidator;
 import games.strategy.triplea.delegate.TransportTracker;
+import games.strategy.triplea.delegate.UndoableMove;
 import games.strategy.triplea.delegate.UnitComparator;
 import games.strategy.triplea.delegate.dataObjects.MoveDescription;
 import games.strategy.triplea.delegate.dataObjects.MoveValidationResult;
@@ -61,6 +70,10 @@ public class MovePanel extends AbstractMovePanel {
    *        after feedback)
    */
   private static final int s_deselectNumber = 10;
+  private static final int MAX_RECENT_ROUTE_VALIDATIONS = 16;
+  // validating a route for a large stack can take a while, so it is done off the event dispatch thread
+  private static final ExecutorService routeValidator = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder().setNameFormat("Move route validator").setDaemon(true).build());
   // access only through getter and setter!
   private Territory firstSelectedTerritory;
   private Territory selectedEndpointTerritory;
@@ -84,6 +97,59 @@ public class MovePanel extends AbstractMovePanel {
   private Route routeCached = null;
   private String displayText = "Combat Move";
   private MoveType moveType = MoveType.DEFAULT;
+  // the route validations below are only accessed from the event dispatch thread
+  private Future<?> pendingRouteValidation = null;
+  private int routeValidationGeneration = 0;
+  private List<Object> shownRouteValidationKey = null;
+  private final Map<List<Object>, RouteValidation> recentRouteValidations =
+      new LinkedHashMap<List<Object>, RouteValidation>(MAX_RECENT_ROUTE_VALIDATIONS, 0.75f, true) {
+        private static final long serialVersionUID = -2946431893045813745L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<List<Object>, RouteValidation> eldest) {
+          return size() > MAX_RECENT_ROUTE_VALIDATIONS;
+        }
+      };
+
+  /**
+   * What route validation reads from the panel, taken on the event dispatch thread so the validation can run off it.
+   */
+  private static final class RouteValidationInputs {
+    private final PlayerID player;
+    private final Map<Unit, Collection<Unit>> dependentUnits;
+    private final boolean nonCombat;
+    private final MoveType moveType;
+
+    private RouteValidationInputs(final PlayerID player, final Map<Unit, Collection<Unit>> dependentUnits,
+        final boolean nonCombat, final MoveType moveType) {
+      this.player = player;
+      this.dependentUnits = new HashMap<>();
+      for (final Map.Entry<Unit, Collection<Unit>> entry : dependentUnits.entrySet()) {
+        this.dependentUnits.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+      }
+      this.nonCombat = nonCombat;
+      this.moveType = moveType;
+    }
+  }
+
+  /**
+   * The units that can move along a route, and the message to show the player about it.
+   */
+  private static final class RouteValidation {
+    private final Route route;
+    private final List<Unit> unitsThatCanMove;
+    // null if there is nothing to tell the player
+    private final String message;
+    private final boolean error;
+
+    private RouteValidation(final Route route, final List<Unit> unitsThatCanMove, final String message,
+        final boolean error) {
+      this.route = route;
+      this.unitsThatCanMove = unitsThatCanMove;
+      this.message = message;
+      this.error = error;
+    }
+  }
 
   /** Creates new MovePanel */
   public MovePanel(final GameData data, final MapPanel map, final TripleAFrame frame) {
@@ -113,10 +179,14 @@ public class MovePanel extends AbstractMovePanel {
   }
 
   private PlayerID getUnitOwner(final Collection<Unit> units) {
+    return getUnitOwner(units, getCurrentPlayer());
+  }
+
+  private PlayerID getUnitOwner(final Collection<Unit> units, final PlayerID currentPlayer) {
     if (BaseEditDelegate.getEditMode(getData()) && units != null && !units.isEmpty()) {
       return units.iterator().next().getOwner();
     } else {
-      return getCurrentPlayer();
+      return currentPlayer;
     }
   }
 
@@ -124,6 +194,10 @@ public class MovePanel extends AbstractMovePanel {
    * Sort the specified units in preferred movement or unload order.
    */
   private void sortUnitsToMove(final List<Unit> units, final Route route) {
+    sortUnitsToMove(units, route, getCurrentPlayer());
+  }
+
+  private void sortUnitsToMove(final List<Unit> units, final Route route, final PlayerID currentPlayer) {
     if (units == null || units.isEmpty()) {
       return;
     } else if (route == null) {
@@ -135,7 +209,7 @@ public class MovePanel extends AbstractMovePanel {
     final Comparator<Unit> unitComparator;
     // sort units based on which transports are allowed to unload
     if (route.isUnload() && Match.someMatch(units, Matches.UnitIsLand)) {
-      unitComparator = UnitComparator.getUnloadableUnitsComparator(units, route, getUnitOwner(units));
+      unitComparator = UnitComparator.getUnloadableUnitsComparator(units, route, getUnitOwner(units, currentPlayer));
     } else {
       unitComparator = UnitComparator.getMovableUnitsComparator(units, route);
     }
@@ -399,12 +473,17 @@ public class MovePanel extends AbstractMovePanel {
   }
 
   private Route getRoute(final Territory start, final Territory end, final Collection<Unit> selectedUnits) {
+    return getRoute(start, end, selectedUnits, forced, getCurrentPlayer());
+  }
+
+  private Route getRoute(final Territory start, final Territory end, final Collection<Unit> selectedUnits,
+      final List<Territory> forced, final PlayerID currentPlayer) {
     getData().acquireReadLock();
     try {
       if (forced == null) {
-        return getRouteNonForced(start, end, selectedUnits);
+        return getRouteNonForced(start, end, selectedUnits, currentPlayer);
       } else {
-        return getRouteForced(start, end, selectedUnits);
+        return getRouteForced(start, end, selectedUnits, forced, currentPlayer);
       }
     } finally {
       getData().releaseReadLock();
@@ -414,12 +493,13 @@ public class MovePanel extends AbstractMovePanel {
   /**
    * Get the route including the territories that we are forced to move through.
    */
-  private Route getRouteForced(final Territory start, final Territory end, final Collection<Unit> selectedUnits) {
+  private Route getRouteForced(final Territory start, final Territory end, final Collection<Unit> selectedUnits,
+      final List<Territory> forced, final PlayerID currentPlayer) {
     if (forced == null || forced.size() == 0) {
       throw new IllegalStateException("No forced territories:" + forced + " end:" + end + " start:" + start);
     }
     final Iterator<Territory> iter = forced.iterator();
-    Territory last = getFirstSelectedTerritory();
+    Territory last = start;
     Territory current = null;
     Route total = new Route();
     total.setStart(last);
@@ -434,7 +514,7 @@ public class MovePanel extends AbstractMovePanel {
       last = current;
     }
     if (!end.equals(last)) {
-      final Route add = getRouteNonForced(last, end, selectedUnits);
+      final Route add = getRouteNonForced(last, end, selectedUnits, currentPlayer);
       final Route newTotal = Route.join(total, add);
       if (newTotal != null) {
         total = newTotal;
@@ -446,28 +526,41 @@ public class MovePanel extends AbstractMovePanel {
   /**
    * Get the route ignoring forced territories
    */
-  private Route getRouteNonForced(final Territory start, final Territory end, final Collection<Unit> selectedUnits) {
+  private Route getRouteNonForced(final Territory start, final Territory end, final Collection<Unit> selectedUnits,
+      final PlayerID currentPlayer) {
     // can't rely on current player being the unit owner in Edit Mode
     // look at the units being moved to determine allies and enemies
-    final PlayerID owner = getUnitOwner(selectedUnits);
+    final PlayerID owner = getUnitOwner(selectedUnits, currentPlayer);
     return MoveValidator.getBestRoute(start, end, getData(), owner, selectedUnits,
         !GameStepPropertiesHelper.isAirborneMove(getData()));
   }
 
   private void updateUnitsThatCanMoveOnRoute(final Collection<Unit> units, final Route route) {
+    cancelRouteValidation();
+    applyRouteValidation(validateRoute(units, route, selectedUnits, mustMoveWithDetails, getUndoableMoves(),
+        getRouteValidationInputs()));
+  }
+
+  private RouteValidationInputs getRouteValidationInputs() {
+    return new RouteValidationInputs(getCurrentPlayer(), s_dependentUnits, nonCombat, moveType);
+  }
+
+  /**
+   * Finds the units that can move along the route, and the message and cursor to show for it. Only reads the panel's
+   * state through the arguments, so it can run off the event dispatch thread.
+   */
+  private RouteValidation validateRoute(final Collection<Unit> units, final Route route,
+      final Collection<Unit> selectedUnits, final MustMoveWithDetails mustMoveWithDetails,
+      final List<UndoableMove> undoableMoves, final RouteValidationInputs inputs) {
+    final PlayerID player = inputs.player;
     if (route == null || route.hasNoSteps()) {
-      clearStatusMessage();
-      getMap().showMouseCursor();
-      currentCursorImage = null;
-      unitsThatCanMoveOnRoute = new ArrayList<>(units);
-      return;
+      return new RouteValidation(route, new ArrayList<>(units), null, false);
     }
-    getMap().hideMouseCursor();
     // TODO kev check for already loaded airTransports
     Collection<Unit> transportsToLoad = Collections.emptyList();
-    if (MoveValidator.isLoad(units, s_dependentUnits, route, getData(), getCurrentPlayer())) {
+    if (MoveValidator.isLoad(units, inputs.dependentUnits, route, getData(), player)) {
       transportsToLoad = route.getEnd().getUnits().getMatches(
-          new CompositeMatchAnd<>(Matches.UnitIsTransport, Matches.alliedUnit(getCurrentPlayer(), getData())));
+          new CompositeMatchAnd<>(Matches.UnitIsTransport, Matches.alliedUnit(player, getData())));
     }
     List<Unit> best = new ArrayList<>(units);
     // if the player selects a land unit and other units
@@ -476,67 +569,190 @@ public class MovePanel extends AbstractMovePanel {
     if (route.getStart().isWater() && route.getEnd() != null && route.getEnd().isWater() && !route.isLoad()) {
       best = Match.getMatches(best, new InverseMatch<>(Matches.UnitIsLand));
     }
-    sortUnitsToMove(best, route);
+    sortUnitsToMove(best, route, player);
     Collections.reverse(best);
-    List<Unit> bestWithDependents = addMustMoveWith(best);
+    List<Unit> bestWithDependents = addMustMoveWith(best, mustMoveWithDetails);
     MoveValidationResult allResults;
     getData().acquireReadLock();
     try {
-      allResults = AbstractMoveDelegate.validateMove(moveType, bestWithDependents, route, getCurrentPlayer(),
-          transportsToLoad, s_dependentUnits, nonCombat, getUndoableMoves(), getData());
+      allResults = AbstractMoveDelegate.validateMove(inputs.moveType, bestWithDependents, route, player,
+          transportsToLoad, inputs.dependentUnits, inputs.nonCombat, undoableMoves, getData());
     } finally {
       getData().releaseReadLock();
     }
     MoveValidationResult lastResults = allResults;
     if (!allResults.isMoveValid()) {
       // if the player is invading only consider units that can invade
-      if (!nonCombat && route.isUnload()
-          && Matches.isTerritoryEnemy(getCurrentPlayer(), getData()).match(route.getEnd())) {
+      if (!inputs.nonCombat && route.isUnload()
+          && Matches.isTerritoryEnemy(player, getData()).match(route.getEnd())) {
         best = Match.getMatches(best, Matches.UnitCanInvade);
-        bestWithDependents = addMustMoveWith(best);
-        lastResults = AbstractMoveDelegate.validateMove(moveType, bestWithDependents, route, getCurrentPlayer(),
-            transportsToLoad, s_dependentUnits, nonCombat, getUndoableMoves(), getData());
+        bestWithDependents = addMustMoveWith(best, mustMoveWithDetails);
+        lastResults = AbstractMoveDelegate.validateMove(inputs.moveType, bestWithDependents, route, player,
+            transportsToLoad, inputs.dependentUnits, inputs.nonCombat, undoableMoves, getData());
       }
       while (!best.isEmpty() && !lastResults.isMoveValid()) {
         best = best.subList(1, best.size());
-        bestWithDependents = addMustMoveWith(best);
-        lastResults = AbstractMoveDelegate.validateMove(moveType, bestWithDependents, route, getCurrentPlayer(),
-            transportsToLoad, s_dependentUnits, nonCombat, getUndoableMoves(), getData());
+        bestWithDependents = addMustMoveWith(best, mustMoveWithDetails);
+        lastResults = AbstractMoveDelegate.validateMove(inputs.moveType, bestWithDependents, route, player,
+            transportsToLoad, inputs.dependentUnits, inputs.nonCombat, undoableMoves, getData());
       }
     }
     if (allResults.isMoveValid()) {
       // valid move
       if (bestWithDependents.containsAll(selectedUnits)) {
-        clearStatusMessage();
-        currentCursorImage = null;
-      } else {
-        setStatusWarningMessage("Not all units can move there");
-        currentCursorImage = getMap().getWarningImage().orElse(null);
-      }
-    } else {
-      String message = allResults.getError();
-      if (message == null) {
-        message = allResults.getDisallowedUnitWarning(0);
-      }
-      if (message == null) {
-        message = allResults.getUnresolvedUnitWarning(0);
+        return new RouteValidation(route, bestWithDependents, null, false);
       }
-      if (!lastResults.isMoveValid()) {
-        setStatusErrorMessage(message);
-        currentCursorImage = getMap().getErrorImage().orElse(null);
-      } else {
-        setStatusWarningMessage(message);
-        currentCursorImage = getMap().getWarningImage().orElse(null);
+      return new RouteValidation(route, bestWithDependents, "Not all units can move there", false);
+    }
+    String message = allResults.getError();
+    if (message == null) {
+      message = allResults.getDisallowedUnitWarning(0);
+    }
+    if (message == null) {
+      message = allResults.getUnresolvedUnitWarning(0);
+    }
+    return new RouteValidation(route, bestWithDependents, message, !lastResults.isMoveValid());
+  }
+
+  /**
+   * Validates the route from start to end for the selected units, and if only air units could get there, checks
+   * whether a better route exists for the air units alone.
+   */
+  private RouteValidation validateRouteToTerritory(final Territory start, final Territory end,
+      final Collection<Unit> selectedUnits, final List<Territory> forced,
+      final MustMoveWithDetails mustMoveWithDetails, final List<UndoableMove> undoableMoves,
+      final RouteValidationInputs inputs) {
+    getData().acquireReadLock();
+    try {
+      final RouteValidation validation =
+          validateRoute(selectedUnits, getRoute(start, end, selectedUnits, forced, inputs.player), selectedUnits,
+              mustMoveWithDetails, undoableMoves, inputs);
+      // now, check if there is a better route for just the units that can get there (we check only air since that is
+      // the only one for which the route may actually change much)
+      final List<Unit> canMove = validation.unitsThatCanMove;
+      if (canMove.size() < selectedUnits.size()
+          && (canMove.size() == 0 || Match.allMatch(canMove, Matches.UnitIsAir))) {
+        final Collection<Unit> airUnits = Match.getMatches(selectedUnits, Matches.UnitIsAir);
+        if (airUnits.size() > 0) {
+          return validateRoute(airUnits, getRoute(start, end, airUnits, forced, inputs.player), selectedUnits,
+              mustMoveWithDetails, undoableMoves, inputs);
+        }
       }
+      return validation;
+    } finally {
+      getData().releaseReadLock();
+    }
+  }
+
+  private void applyRouteValidation(final RouteValidation validation) {
+    if (validation.route == null || validation.route.hasNoSteps()) {
+      getMap().showMouseCursor();
+    } else {
+      getMap().hideMouseCursor();
     }
-    if (unitsThatCanMoveOnRoute.size() != new HashSet<>(unitsThatCanMoveOnRoute).size()) {
+    if (validation.message == null) {
+      clearStatusMessage();
+      currentCursorImage = null;
+    } else if (validation.error) {
+      setStatusErrorMessage(validation.message);
+      currentCursorImage = getMap().getErrorImage().orElse(null);
+    } else {
+      setStatusWarningMessage(validation.message);
+      currentCursorImage = getMap().getWarningImage().orElse(null);
+    }
+    if (validation.route != null && !validation.route.hasNoSteps()
+        && unitsThatCanMoveOnRoute.size() != new HashSet<>(unitsThatCanMoveOnRoute).size()) {
       cancelMove();
       return;
     }
-    unitsThatCanMoveOnRoute = new ArrayList<>(bestWithDependents);
+    unitsThatCanMoveOnRoute = new ArrayList<>(validation.unitsThatCanMove);
+  }
+
+  private List<Object> getRouteValidationKey(final Territory end) {
+    return Arrays.asList(getFirstSelectedTerritory(), end, new ArrayList<>(selectedUnits),
+        forced == null ? null : new ArrayList<>(forced));
+  }
+
+  /**
+   * Shows the route to the territory the mouse is over, once it is validated on the route validation thread. A newer
+   * request supersedes one that is still waiting or running, whose result is then dropped.
+   */
+  private void validateRouteInBackground(final Territory end) {
+    cancelRouteValidation();
+    final List<Object> key = getRouteValidationKey(end);
+    final RouteValidation recent = recentRouteValidations.get(key);
+    if (recent != null) {
+      showRouteValidation(key, recent);
+      return;
+    }
+    final int generation = routeValidationGeneration;
+    final Territory start = getFirstSelectedTerritory();
+    final List<Unit> units = new ArrayList<>(selectedUnits);
+    final List<Territory> forcedTerritories = forced == null ? null : new ArrayList<>(forced);
+    final MustMoveWithDetails mustMoveWith = mustMoveWithDetails;
+    final List<UndoableMove> undoableMoves = new ArrayList<>(getUndoableMoves());
+    final RouteValidationInputs inputs = getRouteValidationInputs();
+    pendingRouteValidation = routeValidator.submit(() -> {
+      try {
+        final RouteValidation validation =
+            validateRouteToTerritory(start, end, units, forcedTerritories, mustMoveWith, undoableMoves, inputs);
+        SwingUtilities.invokeLater(() -> {
+          if (generation == routeValidationGeneration) {
+            pendingRouteValidation = null;
+            showRouteValidation(key, validation);
+          }
+        });
+      } catch (final RuntimeException e) {
+        ClientLogger.logQuietly("Failed to validate route to: " + end, e);
+      }
+    });
+  }
+
+  /**
+   * Validates the route to the territory right away, unless that is the route last shown.
+   */
+  private void validateRouteNow(final Territory end) {
+    final List<Object> key = getRouteValidationKey(end);
+    if (key.equals(shownRouteValidationKey) && pendingRouteValidation == null) {
+      return;
+    }
+    cancelRouteValidation();
+    RouteValidation validation = recentRouteValidations.get(key);
+    if (validation == null) {
+      validation = validateRouteToTerritory(getFirstSelectedTerritory(), end, selectedUnits, forced,
+          mustMoveWithDetails, getUndoableMoves(), getRouteValidationInputs());
+    }
+    showRouteValidation(key, validation);
+  }
+
+  private void showRouteValidation(final List<Object> key, final RouteValidation validation) {
+    recentRouteValidations.put(key, validation);
+    shownRouteValidationKey = key;
+    applyRouteValidation(validation);
+    updateRouteAndMouseShadowUnits(validation.route);
+  }
+
+  /**
+   * Drops the route validation in progress, if any, so its result is never shown.
+   */
+  private void cancelRouteValidation() {
+    routeValidationGeneration++;
+    shownRouteValidationKey = null;
+    if (pendingRouteValidation != null) {
+      pendingRouteValidation.cancel(false);
+      pendingRouteValidation = null;
+    }
   }
 
-  private List<Unit> addMustMoveWith(final List<Unit> best) {
+  /**
+   * Forgets the recent route validations, for when the units or the moves made so far change.
+   */
+  private void clearRouteValidations() {
+    cancelRouteValidation();
+    recentRouteValidations.clear();
+  }
+
+  private static List<Unit> addMustMoveWith(final List<Unit> best, final MustMoveWithDetails mustMoveWithDetails) {
     final List<Unit> bestWithDependents = new ArrayList<>(best);
     for (final Unit u : best) {
       if (mustMoveWithDetails.getMustMoveWith().containsKey(u)) {
@@ -1121,6 +1337,8 @@ public class MovePanel extends AbstractMovePanel {
     }
 
     private void selectEndPoint(final Territory territory) {
+      // the player may click before the route validation for the territory is done
+      validateRouteNow(territory);
       final Route route = getRoute(getFirstSelectedTerritory(), territory, selectedUnits);
       final List<Unit> units = unitsThatCanMoveOnRoute;
       setSelectedEndpointTerritory(territory);
@@ -1296,32 +1514,15 @@ public class MovePanel extends AbstractMovePanel {
         return;
       }
       if (getFirstSelectedTerritory() != null && territory != null) {
-        Route route;
-        if (mouseCurrentTerritory == null || !mouseCurrentTerritory.equals(territory)
-            || mouseCurrentPoint.equals(mouseLastUpdatePoint)) {
-          route = getRoute(getFirstSelectedTerritory(), territory, selectedUnits);
-          getData().acquireReadLock();
-          try {
-            updateUnitsThatCanMoveOnRoute(selectedUnits, route);
-            // now, check if there is a better route for just the units that can get there (we check only air since that
-            // is the only one for
-            // which the route may actually change much)
-            if (unitsThatCanMoveOnRoute.size() < selectedUnits.size() && (unitsThatCanMoveOnRoute.size() == 0
-                || Match.allMatch(unitsThatCanMoveOnRoute, Matches.UnitIsAir))) {
-              final Collection<Unit> airUnits = Match.getMatches(selectedUnits, Matches.UnitIsAir);
-              if (airUnits.size() > 0) {
-                route = getRoute(getFirstSelectedTerritory(), territory, airUnits);
-                updateUnitsThatCanMoveOnRoute(airUnits, route);
-              }
-            }
-          } finally {
-            getData().releaseReadLock();
-          }
-        } else {
-          route = routeCached;
-        }
+        final boolean validate = mouseCurrentTerritory == null || !mouseCurrentTerritory.equals(territory)
+            || mouseCurrentPoint.equals(mouseLastUpdatePoint);
         mouseCurrentPoint = me.getMapPoint();
-        updateRouteAndMouseShadowUnits(route);
+        if (validate) {
+          // the route is drawn once validated
+          validateRouteInBackground(territory);
+        } else if (pendingRouteValidation == null) {
+          updateRouteAndMouseShadowUnits(routeCached);
+        }
       }
       mouseCurrentTerritory = territory;
     }
@@ -1337,6 +1538,7 @@ public class MovePanel extends AbstractMovePanel {
       return;
     }
     this.firstSelectedTerritory = firstSelectedTerritory;
+    clearRouteValidations();
     if (firstSelectedTerritory == null) {
       mustMoveWithDetails = null;
     } else {
@@ -1385,6 +1587,7 @@ public class MovePanel extends AbstractMovePanel {
     getMap().removeMouseOverUnitListener(MOUSE_OVER_UNIT_LISTENER);
     getMap().setUnitHighlight(null);
     selectedUnits.clear();
+    clearRouteValidations();
     updateRouteAndMouseShadowUnits(null);
     forced = null;
   }
@@ -1396,6 +1599,7 @@ public class MovePanel extends AbstractMovePanel {
     mouseCurrentTerritory = null;
     forced = null;
     selectedUnits.clear();
+    clearRouteValidations();
     currentCursorImage = null;
     updateRouteAndMouseShadowUnits(null);
     getMap().showMouseCursor();
@@ -1404,6 +1608,7 @@ public class MovePanel extends AbstractMovePanel {
 
   @Override
   protected final void undoMoveSpecific() {
+    clearRouteValidations();
     getMap().setRoute(null);
   }
 
@@ -24,6 +24,8 @@ import javax.swing.table.TableCellRenderer;
 import javax.swing.table.TableColumn;
 
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeArea;
+import games.strategy.engine.data.DerivedValue;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
@@ -44,6 +46,9 @@ import games.strategy.util.IntegerMap;
 import games.strategy.util.Match;
 
 public class StatPanel extends AbstractStatPanel {
+  // the stats are recalculated after every change, but most changes, like spending PUs, leave the units alone
+  private static final DerivedValue<PlayerID, Integer> tuv =
+      new DerivedValue<>("TUV stat", StatPanel::computeTuv, ChangeArea.UNITS, ChangeArea.PRODUCTION);
   private static final long serialVersionUID = 4340684166664492498L;
   final private StatTableModel m_dataModel;
   final private TechTableModel m_techModel;
@@ -481,13 +486,23 @@ public class StatPanel extends AbstractStatPanel {
     @Override
     public double getValue(final PlayerID player, final GameData data) {
       int rVal = 0;
-      final Match<Unit> ownedBy = Matches.unitIsOwnedBy(player);
       for (final Territory place : data.getMap().getTerritories()) {
-        rVal += place.getUnits().countMatches(ownedBy);
+        rVal += place.getUnits().getUnitCount(player);
       }
       return rVal;
     }
   }
+  private static int computeTuv(final GameData data, final PlayerID player) {
+    final IntegerMap<UnitType> costs = BattleCalculator.getCostsForTUV(player, data);
+    final Match<Unit> unitIsOwnedBy = Matches.unitIsOwnedBy(player);
+    int rVal = 0;
+    for (final Territory place : data.getMap().getTerritories()) {
+      final Collection<Unit> owned = place.getUnits().getMatches(unitIsOwnedBy);
+      rVal += BattleCalculator.getTUV(owned, costs);
+    }
+    return rVal;
+  }
+
   class TUVStat extends AbstractStat {
     @Override
     public String getName() {
@@ -496,14 +511,7 @@ public class StatPanel extends AbstractStatPanel {
 
     @Override
     public double getValue(final PlayerID player, final GameData data) {
-      final IntegerMap<UnitType> costs = BattleCalculator.getCostsForTUV(player, data);
-      final Match<Unit> unitIsOwnedBy = Matches.unitIsOwnedBy(player);
-      int rVal = 0;
-      for (final Territory place : data.getMap().getTerritories()) {
-        final Collection<Unit> owned = place.getUnits().getMatches(unitIsOwnedBy);
-        rVal += BattleCalculator.getTUV(owned, costs);
-      }
-      return rVal;
+      return tuv.get(data, player);
     }
   }
   class VictoryCityStat extends AbstractStat {
@@ -0,0 +1,134 @@
+package games.strategy.triplea.ui;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.data.Territory;
+import games.strategy.performance.PerfTimer;
+
+/**
+ * Collects the territories changed by a burst of game data changes, and updates each of them once.
+ *
+ * <p>
+ * Every change fires the territory listeners, so a composite change or a step through the history that touches a
+ * territory several times used to rebuild its drawables several times, and to repaint the map for each. Territories
+ * are instead marked dirty here, and a frame later the update runs once for all territories marked in the meantime,
+ * on the scheduler's own thread and after the change that marked them has released the game data.
+ * </p>
+ *
+ * <p>
+ * The scheduler counts how often territories were marked, updated and how many batches ran. Every batch is timed
+ * with {@link PerfTimer}, which logs how many changes it covered to the performance console.
+ * </p>
+ */
+class TerritoryUpdateScheduler {
+  // about one frame
+  static final long DEFAULT_DELAY_MILLIS = 16;
+  private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("Map territory updater").setDaemon(true).build());
+
+  private final long delayMillis;
+  private final BiConsumer<Set<Territory>, Set<Territory>> update;
+  private final Object lock = new Object();
+  private Set<Territory> dirtyTerritories = new LinkedHashSet<>();
+  private Set<Territory> ownerChangedTerritories = new LinkedHashSet<>();
+  private boolean scheduled = false;
+  private long pendingInvalidationCount = 0;
+  private long invalidationCount = 0;
+  private long updateCount = 0;
+  private long batchCount = 0;
+
+  /**
+   * @param update called with the territories to update and those of them whose owner changed, never on the thread
+   *        that marks the territories.
+   */
+  TerritoryUpdateScheduler(final long delayMillis, final BiConsumer<Set<Territory>, Set<Territory>> update) {
+    this.delayMillis = delayMillis;
+    this.update = update;
+  }
+
+  /**
+   * Marks the territory to be updated with the next batch.
+   */
+  void invalidate(final Territory territory, final boolean ownerChanged) {
+    synchronized (lock) {
+      invalidationCount++;
+      pendingInvalidationCount++;
+      dirtyTerritories.add(territory);
+      if (ownerChanged) {
+        ownerChangedTerritories.add(territory);
+      }
+      if (!scheduled) {
+        scheduled = true;
+        scheduler.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /**
+   * Updates the territories marked so far, if any.
+   */
+  void flush() {
+    final Set<Territory> territories;
+    final Set<Territory> ownerChanged;
+    final long invalidations;
+    synchronized (lock) {
+      scheduled = false;
+      if (dirtyTerritories.isEmpty()) {
+        return;
+      }
+      territories = dirtyTerritories;
+      ownerChanged = ownerChangedTerritories;
+      dirtyTerritories = new LinkedHashSet<>();
+      ownerChangedTerritories = new LinkedHashSet<>();
+      invalidations = pendingInvalidationCount;
+      pendingInvalidationCount = 0;
+      updateCount += territories.size();
+      batchCount++;
+    }
+    try {
+      final PerfTimer timer = PerfTimer
+          .startTimer("Map update of " + territories.size() + " territories for " + invalidations + " changes");
+      try {
+        update.accept(Collections.unmodifiableSet(territories), Collections.unmodifiableSet(ownerChanged));
+      } finally {
+        // closing writes to the performance console, which can fail without a display, so it is caught too
+        timer.close();
+      }
+    } catch (final RuntimeException e) {
+      ClientLogger.logQuietly("Failed to update territories: " + territories, e);
+    }
+  }
+
+  /**
+   * The number of times a territory was marked.
+   */
+  long getInvalidationCount() {
+    synchronized (lock) {
+      return invalidationCount;
+    }
+  }
+
+  /**
+   * The number of territory updates done, the difference to {@link #getInvalidationCount()} is what batching saved.
+   */
+  long getUpdateCount() {
+    synchronized (lock) {
+      return updateCount;
+    }
+  }
+
+  long getBatchCount() {
+    synchronized (lock) {
+      return batchCount;
+    }
+  }
+}
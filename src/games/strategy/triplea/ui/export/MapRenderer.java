@@ -0,0 +1,215 @@
+package games.strategy.triplea.ui.export;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.imageio.ImageIO;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.framework.GameDataManager;
+import games.strategy.engine.history.HistoryNode;
+import games.strategy.engine.history.Round;
+import games.strategy.triplea.ui.IUIContext;
+import games.strategy.triplea.ui.mapdata.MapData;
+import games.strategy.triplea.ui.screen.Tile;
+import games.strategy.triplea.ui.screen.TileManager;
+import games.strategy.ui.Util;
+import games.strategy.util.IllegalCharacterRemover;
+
+/**
+ * Renders the whole map for a game state into an image, without a map panel or a visible frame.
+ *
+ * <p>
+ * Each rendering sets up its own {@link TileManager} for the given game data, so renderings do not disturb the map
+ * on screen and several can run at once. The images the map is drawn from, and the scale, come from the UI context.
+ * {@link #renderRounds(GameData, File, int)} uses this to save the map at the end of every round of the game's
+ * history, rendering the rounds in parallel from separate copies of the game data.
+ * </p>
+ */
+public final class MapRenderer {
+  // the tiles are drawn once and copied to the map image, there is no need to keep them
+  private static final long TILE_IMAGE_CACHE_BYTES = 0;
+
+  private final IUIContext uiContext;
+
+  public MapRenderer(final IUIContext uiContext) {
+    this.uiContext = checkNotNull(uiContext);
+  }
+
+  /**
+   * Renders the map for the current state of the game data.
+   *
+   * @param title The title to draw on the map if the map enables screenshot titles, may be null for none.
+   */
+  public BufferedImage render(final GameData data, final String title) {
+    final MapData mapData = uiContext.getMapData();
+    final double scale = uiContext.getScale();
+    final Dimension mapDimensions = mapData.getMapDimensions();
+    final BufferedImage mapImage =
+        Util.createImage((int) (scale * mapDimensions.width), (int) (scale * mapDimensions.height), false);
+    final Graphics2D graphics = mapImage.createGraphics();
+    try {
+      data.acquireReadLock();
+      try {
+        final TileManager tileManager = new TileManager(uiContext, TILE_IMAGE_CACHE_BYTES);
+        final Rectangle bounds = new Rectangle(mapDimensions);
+        tileManager.createTiles(bounds, data, mapData);
+        tileManager.resetTiles(data, mapData);
+        for (final Tile tile : tileManager.getTiles(bounds)) {
+          final Image tileImage = tile.getImage(data, mapData);
+          final AffineTransform transform = new AffineTransform();
+          transform.translate(tile.getBounds().x * scale, tile.getBounds().y * scale);
+          graphics.drawImage(tileImage, transform, null);
+        }
+      } finally {
+        data.releaseReadLock();
+      }
+      if (title != null) {
+        drawTitle(graphics, mapData, scale, title);
+      }
+    } finally {
+      graphics.dispose();
+    }
+    return mapImage;
+  }
+
+  /**
+   * Draws the title where the map's screenshot properties place it, if the map enables screenshot titles.
+   */
+  static void drawTitle(final Graphics2D graphics, final MapData mapData, final double scale, final String title) {
+    if (!mapData.getBooleanProperty(MapData.PROPERTY_SCREENSHOT_TITLE_ENABLED)) {
+      return;
+    }
+    Color title_color = mapData.getColorProperty(MapData.PROPERTY_SCREENSHOT_TITLE_COLOR);
+    if (title_color == null) {
+      title_color = Color.BLACK;
+    }
+    final String s_title_x = mapData.getProperty(MapData.PROPERTY_SCREENSHOT_TITLE_X);
+    final String s_title_y = mapData.getProperty(MapData.PROPERTY_SCREENSHOT_TITLE_Y);
+    final String s_title_size = mapData.getProperty(MapData.PROPERTY_SCREENSHOT_TITLE_FONT_SIZE);
+    int title_x;
+    int title_y;
+    int title_size;
+    try {
+      title_x = (int) (Integer.parseInt(s_title_x) * scale);
+      title_y = (int) (Integer.parseInt(s_title_y) * scale);
+      title_size = Integer.parseInt(s_title_size);
+    } catch (final NumberFormatException nfe) {
+      // choose safe defaults
+      title_x = (int) (15 * scale);
+      title_y = (int) (15 * scale);
+      title_size = 15;
+    }
+    // everything else should be scaled down onto map image
+    final AffineTransform transform = new AffineTransform();
+    transform.scale(scale, scale);
+    graphics.setTransform(transform);
+    graphics.setFont(new Font("Ariel", Font.BOLD, title_size));
+    graphics.setColor(title_color);
+    graphics.drawString(title, title_x, title_y);
+  }
+
+  /**
+   * Saves the map at the end of every round of the game's history as a PNG file in the directory, named after the
+   * game and the round.
+   *
+   * @param data The game data, at the end of its history as the data of a running game is.
+   * @param threads The number of rounds to render at once, each needs a copy of the game data and of the map image.
+   * @return The files written, in round order.
+   */
+  public List<File> renderRounds(final GameData data, final File directory, final int threads)
+      throws IOException {
+    final byte[] serializedData;
+    final List<Integer> roundIndexes = new ArrayList<>();
+    final String gameName;
+    data.acquireReadLock();
+    try {
+      gameName = data.getGameName();
+      final HistoryNode root = (HistoryNode) data.getHistory().getRoot();
+      for (int i = 0; i < root.getChildCount(); i++) {
+        if (root.getChildAt(i) instanceof Round) {
+          roundIndexes.add(i);
+        }
+      }
+      final ByteArrayOutputStream sink = new ByteArrayOutputStream(10000);
+      new GameDataManager().saveGame(sink, data, false);
+      serializedData = sink.toByteArray();
+    } finally {
+      data.releaseReadLock();
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads),
+        new ThreadFactoryBuilder().setNameFormat("Round renderer %d").setDaemon(true).build());
+    try {
+      final List<Future<File>> files = new ArrayList<>();
+      for (final int roundIndex : roundIndexes) {
+        files.add(executor.submit(() -> renderRound(serializedData, roundIndex, gameName, directory)));
+      }
+      final List<File> written = new ArrayList<>();
+      for (final Future<File> file : files) {
+        written.add(file.get());
+      }
+      return written;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while rendering rounds", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Failed to render rounds", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private File renderRound(final byte[] serializedData, final int roundIndex, final String gameName,
+      final File directory) throws IOException {
+    final GameData data = new GameDataManager().loadGame(new ByteArrayInputStream(serializedData), null);
+    final Round round = (Round) ((HistoryNode) data.getHistory().getRoot()).getChildAt(roundIndex);
+    // the state at the end of the round
+    data.getHistory().gotoNode((HistoryNode) round.getLastLeaf());
+    final String title = gameName + " Round " + round.getRoundNo();
+    final File file = new File(directory,
+        IllegalCharacterRemover.removeIllegalCharacter(gameName + "_round_" + round.getRoundNo()) + ".png");
+    final BufferedImage image = render(data, title);
+    try {
+      ImageIO.write(image, "png", file);
+    } finally {
+      image.flush();
+    }
+    return file;
+  }
+
+  /**
+   * Returns how many rounds can be rendered at once, limited by the cores and by the memory the map images take.
+   */
+  public int getMaxParallelRenderings() {
+    final Dimension mapDimensions = uiContext.getMapData().getMapDimensions();
+    final double scale = uiContext.getScale();
+    // the map image, plus as much again for the game data copy and the png encoder
+    final long bytesPerRendering = 2L * 4 * (long) (mapDimensions.width * scale) * (long) (mapDimensions.height * scale);
+    final long memoryForRenderings = Runtime.getRuntime().maxMemory() / 2;
+    return (int) Math.max(1,
+        Math.min(Runtime.getRuntime().availableProcessors(), memoryForRenderings / Math.max(1, bytesPerRendering)));
+  }
+}
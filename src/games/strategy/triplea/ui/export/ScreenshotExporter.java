@@ -2,10 +2,7 @@ package games.strategy.triplea.ui.export;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.awt.Color;
-import java.awt.Font;
 import java.awt.Graphics2D;
-import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
@@ -21,7 +18,6 @@ import games.strategy.engine.history.Round;
 import games.strategy.triplea.ui.IUIContext;
 import games.strategy.triplea.ui.MapPanel;
 import games.strategy.triplea.ui.TripleAFrame;
-import games.strategy.triplea.ui.mapdata.MapData;
 import games.strategy.ui.SwingComponents;
 import games.strategy.ui.Util;
 
@@ -95,35 +91,7 @@ public final class ScreenshotExporter {
       mapPanel.drawMapImage(mapGraphics);
       mapPanel.setTopLeft(xOffset, yOffset);
       // overlay title
-      Color title_color = iuiContext.getMapData().getColorProperty(MapData.PROPERTY_SCREENSHOT_TITLE_COLOR);
-      if (title_color == null) {
-        title_color = Color.BLACK;
-      }
-      final String s_title_x = iuiContext.getMapData().getProperty(MapData.PROPERTY_SCREENSHOT_TITLE_X);
-      final String s_title_y = iuiContext.getMapData().getProperty(MapData.PROPERTY_SCREENSHOT_TITLE_Y);
-      final String s_title_size = iuiContext.getMapData().getProperty(MapData.PROPERTY_SCREENSHOT_TITLE_FONT_SIZE);
-      int title_x;
-      int title_y;
-      int title_size;
-      try {
-        title_x = (int) (Integer.parseInt(s_title_x) * scale);
-        title_y = (int) (Integer.parseInt(s_title_y) * scale);
-        title_size = Integer.parseInt(s_title_size);
-      } catch (final NumberFormatException nfe) {
-        // choose safe defaults
-        title_x = (int) (15 * scale);
-        title_y = (int) (15 * scale);
-        title_size = 15;
-      }
-      // everything else should be scaled down onto map image
-      final AffineTransform transform = new AffineTransform();
-      transform.scale(scale, scale);
-      mapGraphics.setTransform(transform);
-      mapGraphics.setFont(new Font("Ariel", Font.BOLD, title_size));
-      mapGraphics.setColor(title_color);
-      if (iuiContext.getMapData().getBooleanProperty(MapData.PROPERTY_SCREENSHOT_TITLE_ENABLED)) {
-        mapGraphics.drawString(gameData.getGameName() + " Round " + round, title_x, title_y);
-      }
+      MapRenderer.drawTitle(mapGraphics, iuiContext.getMapData(), scale, gameData.getGameName() + " Round " + round);
 
       // save Image as .png
       ImageIO.write(mapImage, "png", file);
@@ -94,6 +94,7 @@ public class MapData implements Closeable {
   private Map<String, List<Point>> m_place;
   // maps String -> Collection of Polygons
   private Map<String, List<Polygon>> m_polys;
+  private TerritoryPolygonIndex m_polygonIndex;
   // maps String -> Point
   private Map<String, Point> m_centers;
   // maps String -> Point
@@ -160,6 +161,7 @@ public class MapData implements Closeable {
       }
       
       m_polys = PointFileReaderWriter.readOneToManyPolygons(loader.getResourceAsStream(prefix + POLYGON_FILE));
+      m_polygonIndex = new TerritoryPolygonIndex(m_polys);
       m_centers = PointFileReaderWriter.readOneToOneCenters(loader.getResourceAsStream(prefix + CENTERS_FILE));
       m_vcPlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + VC_MARKERS));
       m_convoyPlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + CONVOY_MARKERS));
@@ -447,7 +449,7 @@ public class MapData implements Closeable {
     return null;
   }
 
-  public Color getPlayerColor(final String playerName) {
+  public synchronized Color getPlayerColor(final String playerName) {
     // already loaded, just return
     if (m_playerColors.containsKey(playerName)) {
       return m_playerColors.get(playerName);
@@ -616,26 +618,8 @@ public class MapData implements Closeable {
    * Get the territory at the x,y co-ordinates could be null.
    */
   public String getTerritoryAt(final double x, final double y) {
-    String seaName = null;
-    // try to find a land territory.
-    // sea zones often surround a land territory
-    final Iterator<String> keyIter = m_polys.keySet().iterator();
-    while (keyIter.hasNext()) {
-      final String name = keyIter.next();
-      final Collection<Polygon> polygons = m_polys.get(name);
-      final Iterator<Polygon> polyIter = polygons.iterator();
-      while (polyIter.hasNext()) {
-        final Polygon poly = polyIter.next();
-        if (poly.contains(x, y)) {
-          if (Util.isTerritoryNameIndicatingWater(name)) {
-            seaName = name;
-          } else {
-            return name;
-          }
-        }
-      }
-    }
-    return seaName;
+    // land territories take priority, sea zones often surround a land territory
+    return m_polygonIndex.getTerritoryAt(x, y);
   }
 
   public Dimension getMapDimensions() {
@@ -774,7 +758,7 @@ public class MapData implements Closeable {
     return m_territoryEffects.get(territory.getName());
   }
 
-  public Optional<Image> getTerritoryEffectImage(final String m_effectName) {
+  public synchronized Optional<Image> getTerritoryEffectImage(final String m_effectName) {
     // TODO: what does this cache buy us? should we still keep it?
     if (m_effectImages.get(m_effectName) != null) {
       return Optional.of(m_effectImages.get(m_effectName));
@@ -0,0 +1,105 @@
+package games.strategy.triplea.ui.mapdata;
+
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import games.strategy.ui.Util;
+
+/**
+ * Finds the territory at a point of the map without testing every territory polygon.
+ *
+ * <p>
+ * The map is divided into square cells and each cell lists the polygons whose bounding box overlaps it, so a lookup
+ * only tests the polygons of the cell the point is in. Land territories take priority over sea zones, as sea zones
+ * often surround land. The polygons of a cell are kept in the iteration order of the polygon map, so that
+ * overlapping territories resolve exactly as a scan over that map would: the first land territory or else the last
+ * sea zone that contains the point.
+ * </p>
+ */
+class TerritoryPolygonIndex {
+  private static final int MIN_CELL_SIZE = 32;
+  private static final int MAX_CELLS_PER_SIDE = 256;
+
+  private static final class Entry {
+    private final String name;
+    private final Polygon polygon;
+    private final boolean water;
+
+    private Entry(final String name, final Polygon polygon) {
+      this.name = name;
+      this.polygon = polygon;
+      water = Util.isTerritoryNameIndicatingWater(name);
+    }
+  }
+
+  private final Rectangle bounds;
+  private final int cellSize;
+  private final int columns;
+  private final int rows;
+  private final Entry[][] cells;
+
+  TerritoryPolygonIndex(final Map<String, List<Polygon>> polygons) {
+    Rectangle allBounds = null;
+    for (final List<Polygon> territoryPolygons : polygons.values()) {
+      for (final Polygon polygon : territoryPolygons) {
+        allBounds = allBounds == null ? polygon.getBounds() : allBounds.union(polygon.getBounds());
+      }
+    }
+    bounds = allBounds == null ? new Rectangle() : allBounds;
+    cellSize = Math.max(MIN_CELL_SIZE,
+        (Math.max(bounds.width, bounds.height) + MAX_CELLS_PER_SIDE - 1) / MAX_CELLS_PER_SIDE);
+    columns = bounds.width / cellSize + 1;
+    rows = bounds.height / cellSize + 1;
+    final List<List<Entry>> cellEntries = new ArrayList<>(columns * rows);
+    for (int i = 0; i < columns * rows; i++) {
+      cellEntries.add(new ArrayList<>());
+    }
+    for (final Map.Entry<String, List<Polygon>> territory : polygons.entrySet()) {
+      for (final Polygon polygon : territory.getValue()) {
+        final Entry entry = new Entry(territory.getKey(), polygon);
+        final Rectangle polygonBounds = polygon.getBounds();
+        final int maxColumn = column(polygonBounds.getMaxX());
+        final int maxRow = row(polygonBounds.getMaxY());
+        for (int row = row(polygonBounds.getMinY()); row <= maxRow; row++) {
+          for (int column = column(polygonBounds.getMinX()); column <= maxColumn; column++) {
+            cellEntries.get(row * columns + column).add(entry);
+          }
+        }
+      }
+    }
+    cells = new Entry[cellEntries.size()][];
+    for (int i = 0; i < cells.length; i++) {
+      cells[i] = cellEntries.get(i).toArray(new Entry[0]);
+    }
+  }
+
+  private int column(final double x) {
+    return Math.min(columns - 1, (int) ((x - bounds.x) / cellSize));
+  }
+
+  private int row(final double y) {
+    return Math.min(rows - 1, (int) ((y - bounds.y) / cellSize));
+  }
+
+  /**
+   * Returns the name of the territory at the point, or null if there is none.
+   */
+  String getTerritoryAt(final double x, final double y) {
+    if (x < bounds.x || y < bounds.y || x > bounds.getMaxX() || y > bounds.getMaxY()) {
+      return null;
+    }
+    String seaName = null;
+    for (final Entry entry : cells[row(y) * columns + column(x)]) {
+      if (entry.polygon.contains(x, y)) {
+        if (!entry.water) {
+          return entry.name;
+        }
+        seaName = entry.name;
+      }
+    }
+    return seaName;
+  }
+}
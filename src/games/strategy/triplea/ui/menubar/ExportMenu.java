@@ -23,6 +23,7 @@ import javax.swing.JFrame;
 import javax.swing.JMenu;
 import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 import javax.swing.WindowConstants;
 import javax.swing.tree.DefaultMutableTreeNode;
 
@@ -44,10 +45,12 @@ import games.strategy.triplea.printgenerator.SetupFrame;
 import games.strategy.triplea.ui.ExtendedStats;
 import games.strategy.triplea.ui.IUIContext;
 import games.strategy.triplea.ui.TripleAFrame;
+import games.strategy.triplea.ui.export.MapRenderer;
 import games.strategy.triplea.ui.export.ScreenshotExporter;
 import games.strategy.triplea.ui.history.HistoryPanel;
 import games.strategy.triplea.util.PlayerOrderComparator;
 import games.strategy.ui.SwingAction;
+import games.strategy.ui.SwingComponents;
 import games.strategy.util.IllegalCharacterRemover;
 import games.strategy.util.LocalizeHTML;
 
@@ -71,6 +74,7 @@ public class ExportMenu {
     addExportSetupCharts(menuGame);
     addExportUnitStats(menuGame);
     addSaveScreenshot(menuGame);
+    addSaveRoundScreenshots(menuGame);
   }
 
   // TODO: create a second menu option for parsing current attachments
@@ -131,6 +135,31 @@ public class ExportMenu {
     parentMenu.add(abstractAction).setMnemonic(KeyEvent.VK_E);
   }
 
+  private void addSaveRoundScreenshots(final JMenu parentMenu) {
+    final Action saveRounds = SwingAction.of("Export Map Snapshots of All Rounds", e -> {
+      final JFileChooser chooser = new JFileChooser();
+      chooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+      chooser.setDialogTitle("Folder for the Map Snapshots");
+      if (chooser.showSaveDialog(frame) != JFileChooser.APPROVE_OPTION) {
+        return;
+      }
+      final File directory = chooser.getSelectedFile();
+      final MapRenderer renderer = new MapRenderer(iuiContext);
+      SwingComponents.runWithProgressBar(frame, "Saving map snapshots...",
+          () -> renderer.renderRounds(gameData, directory, renderer.getMaxParallelRenderings()))
+          .whenComplete((files, ex) -> SwingUtilities.invokeLater(() -> {
+            if (ex == null) {
+              JOptionPane.showMessageDialog(frame, files.size() + " map snapshots saved to " + directory,
+                  "Map Snapshots Saved", JOptionPane.INFORMATION_MESSAGE);
+            } else {
+              JOptionPane.showMessageDialog(frame, ex.getMessage(), "Error Saving Map Snapshots",
+                  JOptionPane.ERROR_MESSAGE);
+            }
+          }));
+    });
+    parentMenu.add(saveRounds);
+  }
+
   private void addExportStatsFull(final JMenu parentMenu) {
     final Action showDiceStats = SwingAction.of("Export Full Game Stats", e -> createAndSaveStats(true));
     parentMenu.add(showDiceStats).setMnemonic(KeyEvent.VK_F);
@@ -86,6 +86,7 @@ public class ViewMenu {
     addMapSkinsMenu(menuView);
     addShowMapDetails(menuView);
     addShowMapBlends(menuView);
+    addUseDiskTileCache(menuView);
     addDrawTerritoryBordersAgain(menuView);
     addMapFontAndColorEditorMenu(menuView);
     addChatTimeMenu(menuView);
@@ -322,6 +323,14 @@ public class ViewMenu {
     menuGame.add(showMapDetails);
   }
 
+  private static void addUseDiskTileCache(final JMenu parentMenu) {
+    final JCheckBoxMenuItem useDiskTileCache = new JCheckBoxMenuItem("Cache Zoomed Map Tiles On Disk");
+    useDiskTileCache.setSelected(TileImageFactory.getUseDiskTileCache());
+    useDiskTileCache.addActionListener(
+        SwingAction.of(e -> TileImageFactory.setUseDiskTileCache(useDiskTileCache.isSelected())));
+    parentMenu.add(useDiskTileCache);
+  }
+
   private void addShowMapBlends(final JMenu menuGame) {
     showMapBlends = new JCheckBoxMenuItem("Show Map Blends");
     showMapBlends.setMnemonic(KeyEvent.VK_B);
@@ -1,14 +1,15 @@
 package games.strategy.triplea.ui.screen;
 
-import java.awt.AlphaComposite;
-import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -20,29 +21,43 @@ import games.strategy.triplea.util.Stopwatch;
 import games.strategy.ui.ImageScrollerSmallView;
 import games.strategy.ui.Util;
 
+/**
+ * Draws the small map: the scaled map image with each land territory filled in its owner's color, and a box for
+ * every stack of units.
+ *
+ * <p>
+ * Only the territories whose owner changed are drawn again, straight at the scale of the small map. The units are
+ * drawn on a copy of the territory image which then replaces the image of the small view in one step, so this can
+ * run off the event dispatch thread and the view never shows a half drawn map.
+ * </p>
+ */
 public class SmallMapImageManager {
   private static final Logger s_logger = Logger.getLogger(SmallMapImageManager.class.getName());
   private final ImageScrollerSmallView m_view;
   private static final int UNIT_BOX_SIZE = 4;
-  private Image m_offscreen;
+  // the scaled map with the land territories in their owners' colors, without the units
+  private BufferedImage m_offscreen;
   private final TileManager m_tileManager;
 
   public SmallMapImageManager(final ImageScrollerSmallView view, final BufferedImage offscreen,
       final TileManager tileManager) {
     m_view = view;
-    m_offscreen = Util.copyImage(offscreen);
+    m_offscreen = (BufferedImage) Util.copyImage(offscreen);
     m_tileManager = tileManager;
   }
 
-  public void updateOffscreenImage(final BufferedImage offscreen) {
+  public synchronized void updateOffscreenImage(final BufferedImage offscreen) {
     m_offscreen.flush();
-    m_offscreen = Util.copyImage(offscreen);
+    m_offscreen = (BufferedImage) Util.copyImage(offscreen);
   }
 
   public void update(final GameData data, final MapData mapData) {
     final Stopwatch stopwatch = new Stopwatch(s_logger, Level.FINEST, "Small map updating took");
-    final Graphics onScreenGraphics = m_view.getOffScreenImage().getGraphics();
-    onScreenGraphics.drawImage(m_offscreen, 0, 0, null);
+    final Image image;
+    synchronized (this) {
+      image = Util.copyImage(m_offscreen);
+    }
+    final Graphics onScreenGraphics = image.getGraphics();
     for (final UnitsDrawer drawer : new ArrayList<>(m_tileManager.getUnitDrawables())) {
       final int x = (int) (drawer.getPlacementPoint().x * m_view.getRatioX());
       final int y = (int) (drawer.getPlacementPoint().y * m_view.getRatioY());
@@ -50,55 +65,43 @@ public class SmallMapImageManager {
       onScreenGraphics.fillRect(x, y, UNIT_BOX_SIZE, UNIT_BOX_SIZE);
     }
     onScreenGraphics.dispose();
+    m_view.swapImage(image);
     stopwatch.done();
   }
 
   public void updateTerritoryOwner(final Territory t, final GameData data, final MapData mapData) {
-    if (t.isWater()) {
-      return;
-    }
-    final Rectangle bounds = new Rectangle(mapData.getBoundingRect(t.getName()));
-    // create a large image for the territory
-    final Image largeImage = Util.createImage(bounds.width, bounds.height, true);
-    // make it transparent
-    // http://www-106.ibm.com/developerworks/library/j-begjava/
-    {
-      final Graphics2D g = (Graphics2D) largeImage.getGraphics();
-      g.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR, 0.0f));
-      g.setColor(new Color(0));
-      g.fillRect(0, 0, bounds.width, bounds.height);
-      g.dispose();
-    }
-    // draw the territory
-    {
-      final Graphics2D g = (Graphics2D) largeImage.getGraphics();
-      g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-      g.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
-      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-      final LandTerritoryDrawable drawable = new LandTerritoryDrawable(t.getName());
-      drawable.draw(bounds, data, g, mapData, null, null);
-      g.dispose();
-    }
-    // scale it down
-    int thumbWidth = (int) (bounds.width * m_view.getRatioX());
-    int thumbHeight = (int) (bounds.height * m_view.getRatioY());
-    // make the image a little bigger
-    // the images wont overlap perfectly after being scaled, make them a little bigger to rebalance that
-    thumbWidth += 3;
-    thumbHeight += 3;
-    final int thumbsX = (int) (bounds.x * m_view.getRatioX()) - 1;
-    final int thumbsY = (int) (bounds.y * m_view.getRatioY()) - 1;
-    // create the thumb image
-    final Image thumbImage = Util.createImage(thumbWidth, thumbHeight, true);
-    {
-      final Graphics g = thumbImage.getGraphics();
-      g.drawImage(largeImage, 0, 0, thumbImage.getWidth(null), thumbImage.getHeight(null), null);
-      g.dispose();
-    }
-    {
-      final Graphics g = m_offscreen.getGraphics();
-      // draw it on our offscreen
-      g.drawImage(thumbImage, thumbsX, thumbsY, thumbImage.getWidth(null), thumbImage.getHeight(null), null);
+    updateTerritoryOwners(Collections.singleton(t), data, mapData);
+  }
+
+  /**
+   * Fills the land territories in their owners' colors. The result shows with the next {@link #update}.
+   */
+  public synchronized void updateTerritoryOwners(final Collection<Territory> territories, final GameData data,
+      final MapData mapData) {
+    final Graphics2D g = m_offscreen.createGraphics();
+    g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+    g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    final AffineTransform identity = g.getTransform();
+    data.acquireReadLock();
+    try {
+      for (final Territory t : territories) {
+        if (t.isWater()) {
+          continue;
+        }
+        final Rectangle bounds = new Rectangle(mapData.getBoundingRect(t.getName()));
+        // the territories wont overlap perfectly after being scaled, draw them a little bigger to rebalance that
+        final int thumbWidth = (int) (bounds.width * m_view.getRatioX()) + 3;
+        final int thumbHeight = (int) (bounds.height * m_view.getRatioY()) + 3;
+        final int thumbsX = (int) (bounds.x * m_view.getRatioX()) - 1;
+        final int thumbsY = (int) (bounds.y * m_view.getRatioY()) - 1;
+        // draw the territory polygons straight at the scale of the small map
+        g.setTransform(identity);
+        g.translate(thumbsX, thumbsY);
+        g.scale(thumbWidth / (double) bounds.width, thumbHeight / (double) bounds.height);
+        new LandTerritoryDrawable(t.getName()).draw(bounds, data, g, mapData, null, null);
+      }
+    } finally {
+      data.releaseReadLock();
       g.dispose();
     }
   }
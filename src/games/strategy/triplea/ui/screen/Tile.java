@@ -9,7 +9,6 @@ import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -26,14 +25,15 @@ import games.strategy.triplea.ui.mapdata.MapData;
 import games.strategy.triplea.ui.screen.drawable.DrawableComparator;
 import games.strategy.triplea.ui.screen.drawable.IDrawable;
 import games.strategy.triplea.util.Stopwatch;
+import games.strategy.ui.ImageCache;
 import games.strategy.ui.Util;
 
 public class Tile {
   public static final LockUtil S_TILE_LOCKUTIL = LockUtil.INSTANCE;
   private static final boolean DRAW_DEBUG = false;
   private static final Logger s_logger = Logger.getLogger(Tile.class.getName());
-  // allow the gc to implement memory management
-  private SoftReference<Image> m_imageRef;
+  // holds the drawn image, and may evict it when over its memory budget
+  private final ImageCache<Tile> m_imageCache;
   private boolean m_isDirty = true;
   private final Rectangle m_bounds;
   private final int m_x;
@@ -42,18 +42,20 @@ public class Tile {
   private final Lock m_lock = new ReentrantLock();
   private final List<IDrawable> m_contents = new ArrayList<>();
 
-  public Tile(final Rectangle bounds, final int x, final int y, final double scale) {
+  public Tile(final Rectangle bounds, final int x, final int y, final double scale,
+      final ImageCache<Tile> imageCache) {
     // s_logger.log(Level.FINER, "Tile created for:" + bounds);
     m_bounds = bounds;
     m_x = x;
     m_y = y;
     m_scale = scale;
+    m_imageCache = imageCache;
   }
 
   public boolean isDirty() {
     acquireLock();
     try {
-      return m_isDirty || m_imageRef == null || m_imageRef.get() == null;
+      return m_isDirty || m_imageCache.peek(this) == null;
     } finally {
       releaseLock();
     }
@@ -70,14 +72,10 @@ public class Tile {
   public Image getImage(final GameData data, final MapData mapData) {
     acquireLock();
     try {
-      if (m_imageRef == null) {
-        m_imageRef = new SoftReference<>(createBlankImage());
-        m_isDirty = true;
-      }
-      Image image = m_imageRef.get();
+      Image image = m_imageCache.get(this);
       if (image == null) {
         image = createBlankImage();
-        m_imageRef = new SoftReference<>(image);
+        m_imageCache.put(this, image);
         m_isDirty = true;
       }
       if (m_isDirty) {
@@ -105,10 +103,7 @@ public class Tile {
    * @return the image we currently have.
    */
   public Image getRawImage() {
-    if (m_imageRef == null) {
-      return null;
-    }
-    return m_imageRef.get();
+    return m_imageCache.peek(this);
   }
 
   private void draw(final Graphics2D g, final GameData data, final MapData mapData) {
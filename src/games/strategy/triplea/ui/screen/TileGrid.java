@@ -0,0 +1,88 @@
+package games.strategy.triplea.ui.screen;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The tiles of a map, indexed by their column and row.
+ *
+ * <p>
+ * The tiles are laid out on a fixed grid of {@code tileSize} squares, so the tiles under a rectangle are found from
+ * the rectangle's coordinates instead of testing every tile. A grid never changes once built, a new grid is built
+ * when the tiles are recreated, so it can be read from any thread without locking.
+ * </p>
+ */
+class TileGrid {
+  private final int tileSize;
+  private final Tile[][] tiles;
+  private final List<Tile> allTiles;
+
+  /**
+   * @param tileFactory creates the tile at the given bounds.
+   */
+  TileGrid(final Dimension size, final int tileSize, final Function<Rectangle, Tile> tileFactory) {
+    this.tileSize = tileSize;
+    final int columns = (size.width + tileSize - 1) / tileSize;
+    final int rows = (size.height + tileSize - 1) / tileSize;
+    tiles = new Tile[columns][rows];
+    final List<Tile> all = new ArrayList<>(columns * rows);
+    for (int x = 0; x < columns; x++) {
+      for (int y = 0; y < rows; y++) {
+        tiles[x][y] = tileFactory.apply(new Rectangle(x * tileSize, y * tileSize, tileSize, tileSize));
+        all.add(tiles[x][y]);
+      }
+    }
+    allTiles = Collections.unmodifiableList(all);
+  }
+
+  /**
+   * Returns all tiles, column by column.
+   */
+  List<Tile> getAllTiles() {
+    return allTiles;
+  }
+
+  /**
+   * Selects the tiles which fall into the bounds. On a map that wraps, bounds that extend past the edge of the map
+   * also select the tiles on the other side.
+   */
+  List<Tile> getTiles(final Rectangle2D bounds, final Dimension mapDimensions, final boolean wrapX,
+      final boolean wrapY) {
+    final List<Tile> tilesInBounds = new ArrayList<>();
+    addTiles(bounds, tilesInBounds);
+    if (wrapX && (bounds.getMaxX() > mapDimensions.width || bounds.getMinX() < 0)) {
+      final int shift = bounds.getMinX() < 0 ? mapDimensions.width : -mapDimensions.width;
+      addTiles(new Rectangle((int) bounds.getMinX() + shift, (int) bounds.getMinY(), (int) bounds.getWidth(),
+          (int) bounds.getHeight()), tilesInBounds);
+    }
+    if (wrapY && (bounds.getMaxY() > mapDimensions.height || bounds.getMinY() < 0)) {
+      final int shift = bounds.getMinY() < 0 ? mapDimensions.height : -mapDimensions.height;
+      addTiles(new Rectangle((int) bounds.getMinX(), (int) bounds.getMinY() + shift, (int) bounds.getWidth(),
+          (int) bounds.getHeight()), tilesInBounds);
+    }
+    return tilesInBounds;
+  }
+
+  /**
+   * Adds the tiles that intersect the bounds, the same tiles as {@link Rectangle#intersects(Rectangle2D)} would pick.
+   */
+  private void addTiles(final Rectangle2D bounds, final List<Tile> tilesInBounds) {
+    if (bounds.getWidth() <= 0 || bounds.getHeight() <= 0 || tiles.length == 0) {
+      return;
+    }
+    final int minColumn = Math.max(0, (int) Math.floor(bounds.getMinX() / tileSize));
+    final int maxColumn = Math.min(tiles.length - 1, (int) Math.ceil(bounds.getMaxX() / tileSize) - 1);
+    final int minRow = Math.max(0, (int) Math.floor(bounds.getMinY() / tileSize));
+    final int maxRow = Math.min(tiles[0].length - 1, (int) Math.ceil(bounds.getMaxY() / tileSize) - 1);
+    for (int x = minColumn; x <= maxColumn; x++) {
+      for (int y = minRow; y <= maxRow; y++) {
+        tilesInBounds.add(tiles[x][y]);
+      }
+    }
+  }
+}
@@ -31,6 +31,7 @@ import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.image.TileImageFactory;
 import games.strategy.triplea.ui.IUIContext;
 import games.strategy.triplea.ui.mapdata.MapData;
 import games.strategy.triplea.ui.screen.TerritoryOverLayDrawable.OP;
@@ -54,13 +55,16 @@ import games.strategy.triplea.ui.screen.drawable.TerritoryNameDrawable;
 import games.strategy.triplea.ui.screen.drawable.VCDrawable;
 import games.strategy.triplea.util.UnitCategory;
 import games.strategy.triplea.util.UnitSeperator;
+import games.strategy.ui.ImageCache;
 import games.strategy.ui.Util;
 import games.strategy.util.Tuple;
 
 public class TileManager {
   private static final Logger s_logger = Logger.getLogger(TileManager.class.getName());
   public final static int TILE_SIZE = 256;
-  private List<Tile> m_tiles = new ArrayList<>();
+  // replaced as a whole when the tiles are recreated, so it can be read without holding m_lock
+  private volatile TileGrid m_tiles = new TileGrid(new Dimension(), TILE_SIZE, null);
+  private final ImageCache<Tile> m_tileImageCache;
   private final Lock m_lock = new ReentrantLock();
   private final Map<String, IDrawable> m_territoryOverlays = new HashMap<>();
   // maps territoryname - collection of drawables
@@ -71,7 +75,15 @@ public class TileManager {
   private final IUIContext m_uiContext;
 
   public TileManager(final IUIContext uiContext) {
+    this(uiContext, TileImageFactory.getImageCacheBudgetBytes() * 2 / 3);
+  }
+
+  /**
+   * @param tileImageCacheBytes the most memory the drawn tile images may take.
+   */
+  public TileManager(final IUIContext uiContext, final long tileImageCacheBytes) {
     m_uiContext = uiContext;
+    m_tileImageCache = new ImageCache<>("Drawn map tiles", tileImageCacheBytes);
   }
 
   /**
@@ -82,64 +94,16 @@ public class TileManager {
    * @return tiles which fall into the rectangle
    */
   public List<Tile> getTiles(final Rectangle2D bounds) {
-    // if the rectangle exceeds the map dimensions we to do shift the rectangle and check for each shifted rectangle as
-    // well as the original
-    // rectangle
+    // if the rectangle exceeds the map dimensions on a map that wraps, the tiles on the other side are selected as well
     final MapData mapData = m_uiContext.getMapData();
-    final Dimension mapDimensions = mapData.getMapDimensions();
-    final boolean testXshift =
-        (mapData.scrollWrapX() && (bounds.getMaxX() > mapDimensions.width || bounds.getMinX() < 0));
-    final boolean testYshift =
-        (mapData.scrollWrapY() && (bounds.getMaxY() > mapDimensions.height || bounds.getMinY() < 0));
-    Rectangle2D boundsXshift = null;
-    if (testXshift) {
-      if (bounds.getMinX() < 0) {
-        boundsXshift = new Rectangle((int) bounds.getMinX() + mapDimensions.width, (int) bounds.getMinY(),
-            (int) bounds.getWidth(), (int) bounds.getHeight());
-      } else {
-        boundsXshift = new Rectangle((int) bounds.getMinX() - mapDimensions.width, (int) bounds.getMinY(),
-            (int) bounds.getWidth(), (int) bounds.getHeight());
-      }
-    }
-    Rectangle2D boundsYshift = null;
-    if (testYshift) {
-      if (bounds.getMinY() < 0) {
-        boundsYshift = new Rectangle((int) bounds.getMinX(), (int) bounds.getMinY() + mapDimensions.height,
-            (int) bounds.getWidth(), (int) bounds.getHeight());
-      } else {
-        boundsYshift = new Rectangle((int) bounds.getMinX(), (int) bounds.getMinY() - mapDimensions.height,
-            (int) bounds.getWidth(), (int) bounds.getHeight());
-      }
-    }
-    acquireLock();
-    try {
-      final List<Tile> rVal = new ArrayList<>();
-      for (final Tile tile : m_tiles) {
-        final Rectangle tileBounds = tile.getBounds();
-        if (bounds.contains(tileBounds) || tileBounds.intersects(bounds)) {
-          rVal.add(tile);
-        }
-      }
-      if (boundsXshift != null) {
-        for (final Tile tile : m_tiles) {
-          final Rectangle tileBounds = tile.getBounds();
-          if (boundsXshift.contains(tileBounds) || tileBounds.intersects(boundsXshift)) {
-            rVal.add(tile);
-          }
-        }
-      }
-      if (boundsYshift != null) {
-        for (final Tile tile : m_tiles) {
-          final Rectangle tileBounds = tile.getBounds();
-          if (boundsYshift.contains(tileBounds) || tileBounds.intersects(boundsYshift)) {
-            rVal.add(tile);
-          }
-        }
-      }
-      return rVal;
-    } finally {
-      releaseLock();
-    }
+    return m_tiles.getTiles(bounds, mapData.getMapDimensions(), mapData.scrollWrapX(), mapData.scrollWrapY());
+  }
+
+  /**
+   * Marks the tiles on or near the screen, their images are the last to be evicted from the tile image cache.
+   */
+  public void setTilesInView(final Collection<Tile> tiles) {
+    m_tileImageCache.setInUse(tiles);
   }
 
   private void acquireLock() {
@@ -162,14 +126,13 @@ public class TileManager {
   public void createTiles(final Rectangle bounds, final GameData data, final MapData mapData) {
     acquireLock();
     try {
+      // the images of the old tiles will not be used again
+      m_tileImageCache.clear();
       // create our tiles
-      m_tiles = new ArrayList<>();
-      for (int x = 0; (x) * TILE_SIZE < bounds.width; x++) {
-        for (int y = 0; (y) * TILE_SIZE < bounds.height; y++) {
-          m_tiles.add(new Tile(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE), x, y,
-              m_uiContext.getScale()));
-        }
-      }
+      final double scale = m_uiContext.getScale();
+      m_tiles = new TileGrid(bounds.getSize(), TILE_SIZE,
+          tileBounds -> new Tile(tileBounds, tileBounds.x / TILE_SIZE, tileBounds.y / TILE_SIZE, scale,
+              m_tileImageCache));
     } finally {
       releaseLock();
     }
@@ -180,7 +143,7 @@ public class TileManager {
     try {
       acquireLock();
       try {
-        final Iterator<Tile> allTiles = m_tiles.iterator();
+        final Iterator<Tile> allTiles = m_tiles.getAllTiles().iterator();
         while (allTiles.hasNext()) {
           final Tile tile = allTiles.next();
           tile.clear();
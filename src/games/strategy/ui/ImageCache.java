@@ -0,0 +1,204 @@
+package games.strategy.ui;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * A least recently used cache of images that is bounded by the memory the images take, not by their number.
+ *
+ * <p>
+ * Images held only through soft references are all dropped at once when the heap runs low, and then have to be
+ * redrawn or decoded at once, while they are kept without limit otherwise. This cache holds its images strongly up
+ * to a budget in bytes, and evicts the least recently used ones beyond that. Images can be marked as in use, for
+ * example the tiles on screen, and are then only evicted once no other image is left to evict.
+ * </p>
+ *
+ * <p>
+ * The cache counts hits, misses and evictions, see {@link #getStatistics()}. All caches that are still referenced
+ * can be listed with {@link #getAllStatistics()}. The cache is thread safe.
+ * </p>
+ */
+public class ImageCache<K> {
+  private static final Set<ImageCache<?>> allCaches = Collections.newSetFromMap(new WeakHashMap<>());
+
+  private final String name;
+  private final long budgetBytes;
+  // least recently used first, get moves an entry to the end
+  private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>();
+  private Set<K> inUse = Collections.emptySet();
+  private long bytes = 0;
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  private static final class Entry {
+    private final Image image;
+    private final long bytes;
+
+    private Entry(final Image image) {
+      this.image = image;
+      bytes = getSizeInBytes(image);
+    }
+  }
+
+  /**
+   * @param name shown in the statistics.
+   * @param budgetBytes the most memory the cached images may take.
+   */
+  public ImageCache(final String name, final long budgetBytes) {
+    this.name = name;
+    this.budgetBytes = budgetBytes;
+    synchronized (allCaches) {
+      allCaches.add(this);
+    }
+  }
+
+  /**
+   * Returns the memory taken by the pixels of the image, estimated at 4 bytes a pixel if it is not a
+   * {@link BufferedImage}.
+   */
+  static long getSizeInBytes(final Image image) {
+    if (image instanceof BufferedImage) {
+      final DataBuffer buffer = ((BufferedImage) image).getRaster().getDataBuffer();
+      return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+    return 4L * Math.max(0, image.getWidth(null)) * Math.max(0, image.getHeight(null));
+  }
+
+  /**
+   * Returns the cached image, or null if it is not cached.
+   */
+  public synchronized Image get(final K key) {
+    final Entry entry = entries.remove(key);
+    if (entry == null) {
+      misses++;
+      return null;
+    }
+    entries.put(key, entry);
+    hits++;
+    return entry.image;
+  }
+
+  /**
+   * Returns the cached image like {@link #get(Object)}, but without counting a hit or miss, or making the image
+   * recently used.
+   */
+  public synchronized Image peek(final K key) {
+    final Entry entry = entries.get(key);
+    return entry == null ? null : entry.image;
+  }
+
+  public synchronized void put(final K key, final Image image) {
+    final Entry entry = new Entry(image);
+    final Entry old = entries.remove(key);
+    if (old != null) {
+      bytes -= old.bytes;
+    }
+    entries.put(key, entry);
+    bytes += entry.bytes;
+    evict(key);
+  }
+
+  public synchronized void remove(final K key) {
+    final Entry old = entries.remove(key);
+    if (old != null) {
+      bytes -= old.bytes;
+    }
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+    bytes = 0;
+  }
+
+  /**
+   * Marks the images that are in use, replacing the previous ones. Those are evicted last.
+   */
+  public synchronized void setInUse(final Collection<K> keys) {
+    inUse = new HashSet<>(keys);
+  }
+
+  /**
+   * Evicts images, least recently used first and those in use last, until the cache fits its budget. The image that
+   * was just added is kept even if it does not fit on its own.
+   */
+  private void evict(final K newest) {
+    if (bytes <= budgetBytes) {
+      return;
+    }
+    final List<K> inUseKeys = new ArrayList<>();
+    final Iterator<Map.Entry<K, Entry>> iterator = entries.entrySet().iterator();
+    while (bytes > budgetBytes && iterator.hasNext()) {
+      final Map.Entry<K, Entry> entry = iterator.next();
+      if (entry.getKey().equals(newest)) {
+        continue;
+      }
+      if (inUse.contains(entry.getKey())) {
+        inUseKeys.add(entry.getKey());
+        continue;
+      }
+      iterator.remove();
+      bytes -= entry.getValue().bytes;
+      evictions++;
+    }
+    for (final K key : inUseKeys) {
+      if (bytes <= budgetBytes) {
+        break;
+      }
+      bytes -= entries.remove(key).bytes;
+      evictions++;
+    }
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public synchronized long getSizeInBytes() {
+    return bytes;
+  }
+
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  public synchronized long getEvictions() {
+    return evictions;
+  }
+
+  public synchronized String getStatistics() {
+    final long mb = 1024 * 1024;
+    return name + ": " + entries.size() + " images, " + (bytes / mb) + " of " + (budgetBytes / mb) + " MB, hits: "
+        + hits + ", misses: " + misses + ", evictions: " + evictions;
+  }
+
+  /**
+   * Returns the statistics of every image cache in use, one per line.
+   */
+  public static String getAllStatistics() {
+    final List<ImageCache<?>> caches;
+    synchronized (allCaches) {
+      caches = new ArrayList<>(allCaches);
+    }
+    final StringBuilder statistics = new StringBuilder();
+    for (final ImageCache<?> cache : caches) {
+      statistics.append(cache.getStatistics()).append("\n");
+    }
+    return statistics.toString();
+  }
+}
@@ -13,6 +13,7 @@ import java.awt.event.MouseMotionListener;
 import java.awt.geom.Rectangle2D;
 
 import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
 import javax.swing.border.EtchedBorder;
 
 /**
@@ -22,7 +23,8 @@ import javax.swing.border.EtchedBorder;
 public class ImageScrollerSmallView extends JComponent {
   private static final long serialVersionUID = 7010099211049677928L;
   private final ImageScrollModel m_model;
-  private Image m_image;
+  // replaced as a whole, so it can be read from any thread
+  private volatile Image m_image;
 
   public ImageScrollerSmallView(final Image image, final ImageScrollModel model) {
     m_model = model;
@@ -87,6 +89,21 @@ public class ImageScrollerSmallView extends JComponent {
     this.repaint();
   }
 
+  /**
+   * Replaces the image with one of the same size, for example an updated copy. Can be called from any thread, the
+   * view shows the new image once it is repainted.
+   */
+  public void swapImage(final Image image) {
+    SwingUtilities.invokeLater(() -> {
+      final Image old = m_image;
+      m_image = image;
+      if (old != image) {
+        old.flush();
+      }
+      repaint();
+    });
+  }
+
   private int getInsetsWidth() {
     return getInsets().left + getInsets().right;
   }
@@ -1,32 +1,82 @@
 package games.strategy.util;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
 
 /**
  * A utility class for mapping Objects to ints. <br>
  * Supports adding and comparing of maps.
+ *
+ * <p>
+ * The ints are kept unboxed in an open addressing hash table, next to an array of the keys, so adding to a value
+ * does not allocate. Removed keys leave a marker behind until the table is rebuilt. The keys are spread over the table
+ * like a {@link HashMap} does, so iterating the keys visits them in nearly the same order as before. The views from
+ * {@link #keySet()}, {@link #values()} and {@link #entrySet()} are live, and iterating them while keys are added or
+ * removed other than through the iterator fails fast.
+ * </p>
+ *
+ * <p>
+ * Saved games hold integer maps in the form this class used to have, a single {@code HashMap<T, Integer>} field, and
+ * it is still written and read that way.
+ * </p>
  */
 public class IntegerMap<T> implements Cloneable, Serializable {
   private static final long serialVersionUID = 6856531659284300930L;
-  private final HashMap<T, Integer> mapValues;
+  private static final ObjectStreamField[] serialPersistentFields =
+      {new ObjectStreamField("mapValues", HashMap.class)};
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+  private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+  // stands in for the null key, which a hash map allows
+  private static final Object NULL_KEY = new Object();
+  // marks the slot of a removed key, so keys placed after it can still be found
+  private static final Object REMOVED = new Object();
+  private static final Object[] NO_KEYS = {};
+  private static final int[] NO_VALUES = {};
+
+  private transient float loadFactor;
+  private transient int initialCapacity;
+  // null for a free slot
+  private transient Object[] keys = NO_KEYS;
+  private transient int[] values = NO_VALUES;
+  private transient int size = 0;
+  private transient int removed = 0;
+  private transient int modCount = 0;
 
   /** Creates new IntegerMap */
   public IntegerMap() {
-    mapValues = new HashMap<>();
+    this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
   }
 
   public IntegerMap(final int size) {
-    mapValues = new HashMap<>(size);
+    this(size, DEFAULT_LOAD_FACTOR);
   }
 
   public IntegerMap(final int size, final float loadFactor) {
-    mapValues = new HashMap<>(size, loadFactor);
+    if (size < 0) {
+      throw new IllegalArgumentException("Illegal initial capacity: " + size);
+    }
+    if (loadFactor <= 0 || Float.isNaN(loadFactor)) {
+      throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+    }
+    // an open addressing table needs free slots to end its searches
+    this.loadFactor = Math.min(loadFactor, 0.9f);
+    initialCapacity = size;
   }
 
   public IntegerMap(final T object, final int value) {
@@ -46,10 +96,8 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * @param integerMap
    */
   public IntegerMap(final IntegerMap<T> integerMap) {
-    mapValues = new HashMap<>(integerMap.size());
-    for (final T t : integerMap.keySet()) {
-      mapValues.put(t, integerMap.getInt(t));
-    }
+    this(integerMap.size());
+    add(integerMap);
   }
 
   /**
@@ -59,18 +107,133 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * @param integerMaps
    */
   public IntegerMap(final IntegerMap<T>[] integerMaps) {
-    mapValues = new HashMap<>();
+    this();
     for (final IntegerMap<T> integerMap : integerMaps) {
       this.add(integerMap);
     }
   }
 
+  private static int hash(final Object maskedKey) {
+    final int h = maskedKey.hashCode();
+    return h ^ (h >>> 16);
+  }
+
+  private static Object mask(final Object key) {
+    return key == null ? NULL_KEY : key;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T unmask(final Object maskedKey) {
+    return maskedKey == NULL_KEY ? null : (T) maskedKey;
+  }
+
+  private static int tableSizeFor(final int capacity) {
+    int n = 1;
+    while (n < capacity && n < MAXIMUM_CAPACITY) {
+      n <<= 1;
+    }
+    return n;
+  }
+
+  /**
+   * Returns the slot of the key, or -1 if it is not in the map.
+   */
+  private int indexOf(final Object key) {
+    if (size == 0) {
+      return -1;
+    }
+    final Object maskedKey = mask(key);
+    final int mask = keys.length - 1;
+    int index = hash(maskedKey) & mask;
+    while (true) {
+      final Object current = keys[index];
+      if (current == null) {
+        return -1;
+      }
+      if (current == maskedKey || (current != REMOVED && current.equals(maskedKey))) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+  }
+
+  /**
+   * Returns the slot of the key, adding the key with a value of 0 if it is not in the map.
+   */
+  private int insert(final T key) {
+    final Object maskedKey = mask(key);
+    if (keys.length == 0) {
+      resize(tableSizeFor(Math.max(initialCapacity, 1)));
+    }
+    final int mask = keys.length - 1;
+    int index = hash(maskedKey) & mask;
+    int firstRemoved = -1;
+    while (true) {
+      final Object current = keys[index];
+      if (current == null) {
+        break;
+      }
+      if (current == REMOVED) {
+        if (firstRemoved < 0) {
+          firstRemoved = index;
+        }
+      } else if (current == maskedKey || current.equals(maskedKey)) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+    if (firstRemoved >= 0) {
+      index = firstRemoved;
+      removed--;
+    }
+    keys[index] = maskedKey;
+    values[index] = 0;
+    size++;
+    modCount++;
+    if (size + removed > keys.length * loadFactor) {
+      resize(size > keys.length * loadFactor / 2 ? keys.length * 2 : keys.length);
+      return indexOf(key);
+    }
+    return index;
+  }
+
+  private void resize(final int capacity) {
+    final Object[] oldKeys = keys;
+    final int[] oldValues = values;
+    final int newCapacity = Math.min(capacity, MAXIMUM_CAPACITY);
+    keys = new Object[newCapacity];
+    values = new int[newCapacity];
+    removed = 0;
+    final int mask = newCapacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      final Object key = oldKeys[i];
+      if (key != null && key != REMOVED) {
+        int index = hash(key) & mask;
+        while (keys[index] != null) {
+          index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  private void removeAt(final int index) {
+    keys[index] = REMOVED;
+    values[index] = 0;
+    size--;
+    removed++;
+    modCount++;
+  }
+
   public int size() {
-    return mapValues.size();
+    return size;
   }
 
   public void put(final T key, final int value) {
-    mapValues.put(key, value);
+    // insert first, as it can replace the values array
+    final int index = insert(key);
+    values[index] = value;
   }
 
   public void putAll(final Collection<T> keys, final int value) {
@@ -80,9 +243,8 @@ public class IntegerMap<T> implements Cloneable, Serializable {
   }
 
   public void addAll(final Collection<T> keys, final int value) {
-    final Iterator<T> iter = keys.iterator();
-    while (iter.hasNext()) {
-      add(iter.next(), value);
+    for (final T key : keys) {
+      add(key, value);
     }
   }
 
@@ -90,20 +252,13 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * returns 0 if no key found.
    */
   public int getInt(final T key) {
-    if (!mapValues.containsKey(key)) {
-      return 0;
-    }
-    return mapValues.get(key);
+    final int index = indexOf(key);
+    return index < 0 ? 0 : values[index];
   }
 
   public void add(final T key, final int value) {
-    if (mapValues.get(key) == null) {
-      put(key, value);
-    } else {
-      final int oldVal = mapValues.get(key);
-      final int newVal = oldVal + value;
-      put(key, newVal);
-    }
+    final int index = insert(key);
+    values[index] += value;
   }
 
   /**
@@ -116,8 +271,11 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    *        (1 = floor, 2 = round, 3 = ceil)
    */
   public void multiplyAllValuesBy(final double multiplyBy, final int RoundType) {
-    for (final T t : keySet()) {
-      double val = mapValues.get(t);
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] == null || keys[i] == REMOVED) {
+        continue;
+      }
+      double val = values[i];
       switch (RoundType) {
         case 1:
           val = Math.floor(val * multiplyBy);
@@ -132,20 +290,82 @@ public class IntegerMap<T> implements Cloneable, Serializable {
           val = val * multiplyBy;
           break;
       }
-      put(t, (int) val);
+      values[i] = (int) val;
     }
   }
 
   public void clear() {
-    mapValues.clear();
+    if (size > 0 || removed > 0) {
+      Arrays.fill(keys, null);
+      Arrays.fill(values, 0);
+      size = 0;
+      removed = 0;
+      modCount++;
+    }
   }
 
   public Set<T> keySet() {
-    return mapValues.keySet();
+    return new AbstractSet<T>() {
+      @Override
+      public Iterator<T> iterator() {
+        return new SlotIterator<T>() {
+          @Override
+          protected T get(final int index) {
+            return unmask(keys[index]);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public boolean contains(final Object key) {
+        return containsKey((T) key);
+      }
+
+      @Override
+      public boolean remove(final Object key) {
+        final int index = indexOf(key);
+        if (index < 0) {
+          return false;
+        }
+        removeAt(index);
+        return true;
+      }
+
+      @Override
+      public void clear() {
+        IntegerMap.this.clear();
+      }
+    };
   }
 
   public Collection<Integer> values() {
-    return mapValues.values();
+    return new AbstractCollection<Integer>() {
+      @Override
+      public Iterator<Integer> iterator() {
+        return new SlotIterator<Integer>() {
+          @Override
+          protected Integer get(final int index) {
+            return values[index];
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public void clear() {
+        IntegerMap.this.clear();
+      }
+    };
   }
 
   /**
@@ -154,16 +374,10 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * @return true if at least one value and all values are the same.
    */
   public boolean allValuesAreSame() {
-    if (mapValues.isEmpty()) {
+    if (size == 0) {
       return false;
     }
-    final int first = mapValues.values().iterator().next();
-    for (final int value : mapValues.values()) {
-      if (first != value) {
-        return false;
-      }
-    }
-    return true;
+    return allValuesEqual(values[nextSlot(0)]);
   }
 
   /**
@@ -172,11 +386,11 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * @return true if all values are equal to the given integer.
    */
   public boolean allValuesEqual(final int integer) {
-    if (mapValues.isEmpty()) {
+    if (size == 0) {
       return false;
     }
-    for (final int value : mapValues.values()) {
-      if (integer != value) {
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      if (integer != values[i]) {
         return false;
       }
     }
@@ -187,13 +401,13 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Will return zero if empty.
    */
   public int highestValue() {
-    if (mapValues.isEmpty()) {
+    if (size == 0) {
       return 0;
     }
     int max = Integer.MIN_VALUE;
-    for (final int value : mapValues.values()) {
-      if (value > max) {
-        max = value;
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      if (values[i] > max) {
+        max = values[i];
       }
     }
     return max;
@@ -203,13 +417,13 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Will return zero if empty.
    */
   public int lowestValue() {
-    if (mapValues.isEmpty()) {
+    if (size == 0) {
       return 0;
     }
     int min = Integer.MAX_VALUE;
-    for (final int value : mapValues.values()) {
-      if (value < min) {
-        min = value;
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      if (values[i] < min) {
+        min = values[i];
       }
     }
     return min;
@@ -219,15 +433,15 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Will return null if empty.
    */
   public T highestKey() {
-    if (mapValues.isEmpty()) {
+    if (size == 0) {
       return null;
     }
     int max = Integer.MIN_VALUE;
     T rVal = null;
-    for (final Entry<T, Integer> entry : mapValues.entrySet()) {
-      if (entry.getValue() > max) {
-        max = entry.getValue();
-        rVal = entry.getKey();
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      if (values[i] > max) {
+        max = values[i];
+        rVal = unmask(keys[i]);
       }
     }
     return rVal;
@@ -237,15 +451,15 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Will return null if empty.
    */
   public T lowestKey() {
-    if (mapValues.isEmpty()) {
+    if (size == 0) {
       return null;
     }
     int min = Integer.MAX_VALUE;
     T rVal = null;
-    for (final Entry<T, Integer> entry : mapValues.entrySet()) {
-      if (entry.getValue() < min) {
-        min = entry.getValue();
-        rVal = entry.getKey();
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      if (values[i] < min) {
+        min = values[i];
+        rVal = unmask(keys[i]);
       }
     }
     return rVal;
@@ -256,22 +470,18 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    */
   public int totalValues() {
     int sum = 0;
-    for (final int value : mapValues.values()) {
-      sum += value;
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      sum += values[i];
     }
     return sum;
   }
 
   public void add(final IntegerMap<T> map) {
-    for (final T key : map.keySet()) {
-      add(key, map.getInt(key));
-    }
+    addMultiple(map, 1);
   }
 
   public void subtract(final IntegerMap<T> map) {
-    for (final T key : map.keySet()) {
-      add(key, -map.getInt(key));
-    }
+    addMultiple(map, -1);
   }
 
   /**
@@ -283,8 +493,8 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * that a and b are not equal.
    */
   public boolean greaterThanOrEqualTo(final IntegerMap<T> map) {
-    for (final T key : map.keySet()) {
-      if (!(this.getInt(key) >= map.getInt(key))) {
+    for (int i = map.nextSlot(0); i < map.keys.length; i = map.nextSlot(i + 1)) {
+      if (!(this.getInt(IntegerMap.<T>unmask(map.keys[i])) >= map.values[i])) {
         return false;
       }
     }
@@ -295,8 +505,8 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * True if all values are >= 0.
    */
   public boolean isPositive() {
-    for (final T key : mapValues.keySet()) {
-      if (getInt(key) < 0) {
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      if (values[i] < 0) {
         return false;
       }
     }
@@ -318,14 +528,14 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Add map * multiple
    */
   public void addMultiple(final IntegerMap<T> map, final int multiple) {
-    for (final T key : map.keySet()) {
-      add(key, map.getInt(key) * multiple);
+    for (int i = map.nextSlot(0); i < map.keys.length; i = map.nextSlot(i + 1)) {
+      add(IntegerMap.<T>unmask(map.keys[i]), map.values[i] * multiple);
     }
   }
 
   public boolean someKeysMatch(final Match<T> matcher) {
-    for (final T obj : mapValues.keySet()) {
-      if (matcher.match(obj)) {
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      if (matcher.match(unmask(keys[i]))) {
         return true;
       }
     }
@@ -333,8 +543,8 @@ public class IntegerMap<T> implements Cloneable, Serializable {
   }
 
   public boolean allKeysMatch(final Match<T> matcher) {
-    for (final T obj : mapValues.keySet()) {
-      if (!matcher.match(obj)) {
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      if (!matcher.match(unmask(keys[i]))) {
         return false;
       }
     }
@@ -342,20 +552,21 @@ public class IntegerMap<T> implements Cloneable, Serializable {
   }
 
   public Collection<T> getKeyMatches(final Match<T> matcher) {
-    final Collection<T> values = new ArrayList<>();
-    for (final T obj : mapValues.keySet()) {
-      if (matcher.match(obj)) {
-        values.add(obj);
+    final Collection<T> matches = new ArrayList<>();
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      final T key = unmask(keys[i]);
+      if (matcher.match(key)) {
+        matches.add(key);
       }
     }
-    return values;
+    return matches;
   }
 
   public int sumMatches(final Match<T> matcher) {
     int sum = 0;
-    for (final T obj : mapValues.keySet()) {
-      if (matcher.match(obj)) {
-        sum += getInt(obj);
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      if (matcher.match(unmask(keys[i]))) {
+        sum += values[i];
       }
     }
     return sum;
@@ -372,7 +583,10 @@ public class IntegerMap<T> implements Cloneable, Serializable {
   }
 
   public void removeKey(final T key) {
-    mapValues.remove(key);
+    final int index = indexOf(key);
+    if (index >= 0) {
+      removeAt(index);
+    }
   }
 
   private void removeKeys(final Collection<T> keys) {
@@ -382,35 +596,194 @@ public class IntegerMap<T> implements Cloneable, Serializable {
   }
 
   public boolean containsKey(final T key) {
-    return mapValues.containsKey(key);
+    return indexOf(key) >= 0;
   }
 
   public boolean isEmpty() {
-    return mapValues.isEmpty();
+    return size == 0;
   }
 
   public Set<Entry<T, Integer>> entrySet() {
-    return mapValues.entrySet();
+    return new AbstractSet<Entry<T, Integer>>() {
+      @Override
+      public Iterator<Entry<T, Integer>> iterator() {
+        return new SlotIterator<Entry<T, Integer>>() {
+          @Override
+          protected Entry<T, Integer> get(final int index) {
+            return new SlotEntry(index);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public void clear() {
+        IntegerMap.this.clear();
+      }
+    };
+  }
+
+  /**
+   * Returns the first slot at or after the index that holds a key, or the length of the table if there is none.
+   */
+  private int nextSlot(int index) {
+    while (index < keys.length && (keys[index] == null || keys[index] == REMOVED)) {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * Iterates the slots holding keys, in table order.
+   */
+  private abstract class SlotIterator<E> implements Iterator<E> {
+    private final Object[] table = keys;
+    private int next = nextSlot(0);
+    private int current = -1;
+    private int expectedModCount = modCount;
+
+    protected abstract E get(int index);
+
+    @Override
+    public boolean hasNext() {
+      return next < table.length;
+    }
+
+    @Override
+    public E next() {
+      if (modCount != expectedModCount || table != keys) {
+        throw new ConcurrentModificationException();
+      }
+      if (next >= table.length) {
+        throw new NoSuchElementException();
+      }
+      current = next;
+      next = nextSlot(next + 1);
+      return get(current);
+    }
+
+    @Override
+    public void remove() {
+      if (current < 0) {
+        throw new IllegalStateException();
+      }
+      if (modCount != expectedModCount || table != keys) {
+        throw new ConcurrentModificationException();
+      }
+      removeAt(current);
+      current = -1;
+      expectedModCount = modCount;
+    }
+  }
+
+  /**
+   * An entry of the map that reads and writes its slot.
+   */
+  private final class SlotEntry implements Entry<T, Integer> {
+    private final Object[] table = keys;
+    private final int index;
+
+    private SlotEntry(final int index) {
+      this.index = index;
+    }
+
+    @Override
+    public T getKey() {
+      return unmask(table[index]);
+    }
+
+    @Override
+    public Integer getValue() {
+      checkSlot();
+      return values[index];
+    }
+
+    @Override
+    public Integer setValue(final Integer value) {
+      checkSlot();
+      final int old = values[index];
+      values[index] = value;
+      return old;
+    }
+
+    private void checkSlot() {
+      if (table != keys || table[index] == REMOVED) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      final Entry<?, ?> entry = (Entry<?, ?>) o;
+      return Objects.equals(getKey(), entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(getKey()) ^ getValue();
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    final HashMap<T, Integer> mapValues = new HashMap<>(Math.max(DEFAULT_CAPACITY, (int) (size / 0.75f) + 1));
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      mapValues.put(unmask(keys[i]), values[i]);
+    }
+    out.putFields().put("mapValues", mapValues);
+    out.writeFields();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    final HashMap<T, Integer> mapValues = (HashMap<T, Integer>) in.readFields().get("mapValues", null);
+    loadFactor = DEFAULT_LOAD_FACTOR;
+    keys = NO_KEYS;
+    values = NO_VALUES;
+    if (mapValues != null) {
+      initialCapacity = (int) (mapValues.size() / DEFAULT_LOAD_FACTOR) + 1;
+      for (final Entry<T, Integer> entry : mapValues.entrySet()) {
+        put(entry.getKey(), entry.getValue());
+      }
+    } else {
+      initialCapacity = DEFAULT_CAPACITY;
+    }
   }
 
   @Override
   public String toString() {
     final StringBuilder buf = new StringBuilder();
     buf.append("IntegerMap:\n");
-    final Iterator<T> iter = mapValues.keySet().iterator();
-    if (!iter.hasNext()) {
+    if (size == 0) {
       buf.append("empty\n");
     }
-    while (iter.hasNext()) {
-      final T current = iter.next();
-      buf.append(current).append(" -> ").append(getInt(current)).append("\n");
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      buf.append(IntegerMap.<T>unmask(keys[i])).append(" -> ").append(values[i]).append("\n");
     }
     return buf.toString();
   }
 
+  /**
+   * The same hash code a {@code HashMap<T, Integer>} with the same entries has.
+   */
   @Override
   public int hashCode() {
-    return mapValues.hashCode();
+    int hashCode = 0;
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      hashCode += Objects.hashCode(unmask(keys[i])) ^ values[i];
+    }
+    return hashCode;
   }
 
   /**
@@ -428,14 +801,12 @@ public class IntegerMap<T> implements Cloneable, Serializable {
       return false;
     }
     final IntegerMap<T> map = (IntegerMap<T>) o;
-    if (!map.keySet().equals(this.keySet())) {
-      return false;
-    }
-    if (!map.mapValues.equals(this.mapValues)) {
+    if (map.size != size) {
       return false;
     }
-    for (final T key : map.keySet()) {
-      if (!(this.getInt(key) == map.getInt(key))) {
+    for (int i = nextSlot(0); i < keys.length; i = nextSlot(i + 1)) {
+      final int index = map.indexOf(unmask(keys[i]));
+      if (index < 0 || map.values[index] != values[i]) {
         return false;
       }
     }
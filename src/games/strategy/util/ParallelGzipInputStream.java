@@ -0,0 +1,140 @@
+package games.strategy.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads a gzip stream, such as the one written by {@link ParallelGzipOutputStream}, while inflating it ahead of the
+ * reader on a background thread.
+ *
+ * <p>
+ * Reading from the underlying stream and inflating it then overlaps with whatever the caller does with the
+ * uncompressed bytes, e.g. deserializing a save game. At most a few chunks are buffered ahead of the reader.
+ * This class is not thread safe, it is meant to be read from a single thread.
+ * </p>
+ */
+public class ParallelGzipInputStream extends InputStream {
+  private static final int CHUNK_SIZE = 64 * 1024;
+  private static final int MAX_BUFFERED_CHUNKS = 8;
+  private static final byte[] END_OF_STREAM = new byte[0];
+
+  private final InputStream in;
+  private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(MAX_BUFFERED_CHUNKS);
+  private final Thread inflater;
+  private volatile IOException inflateError = null;
+  private byte[] chunk = null;
+  private int chunkPosition = 0;
+  private boolean closed = false;
+
+  public ParallelGzipInputStream(final InputStream in) {
+    this.in = in;
+    inflater = new Thread(this::inflate, "Gzip inflater");
+    inflater.setDaemon(true);
+    inflater.start();
+  }
+
+  private void inflate() {
+    try (GZIPInputStream gzip = new GZIPInputStream(in, CHUNK_SIZE)) {
+      final byte[] buffer = new byte[CHUNK_SIZE];
+      int length = 0;
+      for (int count = 0; count != -1; count = gzip.read(buffer, length, buffer.length - length)) {
+        length += count;
+        if (length == buffer.length) {
+          chunks.put(buffer.clone());
+          length = 0;
+        }
+      }
+      if (length > 0) {
+        chunks.put(Arrays.copyOf(buffer, length));
+      }
+    } catch (final InterruptedException e) {
+      // the stream was closed before it was fully read
+      return;
+    } catch (final IOException e) {
+      inflateError = e;
+    } catch (final Throwable e) {
+      // the reader must fail with it, not wait for an end marker that never comes
+      inflateError = new IOException("Failed to inflate", e);
+    }
+    try {
+      chunks.put(END_OF_STREAM);
+    } catch (final InterruptedException e) {
+      // the stream was closed, nobody is waiting for the end marker
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!nextChunk()) {
+      return -1;
+    }
+    return chunk[chunkPosition++] & 0xff;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    if (off < 0 || len < 0 || off + len > b.length) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (len == 0) {
+      return 0;
+    }
+    if (!nextChunk()) {
+      return -1;
+    }
+    final int count = Math.min(len, chunk.length - chunkPosition);
+    System.arraycopy(chunk, chunkPosition, b, off, count);
+    chunkPosition += count;
+    return count;
+  }
+
+  @Override
+  public int available() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+    return chunk == null ? 0 : chunk.length - chunkPosition;
+  }
+
+  /**
+   * Makes sure there are unread bytes in the current chunk, waiting for the inflater if needed.
+   *
+   * @return false if the end of the stream has been reached.
+   */
+  private boolean nextChunk() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+    while (chunk != END_OF_STREAM && (chunk == null || chunkPosition == chunk.length)) {
+      try {
+        chunk = chunks.take();
+        chunkPosition = 0;
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while inflating");
+      }
+    }
+    if (chunk == END_OF_STREAM) {
+      if (inflateError != null) {
+        throw new IOException(inflateError.getMessage(), inflateError);
+      }
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    inflater.interrupt();
+    in.close();
+  }
+}
@@ -0,0 +1,245 @@
+package games.strategy.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A gzip output stream that splits its input into fixed size blocks and deflates them concurrently on a
+ * {@link ForkJoinPool}, while the caller keeps producing bytes.
+ *
+ * <p>
+ * Every block except the last one is terminated with a sync flush, so the compressed blocks can simply be
+ * concatenated. Each block is primed with the last 32K of the preceding data as its dictionary, so the compression
+ * ratio stays close to a single threaded deflate. The result is a standard gzip stream that can be read by
+ * {@link java.util.zip.GZIPInputStream}.
+ * </p>
+ *
+ * <p>
+ * Like {@link java.util.zip.GZIPOutputStream}, closing this stream also closes the underlying stream. A writer that
+ * fails part way calls {@link #abort()} before closing, so the stream is left truncated instead of looking complete.
+ * This class is not thread safe, it is meant to be written to from a single thread.
+ * </p>
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+  public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+  private static final int DICTIONARY_SIZE = 32 * 1024;
+  private static final int GZIP_MAGIC = 0x8b1f;
+  private static final byte[] GZIP_HEADER = {(byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0,
+      0, 0, 0, 0};
+
+  private final OutputStream out;
+  private final ForkJoinPool pool;
+  private final int maxPendingBlocks;
+  private final ArrayDeque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+  private final CRC32 crc = new CRC32();
+  private byte[] block;
+  private int blockLength = 0;
+  private byte[] dictionary = null;
+  private long totalLength = 0;
+  private boolean closed = false;
+  private boolean aborted = false;
+
+  public ParallelGzipOutputStream(final OutputStream out) throws IOException {
+    this(out, ForkJoinPool.commonPool(), DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * @param out the stream the compressed bytes are written to.
+   * @param pool the pool the blocks are compressed on.
+   * @param blockSize the number of uncompressed bytes handed to one compression task.
+   */
+  public ParallelGzipOutputStream(final OutputStream out, final ForkJoinPool pool, final int blockSize)
+      throws IOException {
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("Block size must be >= 1, instead its:" + blockSize);
+    }
+    this.out = out;
+    this.pool = pool;
+    // keep every worker busy, but do not buffer the whole stream in memory if the sink is slow
+    this.maxPendingBlocks = Math.max(2, pool.getParallelism() * 2);
+    this.block = new byte[blockSize];
+    out.write(GZIP_HEADER);
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    ensureOpen();
+    block[blockLength++] = (byte) b;
+    if (blockLength == block.length) {
+      submitBlock(false);
+    }
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) throws IOException {
+    ensureOpen();
+    if (off < 0 || len < 0 || off + len > b.length) {
+      throw new IndexOutOfBoundsException();
+    }
+    int offset = off;
+    int remaining = len;
+    while (remaining > 0) {
+      final int count = Math.min(remaining, block.length - blockLength);
+      System.arraycopy(b, offset, block, blockLength, count);
+      blockLength += count;
+      offset += count;
+      remaining -= count;
+      if (blockLength == block.length) {
+        submitBlock(false);
+      }
+    }
+  }
+
+  /**
+   * Writes all blocks that have finished compressing to the underlying stream and flushes it.
+   * Bytes in the current, partially filled block are not forced out, as that would hurt the compression ratio.
+   */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    writeCompletedBlocks(false);
+    out.flush();
+  }
+
+  /**
+   * Marks what was written as incomplete. Closing the stream then leaves out the final block and the gzip trailer, so
+   * a reader fails with an error instead of reading a well formed but truncated stream.
+   */
+  public void abort() {
+    aborted = true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (aborted) {
+      for (final Future<byte[]> pendingBlock : pendingBlocks) {
+        pendingBlock.cancel(false);
+      }
+      pendingBlocks.clear();
+      out.close();
+      return;
+    }
+    try {
+      submitBlock(true);
+      writeCompletedBlocks(true);
+      writeTrailer();
+    } finally {
+      out.close();
+    }
+  }
+
+  private void submitBlock(final boolean last) throws IOException {
+    final byte[] input = block;
+    final int inputLength = blockLength;
+    final byte[] inputDictionary = dictionary;
+    crc.update(input, 0, inputLength);
+    totalLength += inputLength;
+    if (last && pendingBlocks.isEmpty()) {
+      // nothing left to overlap with, so do not bother handing the final block to the pool
+      out.write(deflate(input, inputLength, inputDictionary, true));
+      return;
+    }
+    dictionary = nextDictionary(inputDictionary, input, inputLength);
+    block = new byte[block.length];
+    blockLength = 0;
+    pendingBlocks.add(pool.submit(() -> deflate(input, inputLength, inputDictionary, last)));
+    writeCompletedBlocks(pendingBlocks.size() > maxPendingBlocks);
+  }
+
+  /**
+   * Returns the last 32K of uncompressed data written so far, a back reference in the next block may point anywhere
+   * into it.
+   */
+  private static byte[] nextDictionary(final byte[] previous, final byte[] input, final int length) {
+    if (length >= DICTIONARY_SIZE || previous == null) {
+      return Arrays.copyOfRange(input, Math.max(0, length - DICTIONARY_SIZE), length);
+    }
+    final int keep = Math.min(previous.length, DICTIONARY_SIZE - length);
+    final byte[] next = new byte[keep + length];
+    System.arraycopy(previous, previous.length - keep, next, 0, keep);
+    System.arraycopy(input, 0, next, keep, length);
+    return next;
+  }
+
+  private static byte[] deflate(final byte[] input, final int length, final byte[] dictionary, final boolean last) {
+    final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    try {
+      if (dictionary != null) {
+        deflater.setDictionary(dictionary);
+      }
+      deflater.setInput(input, 0, length);
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+      final byte[] buffer = new byte[8 * 1024];
+      if (last) {
+        deflater.finish();
+        while (!deflater.finished()) {
+          compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+      } else {
+        // a sync flush is complete once the deflater no longer fills the whole output buffer
+        int count;
+        do {
+          count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+          compressed.write(buffer, 0, count);
+        } while (count == buffer.length);
+      }
+      return compressed.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /**
+   * Writes finished blocks in order. If waitForAll is true, blocks until every pending block has been written,
+   * otherwise stops at the first block that is still being compressed, unless too many blocks are queued up.
+   */
+  private void writeCompletedBlocks(final boolean waitForAll) throws IOException {
+    boolean wait = waitForAll;
+    while (!pendingBlocks.isEmpty() && (wait || pendingBlocks.peek().isDone())) {
+      out.write(getCompressedBlock(pendingBlocks.poll()));
+      wait = waitForAll || pendingBlocks.size() > maxPendingBlocks;
+    }
+  }
+
+  private static byte[] getCompressedBlock(final Future<byte[]> future) throws IOException {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while compressing");
+    } catch (final ExecutionException e) {
+      throw new IOException("Failed to compress block", e.getCause());
+    }
+  }
+
+  private void writeTrailer() throws IOException {
+    writeInt((int) crc.getValue());
+    writeInt((int) totalLength);
+  }
+
+  private void writeInt(final int value) throws IOException {
+    out.write(value & 0xff);
+    out.write((value >> 8) & 0xff);
+    out.write((value >> 16) & 0xff);
+    out.write((value >> 24) & 0xff);
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+  }
+}
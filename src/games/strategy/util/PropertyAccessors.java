@@ -0,0 +1,169 @@
+package games.strategy.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The setters, resetters and property fields of one class, looked up once and kept as {@link MethodHandle}s.
+ *
+ * <p>
+ * Attachment options, those marked with {@link games.strategy.engine.data.annotations.GameProperty}, are set by name
+ * when a map is parsed and every time a change or trigger alters an attachment. Finding the method by scanning
+ * {@link Class#getMethods()} and calling it through {@link Method#invoke(Object, Object...)} cost more than the
+ * setters themselves, so each class is scanned a single time here and the handles are reused.
+ * </p>
+ *
+ * <p>
+ * Every public one argument {@code setXxx} method is kept, not only the annotated ones, because the annotation is
+ * usually on the String overload while changes pass typed values, e.g. an Integer to {@code setUses(Integer)}.
+ * Setter handles take {@code (Object subject, Object value)}, resetter handles take {@code (Object subject)} and
+ * field getter handles take {@code (Object subject)} and return the value.
+ * </p>
+ */
+public final class PropertyAccessors {
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+  private static final MethodType RESETTER_TYPE = MethodType.methodType(void.class, Object.class);
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private static final ClassValue<PropertyAccessors> accessorsByClass = new ClassValue<PropertyAccessors>() {
+    @Override
+    protected PropertyAccessors computeValue(final Class<?> type) {
+      return new PropertyAccessors(type);
+    }
+  };
+
+  private final Class<?> type;
+  private final Map<String, List<Setter>> settersByName = new HashMap<>();
+  private final Map<String, MethodHandle> resettersByName = new HashMap<>();
+  private final Map<String, Optional<MethodHandle>> fieldGettersByName = new ConcurrentHashMap<>();
+
+  private static final class Setter {
+    private final Class<?> argType;
+    private final MethodHandle handle;
+
+    private Setter(final Class<?> argType, final MethodHandle handle) {
+      this.argType = argType;
+      this.handle = handle;
+    }
+  }
+
+  public static PropertyAccessors forClass(final Class<?> type) {
+    return accessorsByClass.get(type);
+  }
+
+  private PropertyAccessors(final Class<?> type) {
+    this.type = type;
+    for (final Method method : type.getMethods()) {
+      final String name = method.getName();
+      if (name.length() > 3 && name.startsWith("set") && method.getParameterCount() == 1) {
+        settersByName.computeIfAbsent(name.substring(3), k -> new ArrayList<>(1))
+            .add(new Setter(method.getParameterTypes()[0], unreflect(method, SETTER_TYPE)));
+      } else if (name.length() > 5 && name.startsWith("reset") && method.getParameterCount() == 0) {
+        resettersByName.putIfAbsent(name.substring(5), unreflect(method, RESETTER_TYPE));
+      }
+    }
+  }
+
+  private static MethodHandle unreflect(final Method method, final MethodType methodType) {
+    try {
+      // the class itself may not be public
+      method.setAccessible(true);
+      MethodHandle handle = MethodHandles.lookup().unreflect(method);
+      if (Modifier.isStatic(method.getModifiers())) {
+        handle = MethodHandles.dropArguments(handle, 0, Object.class);
+      }
+      return handle.asType(methodType);
+    } catch (final IllegalAccessException e) {
+      throw new IllegalStateException("Could not access:" + method, e);
+    }
+  }
+
+  private static String capitalizeFirstLetter(final String aString) {
+    return Character.toUpperCase(aString.charAt(0)) + aString.substring(1);
+  }
+
+  /**
+   * Returns the setter for the property that takes exactly the given value type, or if there is none, the first
+   * setter of that name. Returns null if the class has no such setter.
+   *
+   * @param valueType the class of the new value, may be null if the value is null.
+   */
+  public MethodHandle getSetter(final String propertyName, final Class<?> valueType) {
+    final MethodHandle exact = getExactSetter(propertyName, valueType);
+    if (exact != null) {
+      return exact;
+    }
+    final List<Setter> setters = settersByName.get(capitalizeFirstLetter(propertyName));
+    return setters == null ? null : setters.get(0).handle;
+  }
+
+  /**
+   * Returns the setter for the property that takes exactly the given value type, or null if there is none.
+   */
+  public MethodHandle getExactSetter(final String propertyName, final Class<?> valueType) {
+    for (final Setter setter : settersByName.getOrDefault(capitalizeFirstLetter(propertyName),
+        Collections.<Setter>emptyList())) {
+      if (setter.argType == valueType) {
+        return setter.handle;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the no argument resetter of the property, or null if the class has none.
+   */
+  public MethodHandle getResetter(final String propertyName) {
+    return resettersByName.get(capitalizeFirstLetter(propertyName));
+  }
+
+  /**
+   * Returns a getter for the field backing the property, named either {@code m_propertyName} or
+   * {@code propertyName} and declared in the class or a super class. Returns null if there is no such field.
+   */
+  public MethodHandle getFieldGetter(final String propertyName) {
+    return fieldGettersByName.computeIfAbsent(propertyName, this::findFieldGetter).orElse(null);
+  }
+
+  private Optional<MethodHandle> findFieldGetter(final String propertyName) {
+    Field field = findField("m_" + propertyName);
+    if (field == null) {
+      field = findField(propertyName);
+    }
+    if (field == null) {
+      return Optional.empty();
+    }
+    try {
+      field.setAccessible(true);
+      MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+      if (Modifier.isStatic(field.getModifiers())) {
+        getter = MethodHandles.dropArguments(getter, 0, Object.class);
+      }
+      return Optional.of(getter.asType(GETTER_TYPE));
+    } catch (final IllegalAccessException e) {
+      throw new IllegalStateException("Could not access:" + field, e);
+    }
+  }
+
+  private Field findField(final String name) {
+    for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+      try {
+        return c.getDeclaredField(name);
+      } catch (final NoSuchFieldException e) {
+        // try the super class
+      }
+    }
+    return null;
+  }
+}
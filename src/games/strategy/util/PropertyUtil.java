@@ -1,19 +1,22 @@
 package games.strategy.util;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 
 /**
  * Utility for getting/setting java bean style properties on an object.
+ * The methods and fields are looked up once per class, see {@link PropertyAccessors}.
  */
 public class PropertyUtil {
 
   public static void set(final String propertyName, final Object value, final Object subject) {
-    final Method m = getSetter(propertyName, subject, value);
+    final MethodHandle setter = getSetter(propertyName, subject, value);
     try {
-      m.setAccessible(true);
-      m.invoke(subject, value);
-    } catch (final Exception e) {
+      setter.invokeExact(subject, value);
+    } catch (final Error e) {
+      throw e;
+    } catch (final Throwable e) {
+      // invokeExact declares Throwable, this is a runtime exception or a checked exception the setter declares
       throw new IllegalStateException(
           "Could not set property:" + propertyName + " subject:" + subject + " new value:" + value, e);
     }
@@ -34,10 +37,11 @@ public class PropertyUtil {
 
   public static void reset(final String propertyName, final Object subject) {
     try {
-      final Method c = getResetter(propertyName, subject);
-      c.setAccessible(true);
-      c.invoke(subject);
-    } catch (final Exception e) {
+      final MethodHandle resetter = getResetter(propertyName, subject);
+      resetter.invokeExact(subject);
+    } catch (final Error e) {
+      throw e;
+    } catch (final Throwable e) {
       throw new IllegalStateException("Could not reset property:" + propertyName + " subject:" + subject, e);
     }
   }
@@ -66,11 +70,15 @@ public class PropertyUtil {
   }
 
   public static Object getPropertyFieldObject(final String propertyName, final Object subject) {
+    final MethodHandle getter = PropertyAccessors.forClass(subject.getClass()).getFieldGetter(propertyName);
     try {
-      final Field field = getPropertyField(propertyName, subject);
-      field.setAccessible(true);
-      return field.get(subject);
-    } catch (final Exception e) {
+      if (getter == null) {
+        throw new IllegalStateException("No such Property Field: " + propertyName);
+      }
+      return (Object) getter.invokeExact(subject);
+    } catch (final Error e) {
+      throw e;
+    } catch (final Throwable e) {
       final String msg =
           "No such Property Field named: " + "m_" + propertyName + ", or: " + propertyName + ", for Subject: "
               + subject.toString();
@@ -78,61 +86,20 @@ public class PropertyUtil {
     }
   }
 
-  private static Field getPropertyField(final String propertyName, final Object subject) {
-    try {
-      return getFieldIncludingFromSuperClasses(subject.getClass(), "m_" + propertyName, false);
-    } catch (final Exception e) {
-      try {
-        return getFieldIncludingFromSuperClasses(subject.getClass(), propertyName, false);
-      } catch (final Exception exception) {
-        throw exception;
-      }
-    }
-  }
-
-
-  private static String capitalizeFirstLetter(final String aString) {
-    char first = aString.charAt(0);
-    first = Character.toUpperCase(first);
-    return first + aString.substring(1);
-  }
-
-  private static Method getSetter(final String propertyName, final Object subject, final Object value) {
-    final String setterName = "set" + capitalizeFirstLetter(propertyName);
-    // for (final Method m : subject.getClass().getDeclaredMethods())
-    for (final Method m : subject.getClass().getMethods()) {
-      if (m.getName().equals(setterName)) {
-        try {
-          final Class<?> argType = value.getClass();
-          return subject.getClass().getMethod(setterName, argType);
-        } catch (final NoSuchMethodException nsmf) {
-          // Go ahead and try the first one
-          return m;
-        } catch (final NullPointerException n) {
-          // Go ahead and try the first one
-          return m;
-        }
-      }
+  private static MethodHandle getSetter(final String propertyName, final Object subject, final Object value) {
+    final MethodHandle setter = PropertyAccessors.forClass(subject.getClass())
+        .getSetter(propertyName, value == null ? null : value.getClass());
+    if (setter == null) {
+      throw new IllegalStateException("No setter for property:" + propertyName + " on:" + subject);
     }
-    throw new IllegalStateException("No method called:" + setterName + " on:" + subject);
+    return setter;
   }
 
-  private static Method getResetter(final String propertyName, final Object subject) {
-    final String resetterName = "reset" + capitalizeFirstLetter(propertyName);
-    // for (final Method c : subject.getClass().getDeclaredMethods())
-    for (final Method c : subject.getClass().getMethods()) {
-      if (c.getName().equals(resetterName)) {
-        try {
-          return subject.getClass().getMethod(resetterName);
-        } catch (final NoSuchMethodException nsmf) {
-          // Go ahead and try the first one
-          return c;
-        } catch (final NullPointerException n) {
-          // Go ahead and try the first one
-          return c;
-        }
-      }
+  private static MethodHandle getResetter(final String propertyName, final Object subject) {
+    final MethodHandle resetter = PropertyAccessors.forClass(subject.getClass()).getResetter(propertyName);
+    if (resetter == null) {
+      throw new IllegalStateException("No resetter for property:" + propertyName + " on:" + subject);
     }
-    throw new IllegalStateException("No method called:" + resetterName + " on:" + subject);
+    return resetter;
   }
 }
@@ -0,0 +1,84 @@
+package games.strategy.engine.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataUtils;
+
+public class DerivedValueTest {
+  private GameData m_data;
+  private PlayerID m_bush;
+  private final AtomicInteger m_computations = new AtomicInteger();
+  private final DerivedValue<PlayerID, Integer> m_unitCount =
+      new DerivedValue<>("Test unit count", this::countUnits, ChangeArea.UNITS);
+
+  @Before
+  public void setUp() throws Exception {
+    final URL url = this.getClass().getResource("Test.xml");
+    final InputStream input = url.openStream();
+    m_data = (new GameParser(url.toString())).parse(input, new AtomicReference<>(), false);
+    m_bush = m_data.getPlayerList().getPlayerID("bush");
+  }
+
+  private Integer countUnits(final GameData data, final PlayerID player) {
+    m_computations.incrementAndGet();
+    int count = 0;
+    for (final Territory territory : data.getMap().getTerritories()) {
+      count += territory.getUnits().getUnitCount(player);
+    }
+    return count;
+  }
+
+  private void addInfantry(final Territory territory) {
+    final UnitType infantry = m_data.getUnitTypeList().getUnitType("inf");
+    m_data.performChange(ChangeFactory.addUnits(territory, infantry.create(1, m_bush)));
+  }
+
+  @Test
+  public void testValueIsKeptUntilItsAreaChanges() {
+    final int before = m_unitCount.get(m_data, m_bush);
+    assertEquals(before, (int) m_unitCount.get(m_data, m_bush));
+    assertEquals(1, m_computations.get());
+    assertEquals(1, m_unitCount.getHits());
+    m_data.performChange(
+        ChangeFactory.changeResourcesChange(m_bush, m_data.getResourceList().getResource("gold"), 10));
+    assertEquals(before, (int) m_unitCount.get(m_data, m_bush));
+    assertEquals(1, m_computations.get());
+    addInfantry(m_data.getMap().getTerritory("us"));
+    assertEquals(before + 1, (int) m_unitCount.get(m_data, m_bush));
+    assertEquals(2, m_computations.get());
+    assertEquals(2, m_unitCount.getMisses());
+  }
+
+  @Test
+  public void testChangeGenerations() {
+    final long generation = m_data.getChangeGeneration();
+    final long units = m_data.getChangeGeneration(ChangeArea.UNITS);
+    final long resources = m_data.getChangeGeneration(ChangeArea.RESOURCES);
+    addInfantry(m_data.getMap().getTerritory("us"));
+    assertEquals(generation + 1, m_data.getChangeGeneration());
+    assertEquals(units + 1, m_data.getChangeGeneration(ChangeArea.UNITS));
+    assertEquals(resources, m_data.getChangeGeneration(ChangeArea.RESOURCES));
+    // a change that cannot tell what it touches counts for every area
+    m_data.performChange(ChangeFactory.setProperty("test property", "changed", m_data));
+    assertEquals(resources + 1, m_data.getChangeGeneration(ChangeArea.RESOURCES));
+  }
+
+  @Test
+  public void testValuesAreKeptPerGameData() throws Exception {
+    final GameData copy = GameDataUtils.cloneGameData(m_data);
+    final PlayerID copyBush = copy.getPlayerList().getPlayerID("bush");
+    final int before = m_unitCount.get(m_data, m_bush);
+    addInfantry(m_data.getMap().getTerritory("us"));
+    assertEquals(before, (int) m_unitCount.get(copy, copyBush));
+    assertEquals(before + 1, (int) m_unitCount.get(m_data, m_bush));
+  }
+}
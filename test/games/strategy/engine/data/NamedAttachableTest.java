@@ -0,0 +1,49 @@
+package games.strategy.engine.data;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.xml.TestAttachment;
+import games.strategy.triplea.Constants;
+
+public class NamedAttachableTest {
+  private GameData m_data;
+
+  @Before
+  public void setUp() throws Exception {
+    final URL url = this.getClass().getResource("Test.xml");
+    final InputStream input = url.openStream();
+    m_data = (new GameParser(url.toString())).parse(input, new AtomicReference<>(), false);
+  }
+
+  @Test
+  public void testSlotFollowsAttachmentsByName() {
+    final Territory us = m_data.getMap().getTerritory("us");
+    final IAttachment attachment = us.getAttachment(Constants.TERRITORY_ATTACHMENT_NAME);
+    assertNotNull(attachment);
+    assertSame(attachment, us.getAttachment(AttachmentSlot.TERRITORY));
+    assertNull(us.getAttachment(AttachmentSlot.UNIT));
+    us.removeAttachment(Constants.TERRITORY_ATTACHMENT_NAME);
+    assertNull(us.getAttachment(AttachmentSlot.TERRITORY));
+    final IAttachment replacement = new TestAttachment(Constants.TERRITORY_ATTACHMENT_NAME, us, m_data);
+    us.addAttachment(Constants.TERRITORY_ATTACHMENT_NAME, replacement);
+    assertSame(replacement, us.getAttachment(AttachmentSlot.TERRITORY));
+  }
+
+  @Test
+  public void testSlotsSurviveSerialization() throws Exception {
+    final GameData copy = GameDataUtils.cloneGameData(m_data);
+    final Territory us = copy.getMap().getTerritory("us");
+    assertNotNull(us.getAttachment(AttachmentSlot.TERRITORY));
+    assertSame(us.getAttachment(Constants.TERRITORY_ATTACHMENT_NAME), us.getAttachment(AttachmentSlot.TERRITORY));
+  }
+}
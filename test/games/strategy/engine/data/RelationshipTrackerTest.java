@@ -0,0 +1,76 @@
+package games.strategy.engine.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.attachments.RelationshipTypeAttachment;
+
+public class RelationshipTrackerTest {
+  private GameData m_data;
+  private RelationshipTracker m_tracker;
+  private PlayerID m_chretian;
+  private PlayerID m_bush;
+  private PlayerID m_castro;
+
+  @Before
+  public void setUp() throws Exception {
+    final URL url = this.getClass().getResource("Test.xml");
+    final InputStream input = url.openStream();
+    m_data = (new GameParser(url.toString())).parse(input, new AtomicReference<>(), false);
+    m_tracker = m_data.getRelationshipTracker();
+    m_chretian = m_data.getPlayerList().getPlayerID("chretian");
+    m_bush = m_data.getPlayerList().getPlayerID("bush");
+    m_castro = m_data.getPlayerList().getPlayerID("castro");
+  }
+
+  @Test
+  public void testRelationshipsFromAlliances() {
+    assertTrue(m_tracker.isAllied(m_chretian, m_castro));
+    assertTrue(m_tracker.isAtWar(m_bush, m_castro));
+    assertFalse(m_tracker.isAllied(m_bush, m_castro));
+    assertTrue(m_tracker.isAllied(m_bush, m_bush));
+    final RelationshipType nullRelation = m_tracker.getRelationshipType(m_bush, PlayerID.NULL_PLAYERID);
+    assertEquals(nullRelation.getRelationshipTypeAttachment().isWar(),
+        m_tracker.isAtWar(m_bush, PlayerID.NULL_PLAYERID));
+    assertEquals(new HashSet<>(Arrays.asList(m_chretian, m_castro)), m_tracker.getEnemies(m_bush));
+    assertEquals(Collections.singleton(m_castro), m_tracker.getAllies(m_chretian, false));
+    assertEquals(new HashSet<>(Arrays.asList(m_chretian, m_castro)), m_tracker.getAllies(m_chretian, true));
+    assertEquals(Collections.singleton(m_bush), m_tracker.getAllies(m_bush, true));
+    assertTrue(m_tracker.isAtWarWithAnyOfThesePlayers(m_bush, Arrays.asList(m_bush, m_castro)));
+    assertFalse(m_tracker.isAlliedWithAnyOfThesePlayers(m_bush, Arrays.asList(m_chretian, m_castro)));
+  }
+
+  @Test
+  public void testSetRelationshipUpdatesQueries() {
+    assertTrue(m_tracker.isAtWar(m_bush, m_castro));
+    m_tracker.setRelationship(m_bush, m_castro,
+        m_data.getRelationshipTypeList().getRelationshipType(Constants.RELATIONSHIP_TYPE_DEFAULT_ALLIED));
+    assertFalse(m_tracker.isAtWar(m_castro, m_bush));
+    assertTrue(m_tracker.isAllied(m_castro, m_bush));
+    assertEquals(Collections.singleton(m_chretian), m_tracker.getEnemies(m_bush));
+    assertEquals(new HashSet<>(Arrays.asList(m_bush, m_chretian)), m_tracker.getAllies(m_castro, false));
+  }
+
+  @Test
+  public void testArcheTypeChangeUpdatesQueries() throws Exception {
+    assertTrue(m_tracker.isAllied(m_chretian, m_castro));
+    final RelationshipTypeAttachment attachment =
+        m_tracker.getRelationshipType(m_chretian, m_castro).getRelationshipTypeAttachment();
+    attachment.setArcheType(RelationshipTypeAttachment.ARCHETYPE_WAR);
+    assertFalse(m_tracker.isAllied(m_chretian, m_castro));
+    assertTrue(m_tracker.isAtWar(m_chretian, m_castro));
+    assertTrue(m_tracker.getEnemies(m_castro).contains(m_chretian));
+  }
+}
@@ -7,6 +7,7 @@ import static org.junit.Assert.assertThat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -19,6 +20,7 @@ import org.mockito.stubbing.Answer;
 
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.util.IntegerMap;
+import games.strategy.util.Match;
 
 @RunWith(MockitoJUnitRunner.class)
 public class UnitCollectionTest {
@@ -55,6 +57,7 @@ public class UnitCollectionTest {
   private int unitCountUnitTypeTwo;
 
   int defaultPlayerNotifyChangedCounter = 0;
+  private final AtomicInteger unitOwnerChangeCount = new AtomicInteger();
 
   public final int getDefaultPlayerNotifyChangedCounter() {
     return defaultPlayerNotifyChangedCounter;
@@ -79,6 +82,19 @@ public class UnitCollectionTest {
     }).when(defaultPlayerID).notifyChanged();
 
     Mockito.when(otherPlayerID.isNull()).thenReturn(true);
+    Mockito.doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(final InvocationOnMock invocation) throws Throwable {
+        unitOwnerChangeCount.incrementAndGet();
+        return null;
+      }
+    }).when(mockGameData).notifyUnitOwnerChanged();
+    Mockito.when(mockGameData.getUnitOwnerChangeCount()).thenAnswer(new Answer<Integer>() {
+      @Override
+      public Integer answer(final InvocationOnMock invocation) throws Throwable {
+        return unitOwnerChangeCount.get();
+      }
+    });
 
     unitCollection = new UnitCollection(defaultPlayerID, mockGameData);
 
@@ -394,6 +410,35 @@ public class UnitCollectionTest {
     assertThat(allPlayersUnitCollection.hasUnitsFromMultiplePlayers(), is(equalTo(true)));
   }
 
+  @Test
+  public void unitCountsFollowRemovalAndOwnerChange() {
+    final UnitCollection allPlayerUnitCollection = addAllPlayerUnitsToUnitCollection(unitCollection);
+    assertThat(allPlayerUnitCollection.getUnitCount(unitTypeOne, otherPlayerID),
+        is(equalTo(unitCountOtherPlayerUnitTypeOne)));
+    allPlayerUnitCollection.removeAllUnits(getOtherPlayerUnitsOfUnitTypeOne());
+    assertThat(allPlayerUnitCollection.getUnitCount(unitTypeOne, otherPlayerID), is(equalTo(0)));
+    assertThat(allPlayerUnitCollection.getUnitCount(unitTypeOne), is(equalTo(unitCountDefaultPlayerUnitTypeOne)));
+    unitOtherPlayer4.setOwner(defaultPlayerID);
+    assertThat(allPlayerUnitCollection.getUnitCount(otherPlayerID), is(equalTo(unitCountOtherPlayerUnitTypeTwo - 1)));
+    assertThat(allPlayerUnitCollection.getUnitCount(unitTypeTwo, defaultPlayerID),
+        is(equalTo(unitCountDefaultPlayerUnitTypeTwo + 1)));
+  }
+
+  @Test
+  public void someOwnerMatches() {
+    final Match<PlayerID> isOtherPlayer = new Match<PlayerID>() {
+      @Override
+      public boolean match(final PlayerID player) {
+        return player == otherPlayerID;
+      }
+    };
+    final UnitCollection allDefaultPlayerUnitCollection = addAllDefaultPlayerUnitsToUnitCollection(unitCollection);
+    assertThat(allDefaultPlayerUnitCollection.someOwnerMatches(isOtherPlayer), is(equalTo(false)));
+    final UnitCollection allPlayersUnitCollection =
+        addAllOtherPlayerUnitsToUnitCollection(allDefaultPlayerUnitCollection);
+    assertThat(allPlayersUnitCollection.someOwnerMatches(isOtherPlayer), is(equalTo(true)));
+  }
+
   @Test
   public void getHolder() {
     assertThat(unitCollection.getHolder(), is(equalTo(defaultPlayerID)));
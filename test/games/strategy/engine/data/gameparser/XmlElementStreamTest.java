@@ -0,0 +1,56 @@
+package games.strategy.engine.data.gameparser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.w3c.dom.Element;
+
+import games.strategy.engine.data.GameParser;
+
+public class XmlElementStreamTest {
+  private static final URL DTD = GameParser.class.getResource("/games/strategy/engine/xml/game.dtd");
+
+  private static List<Element> readChildren(final String xml, final String name) throws Exception {
+    final List<Element> elements = new ArrayList<>();
+    try (XmlElementStream stream =
+        new XmlElementStream(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), DTD)) {
+      assertTrue(stream.nextChild(0));
+      stream.readChildren(name, elements::add);
+    }
+    return elements;
+  }
+
+  @Test
+  public void testDtdDefaultsAreFilledIn() throws Exception {
+    final List<Element> properties = readChildren("<?xml version=\"1.0\"?><!DOCTYPE game SYSTEM \"game.dtd\">"
+        + "<game><property name=\"a\"/><property name=\"b\" editable=\"true\"/></game>", "property");
+    assertEquals(2, properties.size());
+    assertEquals("false", properties.get(0).getAttribute("editable"));
+    assertTrue(properties.get(0).hasAttribute("value"));
+    assertEquals("true", properties.get(1).getAttribute("editable"));
+  }
+
+  @Test
+  public void testImpliedAttributesAreLeftOut() throws Exception {
+    final List<Element> delegates = readChildren("<?xml version=\"1.0\"?><!DOCTYPE game SYSTEM \"game.dtd\">"
+        + "<game><delegate name=\"a\" javaClass=\"b\"/></game>", "delegate");
+    assertEquals(1, delegates.size());
+    assertFalse(delegates.get(0).hasAttribute("display"));
+  }
+
+  @Test
+  public void testDtdIsReadFromTheClasspath() throws Exception {
+    final List<Element> properties = readChildren("<?xml version=\"1.0\"?>"
+        + "<!DOCTYPE game SYSTEM \"http://localhost:1/missing/game.dtd\"><game><property name=\"a\"/></game>",
+        "property");
+    assertEquals("false", properties.get(0).getAttribute("editable"));
+  }
+}
@@ -0,0 +1,52 @@
+package games.strategy.engine.data.properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.GameData;
+
+public class GamePropertiesTest {
+  private GameProperties m_properties;
+
+  @Before
+  public void setUp() {
+    m_properties = new GameProperties(new GameData());
+  }
+
+  @Test
+  public void testSetPropertiesAreFound() {
+    assertEquals(3, m_properties.get("number", 3));
+    m_properties.set("number", 5);
+    m_properties.set("flag", true);
+    assertEquals(5, m_properties.get("number", 3));
+    assertTrue(m_properties.get("flag", false));
+    m_properties.set("number", null);
+    assertNull(m_properties.get("number"));
+  }
+
+  @Test
+  public void testEditablePropertiesTakePrecedenceAndAreReadThrough() {
+    m_properties.set("flag", true);
+    final BooleanProperty flag = new BooleanProperty("flag", null, false);
+    m_properties.addEditableProperty(flag);
+    assertFalse(m_properties.get("flag", true));
+    final GamePropertiesIndex index = m_properties.getIndex();
+    flag.setValue(true);
+    assertTrue(index.get("flag", false));
+    assertTrue(m_properties.get("flag", false));
+  }
+
+  @Test
+  public void testSettingAPropertyBuildsANewIndex() {
+    final GamePropertiesIndex before = m_properties.getIndex();
+    m_properties.set("number", 5);
+    final GamePropertiesIndex after = m_properties.getIndex();
+    assertNull(before.get("number"));
+    assertEquals(5, after.get("number", 3));
+  }
+}
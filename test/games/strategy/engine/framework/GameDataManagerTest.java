@@ -4,6 +4,8 @@ import static org.junit.Assert.assertEquals;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -15,6 +17,8 @@ import org.junit.Test;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParser;
 import games.strategy.engine.data.SerializationTest;
+import games.strategy.triplea.xml.LoadGameUtil;
+import games.strategy.triplea.xml.LoadGameUtil.TestMapXml;
 
 public class GameDataManagerTest {
 
@@ -36,4 +40,19 @@ public class GameDataManagerTest {
     final GameData loaded = m.loadGame(new ByteArrayInputStream(sink.toByteArray()), null);
     assertEquals(loaded.getProperties().get(GameData.GAME_UUID), data.getProperties().get(GameData.GAME_UUID));
   }
+
+  @Test
+  public void testSaveAndLoadFile() throws IOException {
+    final GameData data = LoadGameUtil.loadTestGame(TestMapXml.BIG_WORLD_1942);
+    final File file = File.createTempFile("testFile", ".tsvg");
+    file.deleteOnExit();
+    final GameDataManager m = new GameDataManager();
+    try (FileOutputStream out = new FileOutputStream(file)) {
+      m.saveGame(out, data);
+    }
+    final GameData loaded = m.loadGame(file);
+    assertEquals(data.getProperties().get(GameData.GAME_UUID), loaded.getProperties().get(GameData.GAME_UUID));
+    assertEquals(data.getMap().getTerritories().size(), loaded.getMap().getTerritories().size());
+    assertEquals(data.getDelegateList().size(), loaded.getDelegateList().size());
+  }
 }
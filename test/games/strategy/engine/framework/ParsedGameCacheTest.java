@@ -0,0 +1,123 @@
+package games.strategy.engine.framework;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParser;
+import games.strategy.util.ThreadUtil;
+
+public class ParsedGameCacheTest {
+  private static final String MAP_NAME = "revised_test.xml";
+
+  private File cacheFolder;
+  private ParsedGameCache cache;
+  private byte[] xml;
+
+  @Before
+  public void setUp() throws Exception {
+    cacheFolder = Files.createTempDirectory("gameCache").toFile();
+    cache = new ParsedGameCache(cacheFolder);
+    final File testData = new File(ClientFileSystemHelper.getRootFolder(), "test_data");
+    xml = Files.readAllBytes(new File(testData, MAP_NAME).toPath());
+  }
+
+  @After
+  public void tearDown() {
+    for (final File file : cacheFolder.listFiles()) {
+      file.delete();
+    }
+    cacheFolder.delete();
+  }
+
+  @Test
+  public void testCachedGameMatchesParsedGame() throws Exception {
+    final GameData parsed = new GameParser(MAP_NAME).parse(new ByteArrayInputStream(xml), null, false);
+    cache.parse(MAP_NAME, new ByteArrayInputStream(xml), null, false);
+    final File cacheFile = waitForCacheFile(".game");
+
+    final AtomicReference<String> gameName = new AtomicReference<>();
+    final GameData cached = cache.parse(MAP_NAME, new ByteArrayInputStream(xml), gameName, false);
+    assertEquals(parsed.getGameName(), gameName.get());
+    assertEquals(parsed.getMap().getTerritories().size(), cached.getMap().getTerritories().size());
+    assertEquals(parsed.getUnitTypeList().size(), cached.getUnitTypeList().size());
+    assertEquals(parsed.getDelegateList().size(), cached.getDelegateList().size());
+    // each call deserializes a fresh copy, with its own game id
+    final GameData cachedAgain = cache.parse(MAP_NAME, new ByteArrayInputStream(xml), null, false);
+    assertNotSame(cached, cachedAgain);
+    assertNotEquals(cached.getProperties().get(GameData.GAME_UUID),
+        cachedAgain.getProperties().get(GameData.GAME_UUID));
+    assertTrue(cacheFile.isFile());
+  }
+
+  @Test
+  public void testChangedXmlIsReparsed() throws Exception {
+    cache.parse(MAP_NAME, new ByteArrayInputStream(xml), null, true);
+    waitForCacheFile(".header");
+
+    final byte[] changedXml =
+        new String(xml, "UTF-8").replace("<info name=\"", "<info name=\"Changed ").getBytes("UTF-8");
+    final GameData changed = cache.parse(MAP_NAME, new ByteArrayInputStream(changedXml), null, true);
+    assertTrue(changed.getGameName().startsWith("Changed "));
+  }
+
+  @Test
+  public void testCorruptEntryIsDiscarded() throws Exception {
+    cache.parse(MAP_NAME, new ByteArrayInputStream(xml), null, true);
+    final File cacheFile = waitForCacheFile(".header");
+    Files.write(cacheFile.toPath(), new byte[] {1, 2, 3});
+
+    final GameData data = cache.parse(MAP_NAME, new ByteArrayInputStream(xml), null, true);
+    assertEquals(new GameParser(MAP_NAME).parse(new ByteArrayInputStream(xml), null, true).getGameName(),
+        data.getGameName());
+  }
+
+  @Test
+  public void testUnusedEntriesAreDeleted() throws Exception {
+    cache.parse(MAP_NAME, new ByteArrayInputStream(xml), null, true);
+    final File usedFile = waitForCacheFile(".header");
+    final File unusedFile = new File(cacheFolder, "unused.header");
+    Files.copy(usedFile.toPath(), unusedFile.toPath());
+    unusedFile.setLastModified(
+        System.currentTimeMillis() - TimeUnit.DAYS.toMillis(ParsedGameCache.UNUSED_ENTRY_DAYS + 1));
+    final File tempFile = new File(cacheFolder, "unfinished.header.tmp");
+    Files.write(tempFile.toPath(), new byte[] {1, 2, 3});
+    tempFile.setLastModified(unusedFile.lastModified());
+    // may be in the middle of being written by another client
+    final File recentTempFile = new File(cacheFolder, "writing.header.tmp");
+    Files.write(recentTempFile.toPath(), new byte[] {1, 2, 3});
+
+    cache.deleteUnusedEntries();
+    assertTrue(usedFile.isFile());
+    assertFalse(unusedFile.exists());
+    assertFalse(tempFile.exists());
+    assertTrue(recentTempFile.isFile());
+  }
+
+  private File waitForCacheFile(final String suffix) throws IOException {
+    for (int i = 0; i < 600; i++) {
+      for (final File file : cacheFolder.listFiles()) {
+        if (file.getName().endsWith(suffix)) {
+          return file;
+        }
+      }
+      ThreadUtil.sleep(50);
+    }
+    throw new IOException("No cache file written to " + cacheFolder);
+  }
+}
@@ -1,12 +1,99 @@
 package games.strategy.engine.framework.ui;
 
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
 import org.junit.Test;
 
+import games.strategy.engine.ClientFileSystemHelper;
+
 public class NewGameChooserModelTest {
+  private String xml;
+
+  @Before
+  public void setUp() throws IOException {
+    final File testData = new File(ClientFileSystemHelper.getRootFolder(), "test_data");
+    xml = new String(Files.readAllBytes(new File(testData, "revised_test.xml").toPath()), StandardCharsets.UTF_8);
+  }
 
   /** Simply create the object to see that we can do that without exception */
   @Test
   public void testCreate() {
     new NewGameChooserModel();
   }
+
+  private String withGameName(final String gameName) {
+    return xml.replace("<info name=\"World War II Revised Test\"", "<info name=\"" + gameName + "\"");
+  }
+
+  private NewGameChooserEntry createEntry(final String source, final String gameName) throws Exception {
+    return new NewGameChooserEntry(new URI("file:/" + source + "/games/" + gameName.replace(' ', '_') + ".xml"),
+        Optional.of(new ByteArrayInputStream(withGameName(gameName).getBytes(StandardCharsets.UTF_8))));
+  }
+
+  private static List<String> getGameNames(final NewGameChooserModel model) {
+    final List<String> names = new ArrayList<>();
+    for (int i = 0; i < model.size(); i++) {
+      names.add(model.get(i).getGameName());
+    }
+    return names;
+  }
+
+  @Test
+  public void testDuplicateGameKeepsHigherPriorityEntry() throws Exception {
+    final NewGameChooserModel model = new NewGameChooserModel(Collections.emptyList());
+    // the entry of the map found first has the lower priority value, whichever entry is parsed first
+    model.addSorted(createEntry("userMaps", "Duplicate"), 0);
+    model.addSorted(createEntry("maps", "Duplicate"), 1);
+    model.addSorted(createEntry("maps", "Other Duplicate"), 1);
+    model.addSorted(createEntry("userMaps", "Other Duplicate"), 0);
+    assertEquals(Arrays.asList("Duplicate", "Other Duplicate"), getGameNames(model));
+    assertEquals("file:/userMaps/games/Duplicate.xml", model.findByName("Duplicate").getURI().toString());
+    assertEquals("file:/userMaps/games/Other_Duplicate.xml",
+        model.findByName("Other Duplicate").getURI().toString());
+  }
+
+  @Test
+  public void testEntriesAreSortedByGameNameIgnoringCase() throws Exception {
+    final NewGameChooserModel model = new NewGameChooserModel(Collections.emptyList());
+    for (final String gameName : Arrays.asList("charlie", "Alpha", "delta", "Bravo", "alpha two")) {
+      model.addSorted(createEntry("maps", gameName), 0);
+    }
+    assertEquals(Arrays.asList("Alpha", "alpha two", "Bravo", "charlie", "delta"), getGameNames(model));
+  }
+
+  @Test
+  public void testGameInEarlierMapFolderIsKept() throws Exception {
+    final File userMaps = createMapFolder("Shared Game", "User Game");
+    final File maps = createMapFolder("Shared Game", "Installed Game");
+    final NewGameChooserModel model = new NewGameChooserModel(Arrays.asList(userMaps, maps));
+    assertEquals(Arrays.asList("Installed Game", "Shared Game", "User Game"), getGameNames(model));
+    assertEquals(new File(userMaps, "games/Shared_Game.xml").toURI(), model.findByName("Shared Game").getURI());
+  }
+
+  private File createMapFolder(final String... gameNames) throws IOException {
+    final File mapFolder = Files.createTempDirectory("map").toFile();
+    mapFolder.deleteOnExit();
+    final File games = new File(mapFolder, "games");
+    games.mkdir();
+    games.deleteOnExit();
+    for (final String gameName : gameNames) {
+      final File gameXml = new File(games, gameName.replace(' ', '_') + ".xml");
+      Files.write(gameXml.toPath(), withGameName(gameName).getBytes(StandardCharsets.UTF_8));
+      gameXml.deleteOnExit();
+    }
+    return mapFolder;
+  }
 }
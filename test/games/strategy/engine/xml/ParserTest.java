@@ -34,7 +34,11 @@ public class ParserTest {
     final URL url = this.getClass().getResource("GameExample.xml");
     // System.out.println(url);
     final InputStream input = url.openStream();
-    gameData = (new GameParser(url.toString())).parse(input, new AtomicReference<>(), false);
+    gameData = parse(url, input);
+  }
+
+  protected GameData parse(final URL url, final InputStream input) throws Exception {
+    return (new GameParser(url.toString())).parse(input, new AtomicReference<>(), false);
   }
 
   @Test
@@ -0,0 +1,49 @@
+package games.strategy.engine.xml;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.Test;
+
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParser;
+import games.strategy.engine.data.export.GameDataExporter;
+import games.strategy.triplea.xml.LoadGameUtil.TestMapXml;
+
+/**
+ * Checks that the streaming parse mode builds the same game as the dom based parser for every test map.
+ */
+public class StreamingParserEquivalenceTest {
+
+  @Test
+  public void testAllTestMapsParseTheSame() throws Exception {
+    for (final TestMapXml map : TestMapXml.values()) {
+      final byte[] xml = Files.readAllBytes(
+          new File(new File(ClientFileSystemHelper.getRootFolder(), "test_data"), map.toString()).toPath());
+      final GameData dom = new GameParser(map.toString()).parse(new ByteArrayInputStream(xml), null, false);
+      final GameData streamed =
+          new GameParser(map.toString()).parseStreaming(new ByteArrayInputStream(xml), null, false);
+      assertEquals(map.toString(), new GameDataExporter(dom).getXML(), new GameDataExporter(streamed).getXML());
+    }
+  }
+
+  @Test
+  public void testDelayedParsingReadsTheSameHeader() throws Exception {
+    for (final TestMapXml map : TestMapXml.values()) {
+      final byte[] xml = Files.readAllBytes(
+          new File(new File(ClientFileSystemHelper.getRootFolder(), "test_data"), map.toString()).toPath());
+      final GameData dom = new GameParser(map.toString()).parse(new ByteArrayInputStream(xml), null, true);
+      final GameData streamed =
+          new GameParser(map.toString()).parseStreaming(new ByteArrayInputStream(xml), null, true);
+      assertEquals(dom.getGameName(), streamed.getGameName());
+      assertEquals(dom.getPlayerList().getNames().length, streamed.getPlayerList().getNames().length);
+      assertEquals(dom.getProperties().getEditableProperties().size(),
+          streamed.getProperties().getEditableProperties().size());
+      assertEquals(dom.getProperties().get("notes"), streamed.getProperties().get("notes"));
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package games.strategy.engine.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.xml.sax.SAXParseException;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParseException;
+import games.strategy.engine.data.GameParser;
+
+/**
+ * Runs the parser tests against the streaming parse mode.
+ */
+public class StreamingParserTest extends ParserTest {
+
+  @Override
+  protected GameData parse(final URL url, final InputStream input) throws Exception {
+    return (new GameParser(url.toString())).parseStreaming(input, new AtomicReference<>(), false);
+  }
+
+  @Test(expected = SAXParseException.class)
+  public void testMalformedXml() throws Exception {
+    final String xml = "<?xml version=\"1.0\"?><game><info name=\"broken\" version=\"1.0\"></game>";
+    new GameParser("broken").parseStreaming(new ByteArrayInputStream(xml.getBytes("UTF-8")), null, false);
+  }
+
+  @Test(expected = GameParseException.class)
+  public void testMissingSection() throws Exception {
+    final String xml = "<?xml version=\"1.0\"?><game><info name=\"broken\" version=\"1.0\"/></game>";
+    new GameParser("broken").parseStreaming(new ByteArrayInputStream(xml.getBytes("UTF-8")), null, false);
+  }
+}
@@ -0,0 +1,104 @@
+package games.strategy.triplea.attachments;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.ChangeArea;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.ITestDelegateBridge;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.delegate.GameDataTestUtil;
+import games.strategy.triplea.xml.LoadGameUtil;
+
+public class RulesAttachmentTest {
+  private GameData m_data;
+  private PlayerID m_germans;
+  private Territory m_poland;
+  private ITestDelegateBridge m_bridge;
+  private RulesAttachment m_ownsPoland;
+
+  @Before
+  public void setUp() throws Exception {
+    m_data = LoadGameUtil.loadTestGame(LoadGameUtil.TestMapXml.WW2V3_1941);
+    m_germans = germans(m_data);
+    m_poland = territory("Poland", m_data);
+    m_bridge = GameDataTestUtil.getDelegateBridge(m_germans, m_data);
+    m_ownsPoland = new RulesAttachment("conditionAttachmentOwnsPoland", m_germans, m_data);
+    m_ownsPoland.setDirectOwnershipTerritories("Poland");
+    m_germans.addAttachment(m_ownsPoland.getName(), m_ownsPoland);
+  }
+
+  private boolean test(final RulesAttachment condition) {
+    return condition.isSatisfied(new HashMap<>(), m_bridge);
+  }
+
+  @Test
+  public void testConditionIsRetestedWhenItsAreaChanges() {
+    assertTrue(test(m_ownsPoland));
+    m_data.performChange(ChangeFactory.changeOwner(m_poland, russians(m_data)));
+    assertFalse(test(m_ownsPoland));
+    m_data.performChange(ChangeFactory.changeOwner(m_poland, m_germans));
+    assertTrue(test(m_ownsPoland));
+  }
+
+  @Test
+  public void testOwnersSetWithoutChangeAreSeen() {
+    assertTrue(test(m_ownsPoland));
+    m_poland.setOwner(russians(m_data));
+    assertFalse(test(m_ownsPoland));
+  }
+
+  @Test
+  public void testRoundIsChecked() throws Exception {
+    final RulesAttachment firstRound = new RulesAttachment("conditionAttachmentFirstRound", m_germans, m_data);
+    firstRound.setRounds("1");
+    assertTrue(test(firstRound));
+    m_data.getSequence().setRoundOffset(1);
+    assertFalse(test(firstRound));
+  }
+
+  @Test
+  public void testChangesToTheConditionAreSeen() {
+    assertTrue(test(m_ownsPoland));
+    m_data.performChange(ChangeFactory.attachmentPropertyChange(m_ownsPoland, false, "switch"));
+    assertFalse(test(m_ownsPoland));
+  }
+
+  @Test
+  public void testSwitchOnlyConditionFollowsSwitch() {
+    final RulesAttachment switched = new RulesAttachment("conditionAttachmentSwitched", m_germans, m_data);
+    m_germans.addAttachment(switched.getName(), switched);
+    assertTrue(test(switched));
+    m_data.performChange(ChangeFactory.attachmentPropertyChange(switched, false, "switch"));
+    assertFalse(test(switched));
+    m_data.performChange(ChangeFactory.attachmentPropertyChange(switched, true, "switch"));
+    assertTrue(test(switched));
+  }
+
+  @Test
+  public void testUsesDoNotInvalidateCachedConditions() {
+    final long attachmentsGeneration = m_data.getChangeGeneration(ChangeArea.ATTACHMENTS);
+    m_data.performChange(ChangeFactory.attachmentPropertyChange(m_ownsPoland, "2", "uses"));
+    assertEquals(attachmentsGeneration, m_data.getChangeGeneration(ChangeArea.ATTACHMENTS));
+    m_data.performChange(ChangeFactory.attachmentPropertyChange(m_ownsPoland, false, "switch"));
+    assertEquals(attachmentsGeneration + 1, m_data.getChangeGeneration(ChangeArea.ATTACHMENTS));
+  }
+
+  @Test
+  public void testTestedConditionsAreNotRetested() {
+    final HashMap<ICondition, Boolean> testedConditions = new HashMap<>();
+    testedConditions.put(m_ownsPoland, false);
+    assertFalse(m_ownsPoland.isSatisfied(testedConditions, m_bridge));
+  }
+}
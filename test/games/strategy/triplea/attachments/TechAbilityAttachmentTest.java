@@ -0,0 +1,57 @@
+package games.strategy.triplea.attachments;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.submarine;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.ITestDelegateBridge;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.delegate.GameDataTestUtil;
+import games.strategy.triplea.delegate.TechAdvance;
+import games.strategy.triplea.delegate.TechTracker;
+import games.strategy.triplea.xml.LoadGameUtil;
+
+public class TechAbilityAttachmentTest {
+  private GameData m_data;
+  private PlayerID m_germans;
+  private UnitType m_submarine;
+  private TechAdvance m_superSubs;
+
+  @Before
+  public void setUp() throws Exception {
+    m_data = LoadGameUtil.loadTestGame(LoadGameUtil.TestMapXml.WW2V3_1941);
+    m_germans = germans(m_data);
+    m_submarine = submarine(m_data);
+    m_superSubs = TechAdvance.findAdvance(TechAdvance.TECH_PROPERTY_SUPER_SUBS, m_data, m_germans);
+  }
+
+  @Test
+  public void testBonusesFollowTechChanges() {
+    final ITestDelegateBridge bridge = GameDataTestUtil.getDelegateBridge(m_germans, m_data);
+    assertEquals(0, TechAbilityAttachment.getAttackBonus(m_submarine, m_germans, m_data));
+    TechTracker.addAdvance(m_germans, bridge, m_superSubs);
+    assertEquals(1, TechAbilityAttachment.getAttackBonus(m_submarine, m_germans, m_data));
+    assertEquals(0, TechAbilityAttachment.getDefenseBonus(m_submarine, m_germans, m_data));
+    assertEquals(0, TechAbilityAttachment.getAttackBonus(m_submarine, russians(m_data), m_data));
+    TechTracker.removeAdvance(m_germans, bridge, m_superSubs);
+    assertEquals(0, TechAbilityAttachment.getAttackBonus(m_submarine, m_germans, m_data));
+  }
+
+  @Test
+  public void testBonusesFollowAttachmentChanges() {
+    final ITestDelegateBridge bridge = GameDataTestUtil.getDelegateBridge(m_germans, m_data);
+    TechTracker.addAdvance(m_germans, bridge, m_superSubs);
+    assertEquals(1, TechAbilityAttachment.getAttackBonus(m_submarine, m_germans, m_data));
+    final TechAbilityAttachment attachment = TechAbilityAttachment.get(m_superSubs);
+    m_data.performChange(
+        ChangeFactory.attachmentPropertyChange(attachment, "2:" + m_submarine.getName(), "attackBonus"));
+    assertEquals(2, TechAbilityAttachment.getAttackBonus(m_submarine, m_germans, m_data));
+  }
+}
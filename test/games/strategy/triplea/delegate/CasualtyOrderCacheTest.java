@@ -0,0 +1,96 @@
+package games.strategy.triplea.delegate;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.british;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.xml.LoadGameUtil;
+
+public class CasualtyOrderCacheTest {
+  private GameData m_data;
+  private Territory m_germany;
+  private final CasualtyOrderCache m_cache = new CasualtyOrderCache();
+
+  @Before
+  public void setUp() throws Exception {
+    m_data = LoadGameUtil.loadTestGame(LoadGameUtil.TestMapXml.REVISED);
+    m_germany = territory("Germany", m_data);
+  }
+
+  private List<Unit> germanUnits(final UnitType... types) {
+    final List<Unit> units = new ArrayList<>();
+    for (final UnitType type : types) {
+      units.addAll(type.create(1, germans(m_data)));
+    }
+    return units;
+  }
+
+  private CasualtyOrderCache.Key key(final List<Unit> targets) {
+    return new CasualtyOrderCache.Key(targets, germans(m_data), Collections.emptyList(), false, null, m_germany, true,
+        false);
+  }
+
+  private static List<UnitType> types(final List<Unit> units) {
+    final List<UnitType> types = new ArrayList<>();
+    for (final Unit unit : units) {
+      types.add(unit.getType());
+    }
+    return types;
+  }
+
+  @Test
+  public void testOrderIsSharedByUnitsOfTheSameKind() {
+    final UnitType infantry = infantry(m_data);
+    final UnitType armour = armour(m_data);
+    m_cache.put(key(germanUnits(infantry, armour, infantry)), germanUnits(infantry, armour, infantry));
+    final List<Unit> targets = germanUnits(infantry, infantry, armour);
+    final List<Unit> order = m_cache.get(key(targets), targets);
+    assertEquals(Arrays.asList(infantry, armour, infantry), types(order));
+    assertEquals(Arrays.asList(targets.get(0), targets.get(2), targets.get(1)), order);
+    assertEquals(1, m_cache.getHits());
+  }
+
+  @Test
+  public void testRestOfOrderIsCachedForRemainingUnits() {
+    final UnitType infantry = infantry(m_data);
+    final UnitType armour = armour(m_data);
+    m_cache.put(key(germanUnits(infantry, armour, infantry)), germanUnits(infantry, armour, infantry));
+    final List<Unit> targets = germanUnits(armour, infantry);
+    assertEquals(Arrays.asList(armour, infantry), types(m_cache.get(key(targets), targets)));
+    final List<Unit> lastTarget = germanUnits(infantry);
+    assertEquals(lastTarget, m_cache.get(key(lastTarget), lastTarget));
+  }
+
+  @Test
+  public void testOwnersHitsAndEnemiesAreDistinguished() {
+    final UnitType infantry = infantry(m_data);
+    final List<Unit> targets = germanUnits(infantry, infantry);
+    m_cache.put(key(targets), targets);
+    final List<Unit> otherOwner = germanUnits(infantry);
+    otherOwner.addAll(infantry.create(1, british(m_data)));
+    assertNull(m_cache.get(key(otherOwner), otherOwner));
+    final List<Unit> damaged = germanUnits(infantry, infantry);
+    damaged.get(0).setHits(1);
+    assertNull(m_cache.get(key(damaged), damaged));
+    final CasualtyOrderCache.Key withEnemies = new CasualtyOrderCache.Key(targets, germans(m_data),
+        infantry.create(1, british(m_data)), false, null, m_germany, true, false);
+    assertNull(m_cache.get(withEnemies, targets));
+    assertEquals(3, m_cache.getMisses());
+  }
+}
@@ -3,11 +3,16 @@ package games.strategy.triplea.delegate;
 import static games.strategy.triplea.delegate.GameDataTestUtil.bomber;
 import static games.strategy.triplea.delegate.GameDataTestUtil.british;
 import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -27,6 +32,7 @@ import games.strategy.triplea.attachments.UnitAttachment;
 import games.strategy.triplea.delegate.Die.DieType;
 import games.strategy.triplea.xml.LoadGameUtil;
 import games.strategy.util.Match;
+import games.strategy.util.Tuple;
 
 public class DiceRollTest {
   private GameData gameData;
@@ -136,6 +142,72 @@ public class DiceRollTest {
     assertThat(roll.getHits(), is(3));
   }
 
+  private List<Unit> createInfantryArtilleryAndArmour(final PlayerID player) {
+    final List<Unit> units = GameDataTestUtil.infantry(gameData).create(3, player);
+    units.addAll(gameData.getUnitTypeList().getUnitType(Constants.UNIT_TYPE_ARTILLERY).create(2, player));
+    units.addAll(GameDataTestUtil.armour(gameData).create(1, player));
+    return units;
+  }
+
+  private void assertPowerMatchesUncached(final List<Unit> units, final List<Unit> enemies, final boolean defending,
+      final Territory location) {
+    final Collection<TerritoryEffect> territoryEffects = TerritoryEffectHelper.getEffects(location);
+    final Map<Unit, Tuple<Integer, Integer>> expected = DiceRoll.getUnitPowerAndRollsForNormalBattles(units, enemies,
+        defending, false, gameData, location, territoryEffects, false, null, new HashMap<>(), new HashMap<>());
+    assertEquals(expected, DiceRoll.getUnitPowerAndRollsForNormalBattles(units, enemies, defending, false, gameData,
+        location, territoryEffects, false, null));
+  }
+
+  @Test
+  public void testCachedPowerMatchesUncachedPower() {
+    final Territory westRussia = gameData.getMap().getTerritory("West Russia");
+    final PlayerID russians = GameDataTestUtil.russians(gameData);
+    final PlayerID germans = GameDataTestUtil.germans(gameData);
+    final List<Unit> enemies = GameDataTestUtil.infantry(gameData).create(2, germans);
+    // the same units in later rounds, losing the weakest unit each round
+    final List<Unit> attackers = createInfantryArtilleryAndArmour(russians);
+    while (!attackers.isEmpty()) {
+      assertPowerMatchesUncached(attackers, enemies, false, westRussia);
+      assertPowerMatchesUncached(attackers, enemies, false, westRussia);
+      assertPowerMatchesUncached(enemies, attackers, true, westRussia);
+      attackers.remove(0);
+    }
+    // other units of the same kinds, as in another trial, find the table of the first trial
+    final PowerTableCache cache = DiceRoll.getPowerTableCache(gameData);
+    final long hits = cache.getHits();
+    final long misses = cache.getMisses();
+    final List<Unit> otherAttackers = createInfantryArtilleryAndArmour(russians);
+    final Map<Unit, Tuple<Integer, Integer>> power = DiceRoll.getUnitPowerAndRollsForNormalBattles(otherAttackers,
+        enemies, false, false, gameData, westRussia, TerritoryEffectHelper.getEffects(westRussia), false, null);
+    assertEquals(hits + 1, cache.getHits());
+    assertEquals(misses, cache.getMisses());
+    assertEquals(new HashSet<>(otherAttackers), power.keySet());
+    assertPowerMatchesUncached(otherAttackers, enemies, false, westRussia);
+    // supported infantry first in the order of the units
+    final List<Unit> reversed = new ArrayList<>(otherAttackers);
+    Collections.reverse(reversed);
+    assertPowerMatchesUncached(reversed, enemies, false, westRussia);
+  }
+
+  @Test
+  public void testCachedPowerFollowsTechChanges() {
+    gameData = LoadGameUtil.loadTestGame(LoadGameUtil.TestMapXml.WW2V3_1941);
+    final Territory belorussia = gameData.getMap().getTerritory("Belorussia");
+    final PlayerID russians = GameDataTestUtil.russians(gameData);
+    final List<Unit> enemies = GameDataTestUtil.infantry(gameData).create(2, GameDataTestUtil.germans(gameData));
+    final List<Unit> attackers = createInfantryArtilleryAndArmour(russians);
+    final Collection<TerritoryEffect> territoryEffects = TerritoryEffectHelper.getEffects(belorussia);
+    final int before = DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(attackers, enemies,
+        false, false, gameData, belorussia, territoryEffects, false, null), gameData);
+    TechTracker.addAdvance(russians, getDelegateBridge(russians),
+        TechAdvance.findAdvance(TechAdvance.TECH_PROPERTY_IMPROVED_ARTILLERY_SUPPORT, gameData, russians));
+    final int after = DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(attackers, enemies,
+        false, false, gameData, belorussia, territoryEffects, false, null), gameData);
+    // each artillery supports a second infantry
+    assertEquals(before + 1, after);
+    assertPowerMatchesUncached(attackers, enemies, false, belorussia);
+  }
+
   @Test
   public void testLowLuck() {
     GameDataTestUtil.makeGameLowLuck(gameData);
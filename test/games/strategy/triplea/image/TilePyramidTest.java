@@ -0,0 +1,64 @@
+package games.strategy.triplea.image;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class TilePyramidTest {
+
+  @Test
+  public void testParentLevelIsAtMostTwiceTheScale() {
+    assertEquals(1, TilePyramid.getParentLevel(0.75), 0);
+    assertEquals(1, TilePyramid.getParentLevel(0.5), 0);
+    assertEquals(0.5, TilePyramid.getParentLevel(0.3), 0);
+    assertEquals(0.5, TilePyramid.getParentLevel(0.25), 0);
+    assertEquals(0.25, TilePyramid.getParentLevel(0.15), 0);
+  }
+
+  @Test
+  public void testScaledTileCoversScaledBounds() {
+    final BufferedImage tile = new BufferedImage(256, 256, BufferedImage.TYPE_3BYTE_BGR);
+    final Graphics2D g = tile.createGraphics();
+    g.setColor(Color.RED);
+    g.fillRect(0, 0, 256, 256);
+    g.dispose();
+    final BufferedImage half = TilePyramid.scale(tile, 0.5, false);
+    assertEquals(128, half.getWidth());
+    assertEquals(128, half.getHeight());
+    final BufferedImage level = TilePyramid.scale(half, 0.3 / 0.5, false);
+    assertEquals((int) Math.ceil(256 * 0.3), level.getWidth());
+    assertEquals(Color.RED.getRGB(), level.getRGB(level.getWidth() - 1, level.getHeight() - 1));
+  }
+
+  @Test
+  public void testUnusedDiskTilesAreDeleted() throws IOException {
+    final File cacheFolder = Files.createTempDirectory("tileCache").toFile();
+    final File folder = new File(cacheFolder, "ab");
+    folder.mkdir();
+    final File used = new File(folder, "used_0.5.png");
+    final File unused = new File(folder, "unused_0.5.png");
+    Files.write(used.toPath(), new byte[] {1});
+    Files.write(unused.toPath(), new byte[] {1});
+    final long oldest = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(TilePyramid.UNUSED_TILE_DAYS);
+    unused.setLastModified(oldest - TimeUnit.DAYS.toMillis(1));
+    try {
+      TilePyramid.deleteUnusedDiskTiles(cacheFolder, oldest);
+      assertTrue(used.isFile());
+      assertFalse(unused.exists());
+    } finally {
+      used.delete();
+      folder.delete();
+      cacheFolder.delete();
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package games.strategy.triplea.image;
+
+import static org.junit.Assert.assertEquals;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+public class UnitImageFactoryTest {
+  private static BufferedImage newUnitImage(final int size) {
+    final BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+    final Graphics2D g = image.createGraphics();
+    g.setColor(Color.RED);
+    g.fillRect(0, 0, size, size);
+    g.dispose();
+    return image;
+  }
+
+  @Test
+  public void testScaledImageHasScaledSize() {
+    final BufferedImage scaled = UnitImageFactory.scale(newUnitImage(48), 0.75);
+    assertEquals(36, scaled.getWidth());
+    assertEquals(36, scaled.getHeight());
+  }
+
+  @Test
+  public void testLargeReductionKeepsColor() {
+    final BufferedImage scaled = UnitImageFactory.scale(newUnitImage(200), 0.1);
+    assertEquals(20, scaled.getWidth());
+    assertEquals(Color.RED.getRGB(), scaled.getRGB(10, 10));
+  }
+
+  @Test
+  public void testScaledImageIsNeverEmpty() {
+    final BufferedImage scaled = UnitImageFactory.scale(newUnitImage(4), 0.1);
+    assertEquals(1, scaled.getWidth());
+    assertEquals(1, scaled.getHeight());
+  }
+}
@@ -0,0 +1,59 @@
+package games.strategy.triplea.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import games.strategy.engine.data.Territory;
+
+public class TerritoryUpdateSchedulerTest {
+  private final Territory germany = new Territory("Germany", null);
+  private final Territory france = new Territory("France", null);
+  private final List<Set<Territory>> updates = new ArrayList<>();
+  private final List<Set<Territory>> ownerUpdates = new ArrayList<>();
+
+  @Test
+  public void testTerritoriesAreUpdatedOncePerBatch() {
+    // a long delay, the test flushes itself
+    final TerritoryUpdateScheduler scheduler = new TerritoryUpdateScheduler(60000, (territories, ownerChanged) -> {
+      updates.add(new HashSet<>(territories));
+      ownerUpdates.add(new HashSet<>(ownerChanged));
+    });
+    scheduler.invalidate(germany, false);
+    scheduler.invalidate(france, false);
+    scheduler.invalidate(germany, true);
+    scheduler.invalidate(germany, false);
+    scheduler.flush();
+    assertEquals(Arrays.asList(new HashSet<>(Arrays.asList(germany, france))), updates);
+    assertEquals(Arrays.asList(new HashSet<>(Arrays.asList(germany))), ownerUpdates);
+    assertEquals(4, scheduler.getInvalidationCount());
+    assertEquals(2, scheduler.getUpdateCount());
+    assertEquals(1, scheduler.getBatchCount());
+    // nothing left to update
+    scheduler.flush();
+    assertEquals(1, updates.size());
+    scheduler.invalidate(france, false);
+    scheduler.flush();
+    assertEquals(new HashSet<>(Arrays.asList(france)), updates.get(1));
+    assertTrue(ownerUpdates.get(1).isEmpty());
+    assertEquals(2, scheduler.getBatchCount());
+  }
+
+  @Test
+  public void testBatchIsUpdatedAfterDelay() throws Exception {
+    final CountDownLatch updated = new CountDownLatch(1);
+    final TerritoryUpdateScheduler scheduler =
+        new TerritoryUpdateScheduler(1, (territories, ownerChanged) -> updated.countDown());
+    scheduler.invalidate(germany, false);
+    assertTrue(updated.await(10, TimeUnit.SECONDS));
+  }
+}
@@ -0,0 +1,81 @@
+package games.strategy.triplea.ui.mapdata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.awt.Polygon;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import games.strategy.ui.Util;
+
+public class TerritoryPolygonIndexTest {
+
+  @Test
+  public void testLandIsPickedOverSurroundingSea() {
+    final Map<String, List<Polygon>> polygons = new HashMap<>();
+    polygons.put("Sea Zone 1", Collections.singletonList(square(0, 0, 1000)));
+    polygons.put("Island", Collections.singletonList(square(400, 400, 100)));
+    final TerritoryPolygonIndex index = new TerritoryPolygonIndex(polygons);
+    assertEquals("Island", index.getTerritoryAt(450, 450));
+    assertEquals("Sea Zone 1", index.getTerritoryAt(100, 900));
+    assertNull(index.getTerritoryAt(2000, 50));
+    assertNull(index.getTerritoryAt(-5, 50));
+  }
+
+  @Test
+  public void testMatchesScanOverAllPolygons() {
+    final Random random = new Random(3);
+    final Map<String, List<Polygon>> polygons = new HashMap<>();
+    for (int i = 0; i < 300; i++) {
+      final String name = (random.nextInt(3) == 0 ? "Sea Zone " : "Land ") + i;
+      polygons.put(name, Arrays.asList(randomPolygon(random), randomPolygon(random)));
+    }
+    final TerritoryPolygonIndex index = new TerritoryPolygonIndex(polygons);
+    for (int i = 0; i < 20000; i++) {
+      final double x = random.nextDouble() * 9000 - 200;
+      final double y = random.nextDouble() * 5000 - 200;
+      assertEquals(x + "," + y, scan(polygons, x, y), index.getTerritoryAt(x, y));
+    }
+  }
+
+  /**
+   * The scan over every polygon that the index replaces.
+   */
+  private static String scan(final Map<String, List<Polygon>> polygons, final double x, final double y) {
+    String seaName = null;
+    for (final Map.Entry<String, List<Polygon>> territory : polygons.entrySet()) {
+      for (final Polygon polygon : territory.getValue()) {
+        if (polygon.contains(x, y)) {
+          if (Util.isTerritoryNameIndicatingWater(territory.getKey())) {
+            seaName = territory.getKey();
+          } else {
+            return territory.getKey();
+          }
+        }
+      }
+    }
+    return seaName;
+  }
+
+  private static Polygon randomPolygon(final Random random) {
+    final int x = random.nextInt(8500);
+    final int y = random.nextInt(4500);
+    final int size = 20 + random.nextInt(400);
+    final Polygon polygon = new Polygon();
+    for (int i = 0; i < 7; i++) {
+      polygon.addPoint(x + random.nextInt(size), y + random.nextInt(size));
+    }
+    return polygon;
+  }
+
+  private static Polygon square(final int x, final int y, final int size) {
+    return new Polygon(new int[] {x, x + size, x + size, x}, new int[] {y, y, y + size, y + size}, 4);
+  }
+}
@@ -0,0 +1,73 @@
+package games.strategy.triplea.ui.screen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class TileGridTest {
+  private static final int TILE_SIZE = 256;
+  private static final Dimension MAP_SIZE = new Dimension(3000, 1700);
+
+  private final TileGrid grid = new TileGrid(MAP_SIZE, TILE_SIZE,
+      bounds -> new Tile(bounds, bounds.x / TILE_SIZE, bounds.y / TILE_SIZE, 1, null));
+
+  @Test
+  public void testGridCoversMap() {
+    assertEquals(12 * 7, grid.getAllTiles().size());
+  }
+
+  @Test
+  public void testTileEdgesAreExclusive() {
+    final List<Tile> tiles = grid.getTiles(new Rectangle(256, 256, 256, 256), MAP_SIZE, false, false);
+    assertEquals(1, tiles.size());
+    assertEquals(new Rectangle(256, 256, 256, 256), tiles.get(0).getBounds());
+    assertTrue(grid.getTiles(new Rectangle(10, 10, 0, 50), MAP_SIZE, false, false).isEmpty());
+  }
+
+  @Test
+  public void testMatchesIntersectionScan() {
+    final Random random = new Random(11);
+    for (int i = 0; i < 2000; i++) {
+      final Rectangle2D bounds = new Rectangle2D.Double(random.nextInt(4000) - 500, random.nextInt(2500) - 400,
+          random.nextInt(1500) + random.nextDouble(), random.nextInt(1000) + random.nextDouble());
+      final boolean wrapX = random.nextBoolean();
+      final boolean wrapY = random.nextBoolean();
+      assertEquals(bounds.toString(), scan(bounds, wrapX, wrapY), grid.getTiles(bounds, MAP_SIZE, wrapX, wrapY));
+    }
+  }
+
+  /**
+   * The linear scan over every tile that the grid replaces.
+   */
+  private List<Tile> scan(final Rectangle2D bounds, final boolean wrapX, final boolean wrapY) {
+    final List<Tile> tiles = new ArrayList<>();
+    scan(bounds, tiles);
+    if (wrapX && (bounds.getMaxX() > MAP_SIZE.width || bounds.getMinX() < 0)) {
+      final int shift = bounds.getMinX() < 0 ? MAP_SIZE.width : -MAP_SIZE.width;
+      scan(new Rectangle((int) bounds.getMinX() + shift, (int) bounds.getMinY(), (int) bounds.getWidth(),
+          (int) bounds.getHeight()), tiles);
+    }
+    if (wrapY && (bounds.getMaxY() > MAP_SIZE.height || bounds.getMinY() < 0)) {
+      final int shift = bounds.getMinY() < 0 ? MAP_SIZE.height : -MAP_SIZE.height;
+      scan(new Rectangle((int) bounds.getMinX(), (int) bounds.getMinY() + shift, (int) bounds.getWidth(),
+          (int) bounds.getHeight()), tiles);
+    }
+    return tiles;
+  }
+
+  private void scan(final Rectangle2D bounds, final List<Tile> tiles) {
+    for (final Tile tile : grid.getAllTiles()) {
+      if (bounds.contains(tile.getBounds()) || tile.getBounds().intersects(bounds)) {
+        tiles.add(tile);
+      }
+    }
+  }
+}
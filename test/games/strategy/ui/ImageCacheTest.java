@@ -0,0 +1,73 @@
+package games.strategy.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class ImageCacheTest {
+  // 100 x 100 pixels at 4 bytes a pixel
+  private static final long IMAGE_BYTES = 40000;
+
+  private static BufferedImage newImage() {
+    return new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+  }
+
+  @Test
+  public void testSizeOfImage() {
+    assertEquals(IMAGE_BYTES, ImageCache.getSizeInBytes(newImage()));
+    assertEquals(30000, ImageCache.getSizeInBytes(new BufferedImage(100, 100, BufferedImage.TYPE_3BYTE_BGR)));
+  }
+
+  @Test
+  public void testLeastRecentlyUsedIsEvicted() {
+    final ImageCache<String> cache = new ImageCache<>("test", 3 * IMAGE_BYTES);
+    final BufferedImage a = newImage();
+    cache.put("a", a);
+    cache.put("b", newImage());
+    cache.put("c", newImage());
+    assertSame(a, cache.get("a"));
+    cache.put("d", newImage());
+    assertNotNull(cache.peek("a"));
+    assertNull(cache.peek("b"));
+    assertEquals(3, cache.size());
+    assertEquals(3 * IMAGE_BYTES, cache.getSizeInBytes());
+    assertEquals(1, cache.getEvictions());
+  }
+
+  @Test
+  public void testImagesInUseAreEvictedLast() {
+    final ImageCache<String> cache = new ImageCache<>("test", 2 * IMAGE_BYTES);
+    cache.put("a", newImage());
+    cache.put("b", newImage());
+    cache.setInUse(Collections.singleton("a"));
+    cache.put("c", newImage());
+    assertNotNull(cache.peek("a"));
+    assertNull(cache.peek("b"));
+    cache.setInUse(Arrays.asList("a", "c"));
+    cache.put("d", newImage());
+    // only images in use are left to evict, the least recently used goes first
+    assertNull(cache.peek("a"));
+    assertNotNull(cache.peek("c"));
+    assertNotNull(cache.peek("d"));
+  }
+
+  @Test
+  public void testCounters() {
+    final ImageCache<String> cache = new ImageCache<>("test", 10 * IMAGE_BYTES);
+    cache.put("a", newImage());
+    cache.get("a");
+    cache.get("b");
+    cache.peek("b");
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+    cache.remove("a");
+    assertEquals(0, cache.getSizeInBytes());
+  }
+}
@@ -1,8 +1,21 @@
 package games.strategy.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
 import org.junit.Test;
 
 public class IntegerMapTest {
@@ -66,4 +79,127 @@ public class IntegerMapTest {
     map1.add(v3, 3);
     assertTrue(map1.greaterThanOrEqualTo(map2));
   }
+
+  @Test
+  public void testMatchesHashMap() {
+    final IntegerMap<Integer> map = new IntegerMap<>();
+    final Map<Integer, Integer> expected = new HashMap<>();
+    final Random random = new Random(42);
+    for (int i = 0; i < 20000; i++) {
+      // multiples of 64 all land in the same slots until the table grows
+      final Integer key = random.nextInt(200) * 64;
+      switch (random.nextInt(4)) {
+        case 0:
+          map.removeKey(key);
+          expected.remove(key);
+          break;
+        case 1:
+          map.put(key, i);
+          expected.put(key, i);
+          break;
+        default:
+          map.add(key, 3);
+          expected.merge(key, 3, Integer::sum);
+          break;
+      }
+    }
+    assertEquals(expected.size(), map.size());
+    assertEquals(expected.keySet(), map.keySet());
+    assertEquals(expected.hashCode(), map.hashCode());
+    for (final Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+      assertEquals((int) entry.getValue(), map.getInt(entry.getKey()));
+    }
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertEquals(0, map.getInt(64));
+  }
+
+  @Test
+  public void testNullKey() {
+    final IntegerMap<Object> map = new IntegerMap<>();
+    map.add(null, 2);
+    map.add(v1, 1);
+    assertEquals(2, map.getInt(null));
+    assertTrue(map.keySet().contains(null));
+    map.removeKey(null);
+    assertFalse(map.containsKey(null));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  public void testViews() {
+    final IntegerMap<Object> map = new IntegerMap<>();
+    map.put(v1, 1);
+    map.put(v2, 2);
+    map.put(v3, 3);
+    assertEquals(6, map.values().stream().mapToInt(Integer::intValue).sum());
+    for (final Map.Entry<Object, Integer> entry : map.entrySet()) {
+      entry.setValue(entry.getValue() * 10);
+    }
+    assertEquals(20, map.getInt(v2));
+    for (final Iterator<Object> it = map.keySet().iterator(); it.hasNext();) {
+      if (it.next() == v2) {
+        it.remove();
+      }
+    }
+    assertFalse(map.containsKey(v2));
+    assertEquals(2, map.keySet().size());
+    assertEquals(v3, map.highestKey());
+    assertEquals(v1, map.lowestKey());
+    assertEquals(40, map.totalValues());
+  }
+
+  @Test
+  public void testEmpty() {
+    final IntegerMap<Object> map = new IntegerMap<>(0);
+    assertNull(map.highestKey());
+    assertEquals(0, map.lowestValue());
+    assertFalse(map.allValuesAreSame());
+    assertEquals(new IntegerMap<>(), map);
+    map.add(v1, 1);
+    assertEquals(1, map.getInt(v1));
+  }
+
+  @Test
+  public void testMultiplyAndAddSelf() {
+    final IntegerMap<Object> map = new IntegerMap<>();
+    map.put(v1, 3);
+    map.put(v2, 5);
+    map.multiplyAllValuesBy(0.5, 1);
+    assertEquals(1, map.getInt(v1));
+    assertEquals(2, map.getInt(v2));
+    map.add(map);
+    assertEquals(2, map.getInt(v1));
+    assertEquals(4, map.getInt(v2));
+  }
+
+  @Test
+  public void testSerialization() throws Exception {
+    final IntegerMap<String> map = new IntegerMap<>();
+    map.put("a", 1);
+    map.put("b", -2);
+    map.put(null, 3);
+    map.removeKey("a");
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(map);
+    }
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      @SuppressWarnings("unchecked")
+      final IntegerMap<String> read = (IntegerMap<String>) in.readObject();
+      assertEquals(map, read);
+      read.add("c", 4);
+      assertEquals(4, read.getInt("c"));
+    }
+  }
+
+  @Test
+  public void testSerializedFormIsTheOldHashMapField() {
+    final ObjectStreamClass streamClass = ObjectStreamClass.lookup(IntegerMap.class);
+    assertEquals(6856531659284300930L, streamClass.getSerialVersionUID());
+    final ObjectStreamField[] fields = streamClass.getFields();
+    assertEquals(1, fields.length);
+    assertEquals("mapValues", fields[0].getName());
+    assertEquals(HashMap.class, fields[0].getType());
+  }
 }
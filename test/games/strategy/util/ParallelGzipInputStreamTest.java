@@ -0,0 +1,31 @@
+package games.strategy.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import com.google.common.base.Throwables;
+
+public class ParallelGzipInputStreamTest {
+
+  @Test(timeout = 10000)
+  public void testRuntimeExceptionWhileInflatingFailsTheReader() throws IOException {
+    final IllegalStateException failure = new IllegalStateException("broken stream");
+    final InputStream broken = new InputStream() {
+      @Override
+      public int read() {
+        throw failure;
+      }
+    };
+    try (InputStream in = new ParallelGzipInputStream(broken)) {
+      in.read();
+    } catch (final IOException e) {
+      assertEquals(failure, Throwables.getRootCause(e));
+      return;
+    }
+    throw new AssertionError("Expected an IOException");
+  }
+}
@@ -0,0 +1,101 @@
+package games.strategy.util;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+public class ParallelGzipOutputStreamTest {
+
+  @Test
+  public void testEmptyStream() throws IOException {
+    assertRoundTrip(new byte[0], ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE);
+  }
+
+  @Test
+  public void testSingleBlock() throws IOException {
+    assertRoundTrip(compressibleBytes(1000), ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE);
+  }
+
+  @Test
+  public void testManyBlocks() throws IOException {
+    assertRoundTrip(compressibleBytes(1000000), 64 * 1024);
+  }
+
+  @Test
+  public void testBlocksSmallerThanDictionary() throws IOException {
+    assertRoundTrip(compressibleBytes(200000), 1000);
+  }
+
+  @Test
+  public void testIncompressibleData() throws IOException {
+    final byte[] bytes = new byte[300000];
+    new Random(42).nextBytes(bytes);
+    assertRoundTrip(bytes, 64 * 1024);
+  }
+
+  @Test
+  public void testSingleByteWrites() throws IOException {
+    final byte[] bytes = compressibleBytes(100000);
+    final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+    try (OutputStream out = new ParallelGzipOutputStream(sink, ForkJoinPool.commonPool(), 4096)) {
+      for (final byte b : bytes) {
+        out.write(b);
+      }
+    }
+    assertArrayEquals(bytes, readFully(new GZIPInputStream(new ByteArrayInputStream(sink.toByteArray()))));
+  }
+
+  @Test(expected = EOFException.class)
+  public void testAbortedStreamIsTruncated() throws IOException {
+    final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+    try (ParallelGzipOutputStream out = new ParallelGzipOutputStream(sink, ForkJoinPool.commonPool(), 1000)) {
+      out.write(compressibleBytes(10000));
+      out.abort();
+    }
+    readFully(new GZIPInputStream(new ByteArrayInputStream(sink.toByteArray())));
+  }
+
+  private static void assertRoundTrip(final byte[] bytes, final int blockSize) throws IOException {
+    final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+    try (OutputStream out = new ParallelGzipOutputStream(sink, ForkJoinPool.commonPool(), blockSize)) {
+      // write in odd sized pieces so writes straddle block boundaries
+      for (int i = 0; i < bytes.length; i += 7777) {
+        out.write(bytes, i, Math.min(7777, bytes.length - i));
+      }
+    }
+    final byte[] compressed = sink.toByteArray();
+    assertArrayEquals(bytes, readFully(new GZIPInputStream(new ByteArrayInputStream(compressed))));
+    assertArrayEquals(bytes, readFully(new ParallelGzipInputStream(new ByteArrayInputStream(compressed))));
+  }
+
+  private static byte[] compressibleBytes(final int length) {
+    final Random random = new Random(7);
+    final byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) ('a' + random.nextInt(4) + (i / 5000) % 3);
+    }
+    return bytes;
+  }
+
+  private static byte[] readFully(final InputStream in) throws IOException {
+    try (InputStream input = in) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[5000];
+      int count;
+      while ((count = input.read(buffer)) != -1) {
+        out.write(buffer, 0, count);
+      }
+      return out.toByteArray();
+    }
+  }
+}
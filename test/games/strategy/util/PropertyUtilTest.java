@@ -32,6 +32,32 @@ public class PropertyUtilTest {
     assertThat(PropertyUtil.getPropertyFieldObject("unitPresence", testClass), is(unitPresence));
   }
 
+  @Test
+  public void testSetWithTypedValueAndReset() {
+    final RulesAttachment testClass = new RulesAttachment("test", null, null);
+    PropertyUtil.set("uses", 5, testClass);
+    assertThat(testClass.getUses(), is(5));
+    PropertyUtil.reset("uses", testClass);
+    assertThat(testClass.getUses(), is(-1));
+    PropertyUtil.set("uses", "2", testClass, true);
+    assertThat(testClass.getUses(), is(2));
+  }
+
+  @Test
+  public void testAccessorsAreSharedPerClass() {
+    assertThat(PropertyAccessors.forClass(RulesAttachment.class) == PropertyAccessors.forClass(RulesAttachment.class),
+        is(true));
+    assertThat(PropertyAccessors.forClass(RulesAttachment.class).getExactSetter("uses", String.class) != null,
+        is(true));
+    assertThat(PropertyAccessors.forClass(RulesAttachment.class).getExactSetter("noSuchOption", String.class) == null,
+        is(true));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testErrorCaseWithNoResetterMethod() {
+    PropertyUtil.reset(BAR, new PropertyClass());
+  }
+
   private static final String NEW_VALUE = "newValue";
   private static final String BAR = "bar";
   protected static final String DEFAULT = "default";
@@ -76,6 +102,16 @@ public class PropertyUtilTest {
         testClass.bar, is("default"));
   }
 
+  @Test(expected = IllegalStateException.class)
+  public void testCheckedExceptionFromSetterIsWrapped() {
+    PropertyUtil.set(BAR, NEW_VALUE, new ThrowingSetterClass());
+  }
+
+  @Test(expected = StackOverflowError.class)
+  public void testErrorFromSetterIsNotWrapped() {
+    PropertyUtil.set(BAR, NEW_VALUE, new ErrorSetterClass());
+  }
+
 
 }
 
@@ -101,6 +137,24 @@ class NoOpSetterClass {
 }
 
 
+class ThrowingSetterClass {
+  protected String bar = PropertyUtilTest.DEFAULT;
+
+  public void setBar(final String value) throws Exception {
+    throw new Exception("invalid value: " + value);
+  }
+}
+
+
+class ErrorSetterClass {
+  protected String bar = PropertyUtilTest.DEFAULT;
+
+  public void setBar(final String value) {
+    throw new StackOverflowError();
+  }
+}
+
+
 class PropertyClass {
   protected String bar = PropertyUtilTest.DEFAULT;
 